@@ -9,6 +9,7 @@ open module org.cloudfoundry.multiapps.controller.api {
     requires transitive java.servlet;
     requires transitive org.cloudfoundry.multiapps.mta;
     requires transitive spring.web;
+    requires transitive spring.webmvc;
 
     requires org.cloudfoundry.multiapps.common;
 
@@ -36,6 +36,14 @@ public class Constants {
         public static final String STATE = "state";
     }
 
+    public static class RequestHeaders {
+
+        private RequestHeaders() {
+        }
+
+        public static final String LAST_EVENT_ID = "Last-Event-ID";
+    }
+
     public static class Resources {
 
         private Resources() {
@@ -65,6 +73,7 @@ public class Constants {
         public static final String OPERATION_LOGS = OPERATION + "/logs";
         public static final String OPERATION_LOG_CONTENT = OPERATION_LOGS + "/{" + PathVariables.LOG_ID + "}/content";
         public static final String OPERATION_ACTIONS = OPERATION + "/actions";
+        public static final String OPERATION_EVENTS = OPERATION + "/events";
 
     }
 
@@ -7,6 +7,7 @@ import javax.servlet.http.HttpServletRequest;
 import org.cloudfoundry.multiapps.controller.api.model.Log;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface OperationsApiService {
 
@@ -18,6 +19,8 @@ public interface OperationsApiService {
 
     ResponseEntity<Operation> getOperation(String spaceGuid, String operationId, String embed);
 
+    SseEmitter getOperationEvents(String spaceGuid, String operationId, Long lastEventId);
+
     ResponseEntity<List<Log>> getOperationLogs(String spaceGuid, String operationId);
 
     ResponseEntity<String> getOperationLogContent(String spaceGuid, String operationId, String logId);
@@ -34,7 +34,7 @@ public abstract class Operation implements AuditableConfiguration {
     @XmlEnum(State.class)
     public enum State {
 
-        RUNNING, FINISHED, ERROR, ABORTED, ACTION_REQUIRED;
+        RUNNING, FINISHED, ERROR, ABORTED, ACTION_REQUIRED, QUEUED;
 
         public static State fromValue(String v) {
             for (State b : State.values()) {
@@ -47,7 +47,7 @@ public abstract class Operation implements AuditableConfiguration {
         }
 
         public static List<State> getNonFinalStates() {
-            return Arrays.asList(RUNNING, ERROR, ACTION_REQUIRED);
+            return Arrays.asList(RUNNING, ERROR, ACTION_REQUIRED, QUEUED);
         }
 
         public static List<State> getFinalStates() {
@@ -96,6 +96,9 @@ public abstract class Operation implements AuditableConfiguration {
     @Nullable
     public abstract ErrorType getErrorType();
 
+    @Nullable
+    public abstract Integer getQueuePosition();
+
     public abstract List<Message> getMessages();
 
     @AllowNulls
@@ -9,6 +9,7 @@ import org.cloudfoundry.multiapps.controller.api.OperationsApiService;
 import org.cloudfoundry.multiapps.controller.api.Constants.Endpoints;
 import org.cloudfoundry.multiapps.controller.api.Constants.PathVariables;
 import org.cloudfoundry.multiapps.controller.api.Constants.QueryVariables;
+import org.cloudfoundry.multiapps.controller.api.Constants.RequestHeaders;
 import org.cloudfoundry.multiapps.controller.api.Constants.RequestVariables;
 import org.cloudfoundry.multiapps.controller.api.Constants.Resources;
 import org.cloudfoundry.multiapps.controller.api.model.Log;
@@ -19,9 +20,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -63,6 +66,19 @@ public class OperationsApi {
         return delegate.getOperation(spaceGuid, operationId, embed);
     }
 
+    @GetMapping(path = Endpoints.OPERATION_EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiOperation(value = "", nickname = "getMtaOperationEvents", notes = "Streams the progress messages and state changes of Multi-Target Application operation ", response = String.class, authorizations = {
+        @Authorization(value = "oauth2", scopes = {
+
+        }) }, tags = {})
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "OK", response = String.class) })
+    public SseEmitter
+           getOperationEvents(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
+                              @PathVariable(PathVariables.OPERATION_ID) String operationId,
+                              @ApiParam(value = "Resumes the stream after the message with the specified ID ") @RequestHeader(name = RequestHeaders.LAST_EVENT_ID, required = false) Long lastEventId) {
+        return delegate.getOperationEvents(spaceGuid, operationId, lastEventId);
+    }
+
     @GetMapping(path = Endpoints.OPERATION_LOGS, produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_JSON_UTF8_VALUE })
     @ApiOperation(value = "", nickname = "getMtaOperationLogs", notes = "Retrieves the logs Multi-Target Application operation ", response = Log.class, responseContainer = "List", authorizations = {
         @Authorization(value = "oauth2", scopes = {
@@ -0,0 +1,48 @@
+package org.cloudfoundry.multiapps.controller.core.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+
+/**
+ * Mocks a batch query, which has an {@code add(UnaryOperator<Q>)} method and a {@code list()} method. The mock runs each added query on
+ * its own, so tests can stub single queries and still cover code that batches them.
+ */
+public class BatchQueryMock<Q, R> {
+
+    private final Q query;
+    private final Function<Q, R> queryRunner;
+    private final List<Q> queries = new ArrayList<>();
+
+    private BatchQueryMock(Q query, Function<Q, R> queryRunner) {
+        this.query = query;
+        this.queryRunner = queryRunner;
+    }
+
+    /**
+     * @param query the query, to which the query builders of the batch are applied
+     * @param queryRunner runs a single query, e.g. by calling its {@code list()} method
+     */
+    public static <B, Q, R> B create(Class<B> batchQueryClass, Q query, Function<Q, R> queryRunner) {
+        BatchQueryMock<Q, R> batchQueryMock = new BatchQueryMock<>(query, queryRunner);
+        return Mockito.mock(batchQueryClass, batchQueryMock::answer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object answer(InvocationOnMock invocation) {
+        Object[] arguments = invocation.getArguments();
+        if (arguments.length == 1 && arguments[0] instanceof UnaryOperator) {
+            queries.add(((UnaryOperator<Q>) arguments[0]).apply(query));
+            return invocation.getMock();
+        }
+        return queries.stream()
+                      .map(queryRunner)
+                      .collect(Collectors.toList());
+    }
+
+}
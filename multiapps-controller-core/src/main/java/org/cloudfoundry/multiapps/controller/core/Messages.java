@@ -85,6 +85,8 @@ public final class Messages {
     public static final String DELETING_TEMP_FILE = "Deleting temp file: {0}";
     public static final String ERROR_DELETING_APP_TEMP_FILE = "Error deleting temp application file \"{0}\"";
     public static final String ERROR_WHILE_EXECUTING_TRANSACTION = "Error while executing database transaction \"{0}\"";
+    public static final String VIRTUAL_THREADS_ARE_NOT_SUPPORTED = "Virtual threads are not supported by this JVM";
+    public static final String ERROR_CREATING_VIRTUAL_THREAD_EXECUTOR = "Error creating virtual thread executor: {0}";
 
     // Warning messages
     public static final String ENVIRONMENT_VARIABLE_IS_NOT_SET_USING_DEFAULT = "Environment variable \"{0}\" is not set. Using default \"{1}\"...";
@@ -100,6 +102,10 @@ public final class Messages {
     public static final String DEPLOY_SERVICE_URL_NOT_SPECIFIED = "Deploy service URL is not specified in the environment.";
     public static final String INVALID_SUPPORT_COMPONENTS = "Invalid SUPPORT_COMPONENTS \"{0}\"";
     public static final String INCOMPATIBLE_PARAMETERS = "Module \"{0}\" has parameters {1} that will be replaced by \"{2}\" due to inconsistency";
+    public static final String UNSUPPORTED_FLOWABLE_HISTORY_LEVEL = "Unsupported Flowable history level \"{0}\". Using \"{1}\"...";
+    public static final String UNSUPPORTED_PROCESS_VARIABLE_FORMAT = "Unsupported process variable format \"{0}\". Using \"{1}\"...";
+    public static final String VIRTUAL_THREADS_ARE_NOT_SUPPORTED_USING_PLATFORM_THREADS = "Virtual threads are enabled, but not supported by this JVM. Using platform threads...";
+    public static final String PROGRESS_MESSAGE_LISTENER_FAILED = "Progress message listener failed to process message with ID \"{0}\"";
 
     // Info messages
     public static final String PLATFORMS_NOT_SPECIFIED = "No platforms are specified in the environment.";
@@ -119,6 +125,9 @@ public final class Messages {
     public static final String MAX_RESOURCE_FILE_SIZE = "Max resource file size is set to: {0}";
     public static final String CRON_EXPRESSION_FOR_OLD_DATA = "Cron expression for old data: {0}";
     public static final String MAX_TTL_FOR_OLD_DATA = "Max TTL for old data: {0}";
+    public static final String CLEAN_UP_JOB_BATCH_SIZE = "Clean up job batch size: {0}";
+    public static final String CLEAN_UP_JOB_TIME_BUDGET_IN_MINUTES = "Clean up job time budget: {0} minutes";
+    public static final String CLEAN_UP_JOB_THREADS = "Clean up job threads: {0}";
     public static final String SPACE_GUID = "Space GUID: {0}";
     public static final String ORG_NAME = "Org name: {0}";
     public static final String BASIC_AUTH_ENABLED = "Basic authentication enabled: {0}";
@@ -126,6 +135,9 @@ public final class Messages {
     public static final String USE_XS_AUDIT_LOGGING = "Use XSA audit logging: {0}";
     public static final String DB_CONNECTION_THREADS = "Database connection thread pool size: {0}";
     public static final String STEP_POLLING_INTERVAL_IN_SECONDS = "Step polling interval in seconds: {0}";
+    public static final String MAX_STEP_POLLING_INTERVAL_IN_SECONDS = "Max step polling interval in seconds: {0}";
+    public static final String SERVICE_POLLING_THREADS = "Service polling threads: {0}";
+    public static final String MAX_PARALLEL_MODULE_DEPLOYMENTS = "Max parallel module deployments: {0}";
     public static final String SKIP_SSL_VALIDATION = "Skip SSL validation: {0}";
     public static final String DS_VERSION = "Deploy service version: {0}";
     public static final String CHANGE_LOG_LOCK_POLL_RATE = "Change log lock poll rate: {0}";
@@ -142,6 +154,16 @@ public final class Messages {
     public static final String FLOWABLE_JOB_EXECUTOR_CORE_THREADS = "Flowable job executor core threads: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_MAX_THREADS = "Flowable job executor max threads: {0}";
     public static final String FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY = "Flowable job executor queue capacity: {0}";
+    public static final String FLOWABLE_JOB_EXECUTOR_AUTO_SCALING = "Flowable job executor auto scaling: {0}";
+    public static final String USE_VIRTUAL_THREADS = "Use virtual threads: {0}";
+    public static final String FLOWABLE_JOB_EXECUTOR_MAX_SPACE_SHARE = "Flowable job executor max space share: {0}%";
+    public static final String MAX_ACTIVE_OPERATIONS = "Max active operations: {0}";
+    public static final String MAX_ACTIVE_OPERATIONS_PER_SPACE = "Max active operations per space: {0}";
+    public static final String FLOWABLE_HISTORY_LEVEL = "Flowable history level: {0}";
+    public static final String FLOWABLE_STARTUP_FAST_PATH_ENABLED = "Flowable startup fast path enabled: {0}";
+    public static final String PROCESS_VARIABLE_FORMAT = "Process variable format: {0}";
+    public static final String PROCESS_VARIABLE_COMPRESSION = "Process variable compression: {0}";
+    public static final String SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES = "Shared process variable threshold in bytes: {0}";
 
     public static final String AUDIT_LOG_ABOUT_TO_PERFORM_ACTION = "About to perform action \"{0}\"";
     public static final String AUDIT_LOG_ABOUT_TO_PERFORM_ACTION_WITH_PARAMS = "About to perform action \"{0}\" with parameters \"{1}\"";
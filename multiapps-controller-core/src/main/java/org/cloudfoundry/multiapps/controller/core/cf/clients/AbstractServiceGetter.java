@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.core.cf.clients;
 
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -10,8 +11,10 @@ import java.util.Set;
 import javax.inject.Inject;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.cloudfoundry.client.lib.CloudControllerClient;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.core.Constants;
 import org.cloudfoundry.multiapps.controller.core.Messages;
 import org.springframework.util.Assert;
 
@@ -19,6 +22,9 @@ public abstract class AbstractServiceGetter extends CustomControllerClient {
 
     private static final String V2_USER_PROVIDED_SERVICE_INSTANCES_RESOURCE_PATH = "/v2/user_provided_service_instances?";
     private static final String V2_SERVICE_INSTANCES_RESOURCE_PATH = "/v2/service_instances?";
+    private static final String NAMES_QUERY = "name IN {names}";
+    private static final String NAMES_SEPARATOR = ",";
+    private static final int MAX_NAMES_PER_REQUEST = 50;
 
     @Inject
     public AbstractServiceGetter(RestTemplateFactory restTemplateFactory) {
@@ -33,6 +39,39 @@ public abstract class AbstractServiceGetter extends CustomControllerClient {
         return serviceInstance != null ? (Map<String, Object>) serviceInstance.get(getEntityName()) : Collections.emptyMap();
     }
 
+    /**
+     * Returns the entities of the service instances with the given names, which exist in the given space. The instances are listed with
+     * a filter on their names, so that a single request is made for up to {@value #MAX_NAMES_PER_REQUEST} of them.
+     * 
+     * @return the entities of the found service instances, mapped to their names
+     */
+    public Map<String, Map<String, Object>> getServiceInstanceEntities(CloudControllerClient client, Collection<String> serviceNames,
+                                                                       String spaceId) {
+        Map<String, Map<String, Object>> serviceInstances = new HashMap<>();
+        for (List<String> serviceNamesChunk : ListUtils.partition(List.copyOf(serviceNames), MAX_NAMES_PER_REQUEST)) {
+            serviceInstances.putAll(new CustomControllerClientErrorHandler().handleErrorsOrReturnResult(() -> attemptToGetServiceInstances(client,
+                                                                                                                                         serviceNamesChunk,
+                                                                                                                                         spaceId)));
+        }
+        return serviceInstances;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Map<String, Object>> attemptToGetServiceInstances(CloudControllerClient client, List<String> serviceNames,
+                                                                          String spaceId) {
+        Map<String, Object> queryParameters = Map.of("space_guid", spaceId, "names", String.join(NAMES_SEPARATOR, serviceNames));
+        String serviceInstancesPath = getServiceInstanceURL(Set.of("space_guid")) + Constants.V2_QUERY_SEPARATOR + NAMES_QUERY;
+        List<Map<String, Object>> resources = getAllResources(getRestTemplate(client), client.getCloudControllerUrl()
+                                                                                             .toString(),
+                                                              serviceInstancesPath, queryParameters);
+        Map<String, Map<String, Object>> serviceInstances = new HashMap<>();
+        for (Map<String, Object> resource : resources) {
+            Map<String, Object> entity = (Map<String, Object>) resource.get(getEntityName());
+            serviceInstances.put((String) entity.get("name"), entity);
+        }
+        return serviceInstances;
+    }
+
     private Map<String, Object> attemptToGetServiceInstance(CloudControllerClient client, String serviceName, String spaceId) {
         Map<String, Object> queryParameters = buildQueryParameters(serviceName, spaceId);
         String serviceInstancesEndpoint = getUrl(client.getCloudControllerUrl()
@@ -0,0 +1,56 @@
+package org.cloudfoundry.multiapps.controller.core.cf.clients;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.apache.commons.collections4.ListUtils;
+import org.cloudfoundry.client.lib.CloudControllerClient;
+
+@Named
+public class ApplicationsGetter extends CustomControllerClient {
+
+    private static final String APPS_BY_NAMES_AND_SPACE_URL = "/v2/apps?q=name IN {names}&q=space_guid:{space_guid}";
+    private static final String NAMES_SEPARATOR = ",";
+    private static final int MAX_NAMES_PER_REQUEST = 50;
+
+    @Inject
+    public ApplicationsGetter(RestTemplateFactory restTemplateFactory) {
+        super(restTemplateFactory);
+    }
+
+    /**
+     * Returns the names of those of the given applications, which exist in the given space. The applications are listed with a filter on
+     * their names, so that a single request is made for up to {@value #MAX_NAMES_PER_REQUEST} of them.
+     */
+    public Set<String> getExistingApplicationNames(CloudControllerClient client, Collection<String> applicationNames, String spaceGuid) {
+        Set<String> existingApplicationNames = new HashSet<>();
+        for (List<String> applicationNamesChunk : ListUtils.partition(List.copyOf(applicationNames), MAX_NAMES_PER_REQUEST)) {
+            existingApplicationNames.addAll(new CustomControllerClientErrorHandler().handleErrorsOrReturnResult(() -> attemptToGetExistingApplicationNames(client,
+                                                                                                                                                       applicationNamesChunk,
+                                                                                                                                                       spaceGuid)));
+        }
+        return existingApplicationNames;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> attemptToGetExistingApplicationNames(CloudControllerClient client, List<String> applicationNames,
+                                                             String spaceGuid) {
+        Map<String, Object> queryParameters = Map.of("names", String.join(NAMES_SEPARATOR, applicationNames), "space_guid", spaceGuid);
+        List<Map<String, Object>> resources = getAllResources(getRestTemplate(client), client.getCloudControllerUrl()
+                                                                                             .toString(),
+                                                              APPS_BY_NAMES_AND_SPACE_URL, queryParameters);
+        Set<String> existingApplicationNames = new HashSet<>();
+        for (Map<String, Object> resource : resources) {
+            Map<String, Object> entity = (Map<String, Object>) resource.get("entity");
+            existingApplicationNames.add((String) entity.get("name"));
+        }
+        return existingApplicationNames;
+    }
+
+}
@@ -1,9 +1,12 @@
 package org.cloudfoundry.multiapps.controller.core.cf.clients;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -18,7 +21,11 @@ import org.springframework.web.client.RestTemplate;
 public class EventsGetter extends CustomControllerClient {
 
     private static final String GUID = "guid";
+    private static final String GUIDS = "guids";
+    private static final String TYPES = "types";
     private static final String EVENTS_URL = "/v2/events?q=actee:{guid}&order-by:timestamp&order-direction=desc";
+    private static final String EVENTS_BY_ACTEES_AND_TYPES_URL = "/v2/events?q=actee IN {guids}&q=type IN {types}";
+    private static final String LIST_SEPARATOR = ",";
 
     private static final String USER_PROVIDED_SERVICE_EVENT_TYPE_DELETE = "audit.user_provided_service_instance.delete";
     private static final String SERVICE_EVENT_TYPE_DELETE = "audit.service_instance.delete";
@@ -51,6 +58,33 @@ public class EventsGetter extends CustomControllerClient {
                         .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the GUIDs of those of the given service instances, for which a delete event exists. The events of all instances are listed
+     * with a single request.
+     */
+    public Set<UUID> getDeletedServiceInstanceGuids(Collection<UUID> uuids, CloudControllerClient client) {
+        Map<String, Object> queryParameters = new HashMap<>();
+        queryParameters.put(GUIDS, uuids.stream()
+                                        .map(UUID::toString)
+                                        .collect(Collectors.joining(LIST_SEPARATOR)));
+        queryParameters.put(TYPES, String.join(LIST_SEPARATOR, SERVICE_EVENT_TYPE_DELETE, USER_PROVIDED_SERVICE_EVENT_TYPE_DELETE));
+        String controllerUrl = client.getCloudControllerUrl()
+                                     .toString();
+
+        List<Map<String, Object>> resources = getAllResources(getRestTemplate(client), controllerUrl, EVENTS_BY_ACTEES_AND_TYPES_URL,
+                                                              queryParameters);
+
+        Set<UUID> deletedServiceInstanceGuids = new HashSet<>();
+        for (Map<String, Object> resource : resources) {
+            CloudEvent event = resourceMapper.mapEventResource(resource);
+            if (isDeleteEvent(event.getType())) {
+                deletedServiceInstanceGuids.add(event.getActee()
+                                                     .getGuid());
+            }
+        }
+        return deletedServiceInstanceGuids;
+    }
+
     public CloudEvent getLastEvent(UUID uuid, CloudControllerClient client) {
         List<CloudEvent> events = getEvents(uuid, client);
         return events.isEmpty() ? null : events.get(0);
@@ -1,6 +1,10 @@
 package org.cloudfoundry.multiapps.controller.core.cf.clients;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -30,4 +34,18 @@ public class ServiceGetter {
         return serviceInstance;
     }
 
+    public Map<String, Map<String, Object>> getServiceInstanceEntities(CloudControllerClient client, Collection<String> serviceNames,
+                                                                       String spaceId) {
+        Map<String, Map<String, Object>> serviceInstances = new HashMap<>(serviceInstanceGetter.getServiceInstanceEntities(client,
+                                                                                                                           serviceNames,
+                                                                                                                           spaceId));
+        List<String> missingServiceNames = serviceNames.stream()
+                                                       .filter(serviceName -> !serviceInstances.containsKey(serviceName))
+                                                       .collect(Collectors.toList());
+        if (!missingServiceNames.isEmpty()) {
+            serviceInstances.putAll(userProvidedServiceInstanceGetter.getServiceInstanceEntities(client, missingServiceNames, spaceId));
+        }
+        return serviceInstances;
+    }
+
 }
@@ -7,7 +7,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -57,6 +59,10 @@ public class ApplicationCloudModelBuilder {
 
     protected final ParametersChainBuilder parametersChainBuilder;
 
+    // The parameters chains and resources are looked up several times for each module, with a linear search through the descriptor:
+    private final Map<String, List<Map<String, Object>>> moduleParameters = new ConcurrentHashMap<>();
+    private final Map<String, Optional<Resource>> resources = new ConcurrentHashMap<>();
+
     public ApplicationCloudModelBuilder(DeploymentDescriptor deploymentDescriptor, boolean prettyPrinting, DeployedMta deployedMta,
                                         String deployId, String namespace, UserMessageLogger stepLogger) {
         CloudHandlerFactory handlerFactory = createCloudHandlerFactory();
@@ -85,10 +91,11 @@ public class ApplicationCloudModelBuilder {
     }
 
     protected CloudApplicationExtended getApplication(Module module) {
-        List<Map<String, Object>> parametersList = parametersChainBuilder.buildModuleChain(module.getName());
+        List<Map<String, Object>> parametersList = getModuleParameters(module);
         ApplicationUrisCloudModelBuilder urisCloudModelBuilder = getApplicationUrisCloudModelBuilder(parametersList);
         List<String> uris = getApplicationUris(module);
         List<String> idleUris = urisCloudModelBuilder.getIdleApplicationUris(module, parametersList);
+        List<String> applicationServices = getApplicationServices(module);
         return ImmutableCloudApplicationExtended.builder()
                                                 .name(NameUtil.getApplicationName(module))
                                                 .moduleName(module.getName())
@@ -103,7 +110,7 @@ public class ApplicationCloudModelBuilder {
                                                 .idleUris(idleUris)
                                                 .services(getAllApplicationServices(module))
                                                 .serviceKeysToInject(getServicesKeysToInject(module))
-                                                .env(applicationEnvCloudModelBuilder.build(module, getApplicationServices(module)))
+                                                .env(applicationEnvCloudModelBuilder.build(module, applicationServices))
                                                 .bindingParameters(getBindingParameters(module))
                                                 .tasks(getTasks(parametersList))
                                                 .domains(getApplicationDomains(parametersList, module))
@@ -111,7 +118,7 @@ public class ApplicationCloudModelBuilder {
                                                 .dockerInfo(parseParameters(parametersList, new DockerInfoParser()))
                                                 .attributesUpdateStrategy(getApplicationAttributesUpdateStrategy(parametersList))
                                                 .v3Metadata(ApplicationMetadataBuilder.build(deploymentDescriptor, namespace, module,
-                                                                                             getApplicationServices(module)))
+                                                                                             applicationServices))
                                                 .build();
     }
 
@@ -123,8 +130,15 @@ public class ApplicationCloudModelBuilder {
         return new ApplicationUrisCloudModelBuilder(deploymentDescriptor, getApplicationAttributesUpdateStrategy(parametersList));
     }
 
+    /**
+     * @return the parameters chain of the module, which is built once and must not be modified
+     */
+    public List<Map<String, Object>> getModuleParameters(Module module) {
+        return moduleParameters.computeIfAbsent(module.getName(), parametersChainBuilder::buildModuleChain);
+    }
+
     public List<String> getApplicationUris(Module module) {
-        List<Map<String, Object>> parametersList = parametersChainBuilder.buildModuleChain(module.getName());
+        List<Map<String, Object>> parametersList = getModuleParameters(module);
         DeployedMtaApplication deployedApplication = findDeployedApplication(module);
         return getApplicationUrisCloudModelBuilder(parametersList).getApplicationUris(module, parametersList, deployedApplication);
     }
@@ -260,12 +274,12 @@ public class ApplicationCloudModelBuilder {
     }
 
     public List<String> getApplicationDomains(List<Map<String, Object>> parametersList, Module module) {
-        return getApplicationUrisCloudModelBuilder(parametersList).getApplicationDomains(module,
-                                                                                         parametersChainBuilder.buildModuleChain(module.getName()));
+        return getApplicationUrisCloudModelBuilder(parametersList).getApplicationDomains(module, getModuleParameters(module));
     }
 
     protected Resource getResource(String dependencyName) {
-        return handler.findResource(deploymentDescriptor, dependencyName);
+        return resources.computeIfAbsent(dependencyName, name -> Optional.ofNullable(handler.findResource(deploymentDescriptor, name)))
+                        .orElse(null);
     }
 
     public DeploymentMode getDeploymentMode() {
@@ -0,0 +1,59 @@
+package org.cloudfoundry.multiapps.controller.core.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.mta.resolvers.PropertiesResolver;
+import org.cloudfoundry.multiapps.mta.resolvers.ProvidedValuesResolver;
+import org.cloudfoundry.multiapps.mta.resolvers.Reference;
+import org.cloudfoundry.multiapps.mta.resolvers.ReferencePattern;
+
+/**
+ * Resolves each reference only once, no matter how many times it appears in the properties, or in the values of other references. The
+ * detection of circular references is left to the {@link PropertiesResolver}, because it happens during the first resolution of every
+ * reference. A successfully resolved reference cannot be part of a cycle, so values that use the same reference more than once are no
+ * longer reported as circular.
+ */
+public class MemoizingPropertiesResolver extends PropertiesResolver {
+
+    private final Map<List<String>, Object> resolvedReferences = new HashMap<>();
+
+    public MemoizingPropertiesResolver(Map<String, Object> properties, ProvidedValuesResolver valuesResolver,
+                                       ReferencePattern referencePattern, String prefix, boolean isStrict) {
+        super(properties, valuesResolver, referencePattern, prefix, isStrict);
+    }
+
+    @Override
+    protected Object resolveReferenceInContext(String key, Reference reference) {
+        List<String> referenceId = Arrays.asList(reference.getDependencyName(), reference.getKey());
+        if (resolvedReferences.containsKey(referenceId)) {
+            return copy(resolvedReferences.get(referenceId));
+        }
+        Object resolvedReference = super.resolveReferenceInContext(key, reference);
+        resolvedReferences.put(referenceId, resolvedReference);
+        return copy(resolvedReference);
+    }
+
+    // The resolved values are placed in the descriptor, which may be modified later, so the places that refer to the same value must not
+    // share maps and lists. The copies keep the order of the properties:
+    @SuppressWarnings("unchecked")
+    private static Object copy(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> copiedMap = new LinkedHashMap<>();
+            ((Map<String, Object>) value).forEach((key, element) -> copiedMap.put(key, copy(element)));
+            return copiedMap;
+        }
+        if (value instanceof Collection) {
+            List<Object> copiedList = new ArrayList<>();
+            ((Collection<Object>) value).forEach(element -> copiedList.add(copy(element)));
+            return copiedList;
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,18 @@
+package org.cloudfoundry.multiapps.controller.core.helpers;
+
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.mta.resolvers.PropertiesResolver;
+import org.cloudfoundry.multiapps.mta.resolvers.ProvidedValuesResolver;
+import org.cloudfoundry.multiapps.mta.resolvers.ReferencePattern;
+import org.cloudfoundry.multiapps.mta.resolvers.ResolverBuilder;
+
+public class MemoizingResolverBuilder extends ResolverBuilder {
+
+    @Override
+    public PropertiesResolver build(Map<String, Object> properties, ProvidedValuesResolver valuesResolver, ReferencePattern referencePattern,
+                                    String prefix, Boolean isStrict) {
+        return new MemoizingPropertiesResolver(properties, valuesResolver, referencePattern, prefix, isStrict);
+    }
+
+}
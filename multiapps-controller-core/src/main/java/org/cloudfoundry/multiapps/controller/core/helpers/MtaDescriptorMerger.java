@@ -43,13 +43,21 @@ public class MtaDescriptorMerger {
         handlerFactory.getPlatformMerger(platform)
                       .mergeInto(mergedDescriptor);
 
-        deploymentDescriptor = handlerFactory.getDescriptorParametersCompatabilityValidator(mergedDescriptor, userMessageLogger)
-                                             .validate();
+        deploymentDescriptor = validateParameters(mergedDescriptor);
         logDebug(Messages.MERGED_DESCRIPTOR, SecureSerialization.toJson(deploymentDescriptor));
 
         return deploymentDescriptor;
     }
 
+    /**
+     * Warns about incompatible parameters in a merged descriptor. It is part of {@link #merge(DeploymentDescriptor, List)} and is exposed
+     * for descriptors, whose merge result is reused.
+     */
+    public DeploymentDescriptor validateParameters(DeploymentDescriptor mergedDescriptor) {
+        return handlerFactory.getDescriptorParametersCompatabilityValidator(mergedDescriptor, userMessageLogger)
+                             .validate();
+    }
+
     private void logDebug(String pattern, Object... arguments) {
         if (userMessageLogger != null) {
             userMessageLogger.debug(pattern, arguments);
@@ -32,6 +32,8 @@ public class MtaDescriptorPropertiesResolver {
     public static final String IDLE_HOST_PLACEHOLDER = "${" + SupportedParameters.IDLE_HOST + "}";
 
     private final MtaDescriptorPropertiesResolverContext context;
+    // Resolves every reference in a properties or parameters map once, instead of every time it is used:
+    private final ResolverBuilder resolverBuilder = new MemoizingResolverBuilder();
     private List<ConfigurationSubscription> subscriptions;
 
     public MtaDescriptorPropertiesResolver(MtaDescriptorPropertiesResolverContext context) {
@@ -47,7 +49,7 @@ public class MtaDescriptorPropertiesResolver {
         descriptor = correctEntityNames(descriptor);
         // Resolve placeholders in parameters:
         CloudHandlerFactory handlerFactory = context.getHandlerFactory();
-        descriptor = handlerFactory.getDescriptorPlaceholderResolver(descriptor, new NullPropertiesResolverBuilder(), new ResolverBuilder(),
+        descriptor = handlerFactory.getDescriptorPlaceholderResolver(descriptor, new NullPropertiesResolverBuilder(), resolverBuilder,
                                                                      SupportedParameters.SINGULAR_PLURAL_MAPPING)
                                    .resolve();
 
@@ -56,8 +58,8 @@ public class MtaDescriptorPropertiesResolver {
             editRoutesSetTemporaryPlaceholders(descriptor);
 
             // Resolve again due to new temporary routes
-            descriptor = handlerFactory.getDescriptorPlaceholderResolver(descriptor, new NullPropertiesResolverBuilder(),
-                                                                         new ResolverBuilder(), SupportedParameters.SINGULAR_PLURAL_MAPPING)
+            descriptor = handlerFactory.getDescriptorPlaceholderResolver(descriptor, new NullPropertiesResolverBuilder(), resolverBuilder,
+                                                                         SupportedParameters.SINGULAR_PLURAL_MAPPING)
                                        .resolve();
         }
 
@@ -66,7 +68,7 @@ public class MtaDescriptorPropertiesResolver {
                                    .validate();
 
         // Resolve placeholders in properties:
-        descriptor = handlerFactory.getDescriptorPlaceholderResolver(descriptor, new ResolverBuilder(), new NullPropertiesResolverBuilder(),
+        descriptor = handlerFactory.getDescriptorPlaceholderResolver(descriptor, resolverBuilder, new NullPropertiesResolverBuilder(),
                                                                      SupportedParameters.SINGULAR_PLURAL_MAPPING)
                                    .resolve();
 
@@ -82,8 +84,7 @@ public class MtaDescriptorPropertiesResolver {
 
         subscriptions = createSubscriptions(descriptorWithUnresolvedReferences, resolver.getResolvedReferences());
 
-        descriptor = handlerFactory.getDescriptorReferenceResolver(descriptor, new ResolverBuilder(), new ResolverBuilder(),
-                                                                   new ResolverBuilder())
+        descriptor = handlerFactory.getDescriptorReferenceResolver(descriptor, resolverBuilder, resolverBuilder, resolverBuilder)
                                    .resolve();
 
         descriptor = handlerFactory.getDescriptorParametersValidator(descriptor, validatorsList, true)
@@ -39,6 +39,22 @@ public class ConfigurationReferenceResolver {
                            resource);
     }
 
+    /**
+     * Resolves several resources with one query for all of their filters.
+     *
+     * @return the resolved resources for each resource, in the order of the resources
+     */
+    public List<List<Resource>> resolve(List<Resource> resources, List<ConfigurationFilter> filters, CloudTarget cloudTarget) {
+        CloudTarget globalConfigTarget = getGlobalConfigTarget(configuration);
+        List<List<ConfigurationEntry>> entries = findConfigurationEntries(configurationEntryService, filters,
+                                                                          getCloudTargetsList(cloudTarget), globalConfigTarget);
+        List<List<Resource>> result = new ArrayList<>();
+        for (int i = 0; i < resources.size(); i++) {
+            result.add(asResources(entries.get(i), resources.get(i)));
+        }
+        return result;
+    }
+
     private List<CloudTarget> getCloudTargetsList(CloudTarget target) {
         return target == null ? null : Collections.singletonList(target);
     }
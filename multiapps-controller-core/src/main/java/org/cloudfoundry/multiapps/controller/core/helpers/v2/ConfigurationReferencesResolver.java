@@ -37,6 +37,8 @@ public class ConfigurationReferencesResolver extends Visitor {
 
     protected final Map<RequiredDependency, List<RequiredDependency>> expandedDependenciesMap = new HashMap<>();
     private final List<String> expandedProperties = new ArrayList<>();
+    private final List<Resource> resourcesToResolve = new ArrayList<>();
+    private final List<ConfigurationFilter> filtersToResolve = new ArrayList<>();
 
     public ConfigurationReferencesResolver(ConfigurationEntryService configurationEntryService, ConfigurationFilterParser filterParser,
                                            CloudTarget cloudTarget, ApplicationConfiguration configuration) {
@@ -49,9 +51,33 @@ public class ConfigurationReferencesResolver extends Visitor {
 
     public void resolve(DeploymentDescriptor descriptor) {
         descriptor.accept(this);
+        resolveReferences();
         insertResolvedResources(descriptor);
     }
 
+    protected void addReferenceToResolve(Resource sourceResource, ConfigurationFilter configurationFilter) {
+        resourcesToResolve.add(sourceResource);
+        filtersToResolve.add(configurationFilter);
+    }
+
+    // The references are collected while visiting the descriptor, so that the configuration entries of all of them are found with a
+    // single query:
+    protected void resolveReferences() {
+        if (resourcesToResolve.isEmpty()) {
+            return;
+        }
+        List<List<Resource>> resolvedResources = configurationResolver.resolve(resourcesToResolve, filtersToResolve, cloudTarget);
+        for (int i = 0; i < resourcesToResolve.size(); i++) {
+            Resource sourceResource = resourcesToResolve.get(i);
+            ResolvedConfigurationReference resolvedReference = new ResolvedConfigurationReference(filtersToResolve.get(i),
+                                                                                                  sourceResource,
+                                                                                                  resolvedResources.get(i));
+            resolvedReferences.put(sourceResource.getName(), resolvedReference);
+        }
+        resourcesToResolve.clear();
+        filtersToResolve.clear();
+    }
+
     protected void insertResolvedResources(DeploymentDescriptor descriptor) {
         descriptor.setResources(getResolvedResources(descriptor));
         updateReferencesToResolvedResources(descriptor);
@@ -180,10 +206,6 @@ public class ConfigurationReferencesResolver extends Visitor {
             // resource is not a config reference.
             return;
         }
-        List<Resource> resolvedResources = configurationResolver.resolve(sourceResource, configurationFilter, cloudTarget);
-        ResolvedConfigurationReference resolvedReference = new ResolvedConfigurationReference(configurationFilter,
-                                                                                              sourceResource,
-                                                                                              resolvedResources);
-        resolvedReferences.put(sourceResource.getName(), resolvedReference);
+        addReferenceToResolve(sourceResource, configurationFilter);
     }
 }
@@ -135,11 +135,7 @@ public class ConfigurationReferencesResolver extends org.cloudfoundry.multiapps.
             resolvedReferences.put(sourceResource.getName(), resolvedReference);
             return;
         }
-        List<Resource> resolvedResources = configurationResolver.resolve(sourceResource, configurationFilter, cloudTarget);
-        ResolvedConfigurationReference resolvedReference = new ResolvedConfigurationReference(configurationFilter,
-                                                                                              sourceResource,
-                                                                                              resolvedResources);
-        resolvedReferences.put(sourceResource.getName(), resolvedReference);
+        addReferenceToResolve(sourceResource, configurationFilter);
     }
 
 }
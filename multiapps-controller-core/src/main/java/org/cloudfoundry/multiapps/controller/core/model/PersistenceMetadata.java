@@ -16,6 +16,7 @@ public class PersistenceMetadata {
         public static final String CONFIGURATION_SUBSCRIPTION_TABLE = "configuration_subscription";
         public static final String PROGRESS_MESSAGE_TABLE = "progress_message";
         public static final String HISTORIC_OPERATION_EVENT_TABLE = "historic_operation_event";
+        public static final String PROCESS_VARIABLE_CONTENT_TABLE = "process_variable_content";
 
     }
 
@@ -79,6 +80,11 @@ public class PersistenceMetadata {
         public static final String HISTORIC_OPERATION_EVENT_TYPE = "event";
         public static final String HISTORIC_OPERATION_EVENT_TIMESTAMP = "timestamp";
 
+        public static final String PROCESS_VARIABLE_CONTENT_DIGEST = "digest";
+        public static final String PROCESS_VARIABLE_CONTENT_PROCESS_ID = "process_id";
+        public static final String PROCESS_VARIABLE_CONTENT_CONTENT = "content";
+        public static final String PROCESS_VARIABLE_CONTENT_STORED_AT = "stored_at";
+
     }
 
 }
@@ -6,6 +6,7 @@ import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Lob;
 import javax.persistence.Table;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
@@ -30,6 +31,8 @@ public class OperationDto implements DtoWithPrimaryKey<String> {
         public static final String USER = "user";
         public static final String ACQUIRED_LOCK = "acquiredLock";
         public static final String FINAL_STATE = "finalState";
+        public static final String QUEUED = "queued";
+        public static final String PARAMETERS = "parameters";
 
     }
 
@@ -66,12 +69,20 @@ public class OperationDto implements DtoWithPrimaryKey<String> {
     @Column(name = "final_state")
     private String finalState;
 
+    @Column(name = "queued")
+    private boolean queued;
+
+    // The parameters of the process are kept only while the operation is queued, until the process is started with them:
+    @Lob
+    @Column(name = "parameters")
+    private String parameters;
+
     protected OperationDto() {
         // Required by JPA
     }
 
     private OperationDto(String processId, String processType, Date startedAt, Date endedAt, String spaceId, String mtaId, String namespace, String user,
-                         boolean acquiredLock, String finalState) {
+                         boolean acquiredLock, String finalState, boolean queued, String parameters) {
         this.processId = processId;
         this.processType = processType;
         this.startedAt = startedAt;
@@ -82,6 +93,8 @@ public class OperationDto implements DtoWithPrimaryKey<String> {
         this.user = user;
         this.acquiredLock = acquiredLock;
         this.finalState = finalState;
+        this.queued = queued;
+        this.parameters = parameters;
     }
 
     @Override
@@ -134,6 +147,14 @@ public class OperationDto implements DtoWithPrimaryKey<String> {
         return finalState;
     }
 
+    public boolean isQueued() {
+        return queued;
+    }
+
+    public String getParameters() {
+        return parameters;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -150,6 +171,8 @@ public class OperationDto implements DtoWithPrimaryKey<String> {
         private String user;
         private boolean acquiredLock;
         private String finalState;
+        private boolean queued;
+        private String parameters;
 
         public Builder processId(String processId) {
             this.processId = processId;
@@ -201,8 +224,19 @@ public class OperationDto implements DtoWithPrimaryKey<String> {
             return this;
         }
 
+        public Builder queued(boolean queued) {
+            this.queued = queued;
+            return this;
+        }
+
+        public Builder parameters(String parameters) {
+            this.parameters = parameters;
+            return this;
+        }
+
         public OperationDto build() {
-            return new OperationDto(processId, processType, startedAt, endedAt, spaceId, mtaId, namespace, user, acquiredLock, finalState);
+            return new OperationDto(processId, processType, startedAt, endedAt, spaceId, mtaId, namespace, user, acquiredLock, finalState,
+                                    queued, parameters);
         }
     }
 }
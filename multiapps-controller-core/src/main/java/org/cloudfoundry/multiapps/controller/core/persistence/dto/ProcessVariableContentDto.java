@@ -0,0 +1,115 @@
+package org.cloudfoundry.multiapps.controller.core.persistence.dto;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.cloudfoundry.multiapps.controller.core.model.PersistenceMetadata.TableColumnNames;
+import org.cloudfoundry.multiapps.controller.core.model.PersistenceMetadata.TableNames;
+
+@Entity
+@Table(name = TableNames.PROCESS_VARIABLE_CONTENT_TABLE)
+@IdClass(ProcessVariableContentDto.Key.class)
+public class ProcessVariableContentDto {
+
+    public static class AttributeNames {
+
+        private AttributeNames() {
+        }
+
+        public static final String DIGEST = "digest";
+        public static final String PROCESS_ID = "processId";
+        public static final String CONTENT = "content";
+        public static final String STORED_AT = "storedAt";
+
+    }
+
+    public static class Key implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String digest;
+        private String processId;
+
+        protected Key() {
+            // Required by JPA
+        }
+
+        public Key(String digest, String processId) {
+            this.digest = digest;
+            this.processId = processId;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) object;
+            return Objects.equals(digest, other.digest) && Objects.equals(processId, other.processId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(digest, processId);
+        }
+
+    }
+
+    @Id
+    @Column(name = TableColumnNames.PROCESS_VARIABLE_CONTENT_DIGEST)
+    private String digest;
+
+    // The root process of the operation, which owns the content until the operation is deleted:
+    @Id
+    @Column(name = TableColumnNames.PROCESS_VARIABLE_CONTENT_PROCESS_ID)
+    private String processId;
+
+    @Lob
+    @Column(name = TableColumnNames.PROCESS_VARIABLE_CONTENT_CONTENT, nullable = false)
+    private byte[] content;
+
+    @Column(name = TableColumnNames.PROCESS_VARIABLE_CONTENT_STORED_AT, nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date storedAt;
+
+    protected ProcessVariableContentDto() {
+        // Required by JPA
+    }
+
+    public ProcessVariableContentDto(String digest, String processId, byte[] content, Date storedAt) {
+        this.digest = digest;
+        this.processId = processId;
+        this.content = content;
+        this.storedAt = storedAt;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public Date getStoredAt() {
+        return storedAt;
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.cloudfoundry.multiapps.controller.core.persistence.query;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.cloudfoundry.multiapps.controller.core.model.ConfigurationEntry;
+
+/**
+ * Runs several configuration entry queries with a single SQL statement. The result of each query is the same as if it was run on its own.
+ */
+public interface ConfigurationEntryBatchQuery {
+
+    ConfigurationEntryBatchQuery add(UnaryOperator<ConfigurationEntryQuery> queryBuilder);
+
+    /**
+     * @return the results of the queries, in the order in which they were added
+     */
+    List<List<ConfigurationEntry>> list();
+
+}
@@ -2,6 +2,7 @@ package org.cloudfoundry.multiapps.controller.core.persistence.query;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
@@ -11,6 +12,8 @@ public interface OperationQuery extends Query<Operation, OperationQuery> {
 
     OperationQuery processId(String processId);
 
+    OperationQuery processIdGreaterThan(String processId);
+
     OperationQuery processType(ProcessType processType);
 
     OperationQuery spaceId(String spaceId);
@@ -25,6 +28,8 @@ public interface OperationQuery extends Query<Operation, OperationQuery> {
 
     OperationQuery state(Operation.State finalState);
 
+    OperationQuery queued(Boolean queued);
+
     OperationQuery startedBefore(Date startedBefore);
 
     OperationQuery endedAfter(Date endedAfter);
@@ -41,4 +46,26 @@ public interface OperationQuery extends Query<Operation, OperationQuery> {
 
     OperationQuery orderByStartTime(OrderDirection orderDirection);
 
+    /**
+     * Counts the matching operations per space, without loading them.
+     *
+     * @return the number of matching operations, mapped by the IDs of the spaces that have any
+     */
+    Map<String, Long> countPerSpace();
+
+    /**
+     * Clears the queued flag and the parameters of the matching operations, so that they are reported as started. Restrict the query to
+     * {@link #queued(Boolean) queued} operations, so that only one caller can start each of them.
+     *
+     * @return the number of updated operations
+     */
+    int markAsStarted();
+
+    /**
+     * Sets the final state of the matching operations to {@link Operation.State#ABORTED} and clears their queued flag and parameters.
+     *
+     * @return the number of updated operations
+     */
+    int markAsAborted(Date endedAt);
+
 }
\ No newline at end of file
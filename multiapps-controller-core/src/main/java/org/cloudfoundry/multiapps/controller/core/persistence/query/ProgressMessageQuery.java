@@ -10,6 +10,8 @@ public interface ProgressMessageQuery extends Query<ProgressMessage, ProgressMes
 
     ProgressMessageQuery id(Long id);
 
+    ProgressMessageQuery idGreaterThan(Long id);
+
     ProgressMessageQuery processId(String processId);
 
     ProgressMessageQuery taskId(String taskId);
@@ -0,0 +1,94 @@
+package org.cloudfoundry.multiapps.controller.core.persistence.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+
+import org.cloudfoundry.multiapps.controller.core.model.ConfigurationEntry;
+import org.cloudfoundry.multiapps.controller.core.persistence.TransactionalExecutor;
+import org.cloudfoundry.multiapps.controller.core.persistence.dto.ConfigurationEntryDto;
+import org.cloudfoundry.multiapps.controller.core.persistence.dto.ConfigurationEntryDto.AttributeNames;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationEntryBatchQuery;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationEntryQuery;
+import org.cloudfoundry.multiapps.controller.core.persistence.service.ConfigurationEntryService.ConfigurationEntryMapper;
+
+public class ConfigurationEntryBatchQueryImpl implements ConfigurationEntryBatchQuery {
+
+    private static final Long NOT_MATCHED = 0L;
+
+    private final EntityManager entityManager;
+    private final ConfigurationEntryMapper entryMapper;
+    private final List<ConfigurationEntryQueryImpl> queries = new ArrayList<>();
+
+    public ConfigurationEntryBatchQueryImpl(EntityManager entityManager, ConfigurationEntryMapper entryMapper) {
+        this.entityManager = entityManager;
+        this.entryMapper = entryMapper;
+    }
+
+    @Override
+    public ConfigurationEntryBatchQuery add(UnaryOperator<ConfigurationEntryQuery> queryBuilder) {
+        ConfigurationEntryQueryImpl query = new ConfigurationEntryQueryImpl(entityManager, entryMapper);
+        queryBuilder.apply(query);
+        queries.add(query);
+        return this;
+    }
+
+    @Override
+    public List<List<ConfigurationEntry>> list() {
+        if (queries.isEmpty()) {
+            entityManager.close();
+            return Collections.emptyList();
+        }
+        List<Tuple> rows = new TransactionalExecutor<List<Tuple>>(entityManager).execute(manager -> createQuery().getResultList());
+        List<List<ConfigurationEntry>> result = new ArrayList<>();
+        for (int i = 0; i < queries.size(); i++) {
+            result.add(queries.get(i)
+                              .filter(getMatchedDtos(rows, i)));
+        }
+        return result;
+    }
+
+    // Each row contains the entry, followed by one column per query, which contains the ID of the entry if it matches the restrictions of
+    // the query, and 0 otherwise. This way the database evaluates the restrictions, exactly as it would for the queries on their own. The
+    // entries are ordered, so that the resources created from them get the same indexes every time:
+    private TypedQuery<Tuple> createQuery() {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+        Root<ConfigurationEntryDto> root = criteriaQuery.from(ConfigurationEntryDto.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root);
+        List<Predicate> queryPredicates = new ArrayList<>();
+        for (ConfigurationEntryQueryImpl query : queries) {
+            Predicate queryPredicate = query.toPredicate(root);
+            Expression<Long> matchedId = criteriaBuilder.<Long> selectCase()
+                                                        .when(queryPredicate, root.<Long> get(AttributeNames.ID))
+                                                        .otherwise(NOT_MATCHED);
+            selections.add(matchedId);
+            queryPredicates.add(queryPredicate);
+        }
+        criteriaQuery.multiselect(selections)
+                     .where(criteriaBuilder.or(queryPredicates.toArray(new Predicate[0])))
+                     .orderBy(criteriaBuilder.asc(root.get(AttributeNames.ID)));
+        return entityManager.createQuery(criteriaQuery);
+    }
+
+    private List<ConfigurationEntryDto> getMatchedDtos(List<Tuple> rows, int queryIndex) {
+        return rows.stream()
+                   .filter(row -> !NOT_MATCHED.equals(row.get(queryIndex + 1, Long.class)))
+                   .map(row -> row.get(0, ConfigurationEntryDto.class))
+                   .collect(Collectors.toList());
+    }
+
+}
@@ -8,6 +8,8 @@ import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
 
 import org.apache.commons.lang3.StringUtils;
 import org.cloudfoundry.multiapps.controller.core.Messages;
@@ -190,6 +192,19 @@ public class ConfigurationEntryQueryImpl extends AbstractQueryImpl<Configuration
     public List<ConfigurationEntry> list() {
         List<ConfigurationEntryDto> dtos = executeInTransaction(manager -> createQuery(manager, queryCriteria,
                                                                                        ConfigurationEntryDto.class).getResultList());
+        return filter(dtos);
+    }
+
+    Predicate toPredicate(Root<ConfigurationEntryDto> root) {
+        List<Predicate> predicates = queryCriteria.toQueryPredicates(root);
+        if (predicates.isEmpty()) {
+            // An empty conjunction is rendered as NULL in a CASE expression:
+            return getCriteriaBuilder().isNotNull(root.get(AttributeNames.ID));
+        }
+        return getCriteriaBuilder().and(predicates.toArray(new Predicate[0]));
+    }
+
+    List<ConfigurationEntry> filter(List<ConfigurationEntryDto> dtos) {
         return dtos.stream()
                    .filter(this::satisfiesTargetWildcard)
                    .filter(this::satisfiesContent)
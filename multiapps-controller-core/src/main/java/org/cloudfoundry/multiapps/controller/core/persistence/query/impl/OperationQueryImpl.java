@@ -2,10 +2,15 @@ package org.cloudfoundry.multiapps.controller.core.persistence.query.impl;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
 import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
 
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
@@ -37,6 +42,16 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
         return this;
     }
 
+    @Override
+    public OperationQuery processIdGreaterThan(String processId) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<String> builder()
+                                                                       .attribute(AttributeNames.PROCESS_ID)
+                                                                       .condition(getCriteriaBuilder()::greaterThan)
+                                                                       .value(processId)
+                                                                       .build());
+        return this;
+    }
+
     @Override
     public OperationQuery processType(ProcessType processType) {
         queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
@@ -107,6 +122,16 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
         return this;
     }
 
+    @Override
+    public OperationQuery queued(Boolean queued) {
+        queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
+                                                                       .attribute(AttributeNames.QUEUED)
+                                                                       .condition(getCriteriaBuilder()::equal)
+                                                                       .value(queued)
+                                                                       .build());
+        return this;
+    }
+
     @Override
     public OperationQuery startedBefore(Date startedBefore) {
         queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.<Date> builder()
@@ -127,6 +152,7 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
         return this;
     }
 
+    // Queued operations have no process yet, so they are not matched:
     @Override
     public OperationQuery inNonFinalState() {
         queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
@@ -134,7 +160,7 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
                                                                        .condition(getCriteriaBuilder()::equal)
                                                                        .value(null)
                                                                        .build());
-        return this;
+        return queued(false);
     }
 
     @Override
@@ -194,4 +220,46 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
         return executeInTransaction(manager -> createDeleteQuery(manager, queryCriteria, OperationDto.class).executeUpdate());
     }
 
+    @Override
+    public Map<String, Long> countPerSpace() {
+        List<Object[]> counts = executeInTransaction(manager -> manager.createQuery(createCountPerSpaceQuery())
+                                                                       .getResultList());
+        return counts.stream()
+                     .collect(Collectors.toMap(count -> (String) count[0], count -> (Long) count[1]));
+    }
+
+    private CriteriaQuery<Object[]> createCountPerSpaceQuery() {
+        CriteriaQuery<Object[]> countQuery = getCriteriaBuilder().createQuery(Object[].class);
+        Root<OperationDto> root = countQuery.from(OperationDto.class);
+        return countQuery.multiselect(root.get(AttributeNames.SPACE_ID), getCriteriaBuilder().count(root))
+                         .where(queryCriteria.toQueryPredicates(root)
+                                             .toArray(new Predicate[0]))
+                         .groupBy(root.get(AttributeNames.SPACE_ID));
+    }
+
+    @Override
+    public int markAsStarted() {
+        return executeInTransaction(manager -> manager.createQuery(createUpdateQuery(null, null))
+                                                      .executeUpdate());
+    }
+
+    @Override
+    public int markAsAborted(Date endedAt) {
+        return executeInTransaction(manager -> manager.createQuery(createUpdateQuery(Operation.State.ABORTED, endedAt))
+                                                      .executeUpdate());
+    }
+
+    private CriteriaUpdate<OperationDto> createUpdateQuery(Operation.State finalState, Date endedAt) {
+        CriteriaUpdate<OperationDto> updateQuery = getCriteriaBuilder().createCriteriaUpdate(OperationDto.class);
+        Root<OperationDto> root = updateQuery.from(OperationDto.class);
+        updateQuery.set(AttributeNames.FINAL_STATE, finalState == null ? null : finalState.toString())
+                   .set(AttributeNames.QUEUED, false)
+                   .set(AttributeNames.PARAMETERS, null);
+        if (endedAt != null) {
+            updateQuery.set(AttributeNames.ENDED_AT, endedAt);
+        }
+        return updateQuery.where(queryCriteria.toQueryPredicates(root)
+                                              .toArray(new Predicate[0]));
+    }
+
 }
\ No newline at end of file
@@ -15,7 +15,9 @@ import org.cloudfoundry.multiapps.controller.core.model.CloudTarget;
 import org.cloudfoundry.multiapps.controller.core.model.ConfigurationEntry;
 import org.cloudfoundry.multiapps.controller.core.model.PersistenceMetadata;
 import org.cloudfoundry.multiapps.controller.core.persistence.dto.ConfigurationEntryDto;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationEntryBatchQuery;
 import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationEntryQuery;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.impl.ConfigurationEntryBatchQueryImpl;
 import org.cloudfoundry.multiapps.controller.core.persistence.query.impl.ConfigurationEntryQueryImpl;
 import org.cloudfoundry.multiapps.mta.model.Version;
 
@@ -34,6 +36,10 @@ public class ConfigurationEntryService extends PersistenceService<ConfigurationE
         return new ConfigurationEntryQueryImpl(createEntityManager(), entryMapper);
     }
 
+    public ConfigurationEntryBatchQuery createBatchQuery() {
+        return new ConfigurationEntryBatchQueryImpl(createEntityManager(), entryMapper);
+    }
+
     @Override
     protected ConfigurationEntryDto merge(ConfigurationEntryDto existingEntry, ConfigurationEntryDto newEntry) {
         super.merge(existingEntry, newEntry);
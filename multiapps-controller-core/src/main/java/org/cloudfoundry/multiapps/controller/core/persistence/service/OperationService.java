@@ -2,7 +2,9 @@ package org.cloudfoundry.multiapps.controller.core.persistence.service;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -10,6 +12,7 @@ import javax.persistence.EntityManagerFactory;
 
 import org.cloudfoundry.multiapps.common.ConflictException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
@@ -64,10 +67,15 @@ public class OperationService extends PersistenceService<Operation, OperationDto
                                      .namespace(dto.getNamespace())
                                      .user(dto.getUser())
                                      .hasAcquiredLock(dto.hasAcquiredLock())
-                                     .state(toState(dto.getFinalState()))
+                                     .state(dto.isQueued() ? Operation.State.QUEUED : toState(dto.getFinalState()))
+                                     .parameters(toParameters(dto.getParameters()))
                                      .build();
         }
 
+        private Map<String, Object> toParameters(String parameters) {
+            return parameters == null ? Collections.emptyMap() : JsonUtil.convertJsonToMap(parameters);
+        }
+
         private ProcessType toProcessType(String processType) {
             return processType == null ? null : ProcessType.fromString(processType);
         }
@@ -90,8 +98,10 @@ public class OperationService extends PersistenceService<Operation, OperationDto
             String mtaId = operation.getMtaId();
             String namespace = operation.getNamespace();
             String user = operation.getUser();
-            String state = toString(operation.getState());
+            boolean queued = operation.getState() == Operation.State.QUEUED;
+            String state = queued ? null : toString(operation.getState());
             boolean acquiredLock = operation.hasAcquiredLock();
+            String parameters = toJson(operation.getParameters());
             return OperationDto.builder()
                                .processId(processId)
                                .processType(processType)
@@ -103,9 +113,15 @@ public class OperationService extends PersistenceService<Operation, OperationDto
                                .user(user)
                                .acquiredLock(acquiredLock)
                                .finalState(state)
+                               .queued(queued)
+                               .parameters(parameters)
                                .build();
         }
 
+        private String toJson(Map<String, Object> parameters) {
+            return parameters.isEmpty() ? null : JsonUtil.toJson(parameters, false);
+        }
+
         private Date toDate(ZonedDateTime zonedDateTime) {
             return zonedDateTime == null ? null
                 : new Date(zonedDateTime.toInstant()
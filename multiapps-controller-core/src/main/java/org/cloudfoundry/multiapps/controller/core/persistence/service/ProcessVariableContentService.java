@@ -0,0 +1,134 @@
+package org.cloudfoundry.multiapps.controller.core.persistence.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+
+import org.cloudfoundry.multiapps.controller.core.model.PersistenceMetadata.TableColumnNames;
+import org.cloudfoundry.multiapps.controller.core.model.PersistenceMetadata.TableNames;
+import org.cloudfoundry.multiapps.controller.core.persistence.TransactionalExecutor;
+import org.cloudfoundry.multiapps.controller.core.persistence.dto.OperationDto;
+import org.cloudfoundry.multiapps.controller.core.persistence.dto.ProcessVariableContentDto;
+import org.cloudfoundry.multiapps.controller.core.persistence.dto.ProcessVariableContentDto.AttributeNames;
+
+/**
+ * Content of large process variables, addressed by its digest. The variables of the processes hold only the digest, so the content is
+ * stored once for all subprocesses and historic copies of the variables of an operation. The content is owned by the root process of the
+ * operation, and is deleted by the clean-up job once the operation is deleted. It is written in the transaction of the variables that
+ * refer to it, over the connection of the process engine.
+ */
+@Named
+public class ProcessVariableContentService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Inject
+    public ProcessVariableContentService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    private static final String INSERT_CONTENT = "INSERT INTO " + TableNames.PROCESS_VARIABLE_CONTENT_TABLE + " ("
+        + TableColumnNames.PROCESS_VARIABLE_CONTENT_DIGEST + ", " + TableColumnNames.PROCESS_VARIABLE_CONTENT_PROCESS_ID + ", "
+        + TableColumnNames.PROCESS_VARIABLE_CONTENT_CONTENT + ", " + TableColumnNames.PROCESS_VARIABLE_CONTENT_STORED_AT
+        + ") VALUES (?, ?, ?, ?)";
+    private static final String SELECT_CONTENT_KEY = "SELECT " + TableColumnNames.PROCESS_VARIABLE_CONTENT_DIGEST + " FROM "
+        + TableNames.PROCESS_VARIABLE_CONTENT_TABLE + " WHERE " + TableColumnNames.PROCESS_VARIABLE_CONTENT_DIGEST + " = ? AND "
+        + TableColumnNames.PROCESS_VARIABLE_CONTENT_PROCESS_ID + " = ?";
+
+    /**
+     * Stores the content for the given process, unless it is already stored for it. The content is stored on the given connection, so it
+     * is committed or rolled back together with the transaction of the variables that refer to it.
+     */
+    public void store(Connection connection, String digest, String processId, byte[] content) throws SQLException {
+        // A failed statement aborts the whole transaction on some databases, unless it is rolled back to a savepoint:
+        Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_CONTENT)) {
+            statement.setString(1, digest);
+            statement.setString(2, processId);
+            statement.setBytes(3, content);
+            statement.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            if (savepoint != null) {
+                connection.rollback(savepoint);
+            }
+            // The same content was already stored for the same process, by an earlier or a concurrent transaction:
+            if (!exists(connection, digest, processId)) {
+                throw e;
+            }
+            return;
+        }
+        if (savepoint != null) {
+            connection.releaseSavepoint(savepoint);
+        }
+    }
+
+    private boolean exists(Connection connection, String digest, String processId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_CONTENT_KEY)) {
+            statement.setString(1, digest);
+            statement.setString(2, processId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    public byte[] find(String digest) {
+        return executeInTransaction(manager -> {
+            CriteriaBuilder criteriaBuilder = manager.getCriteriaBuilder();
+            CriteriaQuery<byte[]> query = criteriaBuilder.createQuery(byte[].class);
+            Root<ProcessVariableContentDto> root = query.from(ProcessVariableContentDto.class);
+            query.select(root.get(AttributeNames.CONTENT))
+                 .where(criteriaBuilder.equal(root.get(AttributeNames.DIGEST), digest));
+            // Content with the same digest is the same, whichever process stored it:
+            return manager.createQuery(query)
+                          .setMaxResults(1)
+                          .getResultStream()
+                          .findFirst()
+                          .orElse(null);
+        });
+    }
+
+    /**
+     * Deletes the content of deleted operations. Content stored after the expiration time is kept, since its operation may not be
+     * committed yet.
+     *
+     * @return the number of deleted rows
+     */
+    public int deleteContentOfDeletedOperations(Date expirationTime) {
+        return executeInTransaction(manager -> {
+            CriteriaBuilder criteriaBuilder = manager.getCriteriaBuilder();
+            CriteriaDelete<ProcessVariableContentDto> deleteQuery = criteriaBuilder.createCriteriaDelete(ProcessVariableContentDto.class);
+            Root<ProcessVariableContentDto> root = deleteQuery.from(ProcessVariableContentDto.class);
+            Subquery<String> operationQuery = deleteQuery.subquery(String.class);
+            Root<OperationDto> operation = operationQuery.from(OperationDto.class);
+            operationQuery.select(operation.get(OperationDto.AttributeNames.PROCESS_ID))
+                          .where(criteriaBuilder.equal(operation.get(OperationDto.AttributeNames.PROCESS_ID),
+                                                       root.get(AttributeNames.PROCESS_ID)));
+            deleteQuery.where(criteriaBuilder.lessThan(root.get(AttributeNames.STORED_AT), expirationTime),
+                              criteriaBuilder.not(criteriaBuilder.exists(operationQuery)));
+            return manager.createQuery(deleteQuery)
+                          .executeUpdate();
+        });
+    }
+
+    private <R> R executeInTransaction(Function<EntityManager, R> function) {
+        return new TransactionalExecutor<R>(entityManagerFactory.createEntityManager()).execute(function);
+    }
+
+}
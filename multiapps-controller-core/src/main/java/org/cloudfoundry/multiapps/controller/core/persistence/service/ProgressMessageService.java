@@ -1,6 +1,10 @@
 package org.cloudfoundry.multiapps.controller.core.persistence.service;
 
+import java.text.MessageFormat;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -16,14 +20,20 @@ import org.cloudfoundry.multiapps.controller.core.persistence.query.impl.Progres
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableProgressMessage;
 import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage;
 import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage.ProgressMessageType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
 
 @Named
 public class ProgressMessageService extends PersistenceService<ProgressMessage, ProgressMessageDto, Long> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProgressMessageService.class);
+
     @Inject
     protected ProgressMessageMapper progressMessageMapper;
 
+    private final List<Consumer<ProgressMessage>> listeners = new CopyOnWriteArrayList<>();
+
     @Inject
     public ProgressMessageService(EntityManagerFactory entityManagerFactory) {
         super(entityManagerFactory);
@@ -33,6 +43,37 @@ public class ProgressMessageService extends PersistenceService<ProgressMessage,
         return new ProgressMessageQueryImpl(createEntityManager(), progressMessageMapper);
     }
 
+    /**
+     * Registers a listener, which is notified for every progress message persisted by this instance after its transaction is committed.
+     * Listeners are invoked on the thread that added the message, so they must not block.
+     */
+    public void addListener(Consumer<ProgressMessage> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<ProgressMessage> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public ProgressMessage add(ProgressMessage progressMessage) {
+        ProgressMessage addedProgressMessage = super.add(progressMessage);
+        if (addedProgressMessage != null) {
+            notifyListeners(addedProgressMessage);
+        }
+        return addedProgressMessage;
+    }
+
+    private void notifyListeners(ProgressMessage progressMessage) {
+        for (Consumer<ProgressMessage> listener : listeners) {
+            try {
+                listener.accept(progressMessage);
+            } catch (RuntimeException e) {
+                LOGGER.warn(MessageFormat.format(Messages.PROGRESS_MESSAGE_LISTENER_FAILED, progressMessage.getId()), e);
+            }
+        }
+    }
+
     @Override
     protected ProgressMessageDto merge(ProgressMessageDto existingProgressMessage, ProgressMessageDto newProgressMessage) {
         super.merge(existingProgressMessage, newProgressMessage);
@@ -52,7 +52,7 @@ public class DataTerminationService {
     @Inject
     private ApplicationConfiguration configuration;
 
-    public void deleteOrphanUserData() {
+    public int deleteOrphanUserData() {
         assertGlobalAuditorCredentialsExist();
         List<String> deleteSpaceEventsToBeDeleted = getDeleteSpaceEvents();
         for (String spaceId : deleteSpaceEventsToBeDeleted) {
@@ -61,6 +61,7 @@ public class DataTerminationService {
             deleteUserOperationsOrphanData(spaceId);
             deleteSpaceLeftovers(spaceId);
         }
+        return deleteSpaceEventsToBeDeleted.size();
     }
 
     private void assertGlobalAuditorCredentialsExist() {
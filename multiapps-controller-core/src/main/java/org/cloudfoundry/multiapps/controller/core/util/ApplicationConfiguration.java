@@ -51,6 +51,9 @@ public class ApplicationConfiguration {
     static final String CFG_MAX_RESOURCE_FILE_SIZE = "DEFAULT_MAX_RESOURCE_FILE_SIZE";
     static final String CFG_CRON_EXPRESSION_FOR_OLD_DATA = "CRON_EXPRESSION_FOR_OLD_DATA";
     static final String CFG_MAX_TTL_FOR_OLD_DATA = "MAX_TTL_FOR_OLD_DATA";
+    static final String CFG_CLEAN_UP_JOB_BATCH_SIZE = "CLEAN_UP_JOB_BATCH_SIZE";
+    static final String CFG_CLEAN_UP_JOB_TIME_BUDGET_IN_MINUTES = "CLEAN_UP_JOB_TIME_BUDGET_IN_MINUTES";
+    static final String CFG_CLEAN_UP_JOB_THREADS = "CLEAN_UP_JOB_THREADS";
     static final String CFG_USE_XS_AUDIT_LOGGING = "USE_XS_AUDIT_LOGGING";
     static final String CFG_VCAP_APPLICATION = "VCAP_APPLICATION"; // Mandatory
     static final String CFG_BASIC_AUTH_ENABLED = "BASIC_AUTH_ENABLED";
@@ -58,6 +61,9 @@ public class ApplicationConfiguration {
     static final String CFG_GLOBAL_AUDITOR_PASSWORD = "GLOBAL_AUDITOR_PASSWORD";
     static final String CFG_DB_CONNECTION_THREADS = "DB_CONNECTION_THREADS";
     static final String CFG_STEP_POLLING_INTERVAL_IN_SECONDS = "STEP_POLLING_INTERVAL_IN_SECONDS";
+    static final String CFG_MAX_STEP_POLLING_INTERVAL_IN_SECONDS = "MAX_STEP_POLLING_INTERVAL_IN_SECONDS";
+    static final String CFG_SERVICE_POLLING_THREADS = "SERVICE_POLLING_THREADS";
+    static final String CFG_MAX_PARALLEL_MODULE_DEPLOYMENTS = "MAX_PARALLEL_MODULE_DEPLOYMENTS";
     static final String CFG_SKIP_SSL_VALIDATION = "SKIP_SSL_VALIDATION";
     static final String CFG_VERSION = "VERSION";
     static final String CFG_CHANGE_LOG_LOCK_POLL_RATE = "CHANGE_LOG_LOCK_POLL_RATE";
@@ -75,6 +81,16 @@ public class ApplicationConfiguration {
     static final String CFG_FLOWABLE_JOB_EXECUTOR_CORE_THREADS = "FLOWABLE_JOB_EXECUTOR_CORE_THREADS";
     static final String CFG_FLOWABLE_JOB_EXECUTOR_MAX_THREADS = "FLOWABLE_JOB_EXECUTOR_MAX_THREADS";
     static final String CFG_FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY = "FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY";
+    static final String CFG_FLOWABLE_JOB_EXECUTOR_AUTO_SCALING = "FLOWABLE_JOB_EXECUTOR_AUTO_SCALING";
+    static final String CFG_USE_VIRTUAL_THREADS = "USE_VIRTUAL_THREADS";
+    static final String CFG_FLOWABLE_JOB_EXECUTOR_MAX_SPACE_SHARE = "FLOWABLE_JOB_EXECUTOR_MAX_SPACE_SHARE";
+    static final String CFG_MAX_ACTIVE_OPERATIONS = "MAX_ACTIVE_OPERATIONS";
+    static final String CFG_MAX_ACTIVE_OPERATIONS_PER_SPACE = "MAX_ACTIVE_OPERATIONS_PER_SPACE";
+    static final String CFG_FLOWABLE_HISTORY_LEVEL = "FLOWABLE_HISTORY_LEVEL";
+    static final String CFG_FLOWABLE_STARTUP_FAST_PATH_ENABLED = "FLOWABLE_STARTUP_FAST_PATH_ENABLED";
+    static final String CFG_PROCESS_VARIABLE_FORMAT = "PROCESS_VARIABLE_FORMAT";
+    static final String CFG_PROCESS_VARIABLE_COMPRESSION = "PROCESS_VARIABLE_COMPRESSION";
+    static final String CFG_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES = "SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES";
     static final String CFG_FSS_CACHE_UPDATE_TIMEOUT_MINUTES = "FSS_CACHE_UPDATE_TIMEOUT_MINUTES";
     static final String CFG_THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS = "THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS";
     static final String CFG_SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS = "SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS";
@@ -107,7 +123,14 @@ public class ApplicationConfiguration {
     public static final Integer DEFAULT_DB_CONNECTION_THREADS = 30;
     public static final String DEFAULT_CRON_EXPRESSION_FOR_OLD_DATA = "0 0 0/6 * * ?"; // every 6 hours
     public static final long DEFAULT_MAX_TTL_FOR_OLD_DATA = TimeUnit.DAYS.toSeconds(5); // 5 days
+    public static final Integer DEFAULT_CLEAN_UP_JOB_BATCH_SIZE = 100;
+    public static final Integer DEFAULT_CLEAN_UP_JOB_TIME_BUDGET_IN_MINUTES = 60;
+    public static final Integer DEFAULT_CLEAN_UP_JOB_THREADS = 4;
     public static final Integer DEFAULT_STEP_POLLING_INTERVAL_IN_SECONDS = 5;
+    public static final Integer DEFAULT_MAX_STEP_POLLING_INTERVAL_IN_SECONDS = 30;
+    public static final Integer DEFAULT_SERVICE_POLLING_THREADS = 16;
+    // Modules deployed in parallel are not limited, unless a limit is configured:
+    public static final Integer DEFAULT_MAX_PARALLEL_MODULE_DEPLOYMENTS = Integer.MAX_VALUE;
     public static final Boolean DEFAULT_SKIP_SSL_VALIDATION = false;
     public static final String DEFAULT_VERSION = "N/A";
     public static final Integer DEFAULT_CHANGE_LOG_LOCK_POLL_RATE = 1; // 1 minute(s)
@@ -121,6 +144,22 @@ public class ApplicationConfiguration {
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_CORE_THREADS = 8;
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_MAX_THREADS = 32;
     public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY = 16;
+    public static final Boolean DEFAULT_FLOWABLE_JOB_EXECUTOR_AUTO_SCALING = true;
+    public static final Boolean DEFAULT_USE_VIRTUAL_THREADS = false;
+    public static final Integer DEFAULT_FLOWABLE_JOB_EXECUTOR_MAX_SPACE_SHARE = 50; // percent(s)
+    public static final Integer DEFAULT_MAX_ACTIVE_OPERATIONS = Integer.MAX_VALUE;
+    public static final Integer DEFAULT_MAX_ACTIVE_OPERATIONS_PER_SPACE = Integer.MAX_VALUE;
+    // The process instances, activity instances and latest variable values, which are all that the controller reads from the history. Lower
+    // levels are only set for process definitions, whose history is not read:
+    public static final String DEFAULT_FLOWABLE_HISTORY_LEVEL = "activity";
+    public static final List<String> SUPPORTED_FLOWABLE_HISTORY_LEVELS = List.of("activity", "audit", "full");
+    public static final Boolean DEFAULT_FLOWABLE_STARTUP_FAST_PATH_ENABLED = true;
+    // Plain JSON without compression can be read by previous versions, which may still run during an update:
+    public static final String DEFAULT_PROCESS_VARIABLE_FORMAT = "json";
+    public static final List<String> SUPPORTED_PROCESS_VARIABLE_FORMATS = List.of("json", "smile");
+    public static final Boolean DEFAULT_PROCESS_VARIABLE_COMPRESSION = false;
+    // Shared process variables cannot be read by previous versions either, so they are disabled (0) by default:
+    public static final Integer DEFAULT_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES = 0;
     public static final Integer DEFAULT_FSS_CACHE_UPDATE_TIMEOUT_MINUTES = 30;
     public static final Integer DEFAULT_THREAD_MONITOR_CACHE_UPDATE_IN_SECONDS = 1;
     public static final Integer DEFAULT_SPACE_DEVELOPER_CACHE_TIME_IN_SECONDS = 20;
@@ -144,6 +183,9 @@ public class ApplicationConfiguration {
     private Long maxResourceFileSize;
     private String cronExpressionForOldData;
     private Long maxTtlForOldData;
+    private Integer cleanUpJobBatchSize;
+    private Integer cleanUpJobTimeBudgetInMinutes;
+    private Integer cleanUpJobThreads;
     private Boolean useXSAuditLogging;
     private String spaceGuid;
     private String orgName;
@@ -152,6 +194,9 @@ public class ApplicationConfiguration {
     private String globalAuditorPassword;
     private Integer dbConnectionThreads;
     private Integer stepPollingIntervalInSeconds;
+    private Integer maxStepPollingIntervalInSeconds;
+    private Integer servicePollingThreads;
+    private Integer maxParallelModuleDeployments;
     private Boolean skipSslValidation;
     private String version;
     private String deployServiceUrl;
@@ -169,6 +214,16 @@ public class ApplicationConfiguration {
     private Integer flowableJobExecutorCoreThreads;
     private Integer flowableJobExecutorMaxThreads;
     private Integer flowableJobExecutorQueueCapacity;
+    private Boolean flowableJobExecutorAutoScaling;
+    private Boolean useVirtualThreads;
+    private Integer flowableJobExecutorMaxSpaceShare;
+    private Integer maxActiveOperations;
+    private Integer maxActiveOperationsPerSpace;
+    private String flowableHistoryLevel;
+    private Boolean flowableStartupFastPathEnabled;
+    private String processVariableFormat;
+    private Boolean processVariableCompression;
+    private Integer sharedProcessVariableThresholdInBytes;
     private Integer fssCacheUpdateTimeoutMinutes;
     private Integer threadMonitorCacheUpdateInSeconds;
     private Integer spaceDeveloperCacheTimeInSeconds;
@@ -206,6 +261,9 @@ public class ApplicationConfiguration {
         getGlobalAuditorPassword();
         getDbConnectionThreads();
         getStepPollingIntervalInSeconds();
+        getMaxStepPollingIntervalInSeconds();
+        getServicePollingThreads();
+        getMaxParallelModuleDeployments();
         shouldSkipSslValidation();
         getVersion();
         getChangeLogLockPollRate();
@@ -221,6 +279,19 @@ public class ApplicationConfiguration {
         getAuditLogClientKeepAlive();
         getFssCacheUpdateTimeoutMinutes();
         getSnakeyamlMaxAliasesForCollections();
+        getCleanUpJobBatchSize();
+        getCleanUpJobTimeBudgetInMinutes();
+        getCleanUpJobThreads();
+        isFlowableJobExecutorAutoScalingEnabled();
+        shouldUseVirtualThreads();
+        getFlowableJobExecutorMaxSpaceShare();
+        getMaxActiveOperations();
+        getMaxActiveOperationsPerSpace();
+        getFlowableHistoryLevel();
+        isFlowableStartupFastPathEnabled();
+        getProcessVariableFormat();
+        shouldCompressProcessVariables();
+        getSharedProcessVariableThresholdInBytes();
     }
 
     protected AuditLoggingFacade getAuditLoggingFacade() {
@@ -240,14 +311,22 @@ public class ApplicationConfiguration {
         return new HashSet<>(Arrays.asList(CFG_TYPE, CFG_DB_TYPE, CFG_PLATFORM, CFG_MAX_UPLOAD_SIZE, CFG_MAX_MTA_DESCRIPTOR_SIZE,
                                            CFG_MAX_MANIFEST_SIZE, CFG_MAX_RESOURCE_FILE_SIZE, CFG_USE_XS_AUDIT_LOGGING,
                                            CFG_BASIC_AUTH_ENABLED, CFG_GLOBAL_AUDITOR_USER, CFG_STEP_POLLING_INTERVAL_IN_SECONDS,
+                                           CFG_MAX_STEP_POLLING_INTERVAL_IN_SECONDS, CFG_SERVICE_POLLING_THREADS,
+                                           CFG_MAX_PARALLEL_MODULE_DEPLOYMENTS,
                                            CFG_SKIP_SSL_VALIDATION, CFG_VERSION, CFG_CHANGE_LOG_LOCK_POLL_RATE,
                                            CFG_CHANGE_LOG_LOCK_DURATION, CFG_CHANGE_LOG_LOCK_ATTEMPTS, CFG_GLOBAL_CONFIG_SPACE,
                                            CFG_AUDIT_LOG_CLIENT_CORE_THREADS, CFG_AUDIT_LOG_CLIENT_MAX_THREADS,
                                            CFG_AUDIT_LOG_CLIENT_QUEUE_CAPACITY, CFG_FLOWABLE_JOB_EXECUTOR_CORE_THREADS,
                                            CFG_FLOWABLE_JOB_EXECUTOR_MAX_THREADS, CFG_FLOWABLE_JOB_EXECUTOR_QUEUE_CAPACITY,
+                                           CFG_FLOWABLE_JOB_EXECUTOR_AUTO_SCALING, CFG_USE_VIRTUAL_THREADS,
+                                           CFG_FLOWABLE_JOB_EXECUTOR_MAX_SPACE_SHARE, CFG_MAX_ACTIVE_OPERATIONS,
+                                           CFG_MAX_ACTIVE_OPERATIONS_PER_SPACE, CFG_FLOWABLE_HISTORY_LEVEL,
+                                           CFG_FLOWABLE_STARTUP_FAST_PATH_ENABLED, CFG_PROCESS_VARIABLE_FORMAT,
+                                           CFG_PROCESS_VARIABLE_COMPRESSION, CFG_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES,
                                            CFG_AUDIT_LOG_CLIENT_KEEP_ALIVE, CFG_CONTROLLER_CLIENT_CONNECTION_POOL_SIZE,
                                            CFG_CONTROLLER_CLIENT_THREAD_POOL_SIZE, CFG_DB_TRANSACTION_TIMEOUT_IN_SECONDS,
-                                           CFG_SNAKEYAML_MAX_ALIASES_FOR_COLLECTIONS));
+                                           CFG_SNAKEYAML_MAX_ALIASES_FOR_COLLECTIONS, CFG_CLEAN_UP_JOB_BATCH_SIZE,
+                                           CFG_CLEAN_UP_JOB_TIME_BUDGET_IN_MINUTES, CFG_CLEAN_UP_JOB_THREADS));
     }
 
     public Configuration getFileConfiguration() {
@@ -310,6 +389,27 @@ public class ApplicationConfiguration {
         return maxTtlForOldData;
     }
 
+    public Integer getCleanUpJobBatchSize() {
+        if (cleanUpJobBatchSize == null) {
+            cleanUpJobBatchSize = getCleanUpJobBatchSizeFromEnvironment();
+        }
+        return cleanUpJobBatchSize;
+    }
+
+    public Integer getCleanUpJobTimeBudgetInMinutes() {
+        if (cleanUpJobTimeBudgetInMinutes == null) {
+            cleanUpJobTimeBudgetInMinutes = getCleanUpJobTimeBudgetInMinutesFromEnvironment();
+        }
+        return cleanUpJobTimeBudgetInMinutes;
+    }
+
+    public Integer getCleanUpJobThreads() {
+        if (cleanUpJobThreads == null) {
+            cleanUpJobThreads = getCleanUpJobThreadsFromEnvironment();
+        }
+        return cleanUpJobThreads;
+    }
+
     public Boolean shouldUseXSAuditLogging() {
         if (useXSAuditLogging == null) {
             useXSAuditLogging = shouldUseXSAuditLoggingFromEnvironment();
@@ -373,6 +473,27 @@ public class ApplicationConfiguration {
         return stepPollingIntervalInSeconds;
     }
 
+    public int getMaxStepPollingIntervalInSeconds() {
+        if (maxStepPollingIntervalInSeconds == null) {
+            maxStepPollingIntervalInSeconds = getMaxStepPollingIntervalFromEnvironment();
+        }
+        return maxStepPollingIntervalInSeconds;
+    }
+
+    public Integer getServicePollingThreads() {
+        if (servicePollingThreads == null) {
+            servicePollingThreads = getServicePollingThreadsFromEnvironment();
+        }
+        return servicePollingThreads;
+    }
+
+    public Integer getMaxParallelModuleDeployments() {
+        if (maxParallelModuleDeployments == null) {
+            maxParallelModuleDeployments = getMaxParallelModuleDeploymentsFromEnvironment();
+        }
+        return maxParallelModuleDeployments;
+    }
+
     public Boolean shouldSkipSslValidation() {
         if (skipSslValidation == null) {
             skipSslValidation = shouldSkipSslValidationBasedOnEnvironment();
@@ -485,6 +606,76 @@ public class ApplicationConfiguration {
         return flowableJobExecutorQueueCapacity;
     }
 
+    public Boolean isFlowableJobExecutorAutoScalingEnabled() {
+        if (flowableJobExecutorAutoScaling == null) {
+            flowableJobExecutorAutoScaling = isFlowableJobExecutorAutoScalingEnabledThroughEnvironment();
+        }
+        return flowableJobExecutorAutoScaling;
+    }
+
+    public Boolean shouldUseVirtualThreads() {
+        if (useVirtualThreads == null) {
+            useVirtualThreads = shouldUseVirtualThreadsFromEnvironment();
+        }
+        return useVirtualThreads;
+    }
+
+    public Integer getFlowableJobExecutorMaxSpaceShare() {
+        if (flowableJobExecutorMaxSpaceShare == null) {
+            flowableJobExecutorMaxSpaceShare = getFlowableJobExecutorMaxSpaceShareFromEnvironment();
+        }
+        return flowableJobExecutorMaxSpaceShare;
+    }
+
+    public Integer getMaxActiveOperations() {
+        if (maxActiveOperations == null) {
+            maxActiveOperations = getMaxActiveOperationsFromEnvironment();
+        }
+        return maxActiveOperations;
+    }
+
+    public Integer getMaxActiveOperationsPerSpace() {
+        if (maxActiveOperationsPerSpace == null) {
+            maxActiveOperationsPerSpace = getMaxActiveOperationsPerSpaceFromEnvironment();
+        }
+        return maxActiveOperationsPerSpace;
+    }
+
+    public String getFlowableHistoryLevel() {
+        if (flowableHistoryLevel == null) {
+            flowableHistoryLevel = getFlowableHistoryLevelFromEnvironment();
+        }
+        return flowableHistoryLevel;
+    }
+
+    public Boolean isFlowableStartupFastPathEnabled() {
+        if (flowableStartupFastPathEnabled == null) {
+            flowableStartupFastPathEnabled = isFlowableStartupFastPathEnabledFromEnvironment();
+        }
+        return flowableStartupFastPathEnabled;
+    }
+
+    public String getProcessVariableFormat() {
+        if (processVariableFormat == null) {
+            processVariableFormat = getProcessVariableFormatFromEnvironment();
+        }
+        return processVariableFormat;
+    }
+
+    public Boolean shouldCompressProcessVariables() {
+        if (processVariableCompression == null) {
+            processVariableCompression = shouldCompressProcessVariablesFromEnvironment();
+        }
+        return processVariableCompression;
+    }
+
+    public Integer getSharedProcessVariableThresholdInBytes() {
+        if (sharedProcessVariableThresholdInBytes == null) {
+            sharedProcessVariableThresholdInBytes = getSharedProcessVariableThresholdInBytesFromEnvironment();
+        }
+        return sharedProcessVariableThresholdInBytes;
+    }
+
     public Integer getFssCacheUpdateTimeoutMinutes() {
         if (fssCacheUpdateTimeoutMinutes == null) {
             fssCacheUpdateTimeoutMinutes = getFssCacheUpdateTimeoutMinutesFromEnvironment();
@@ -631,6 +822,25 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private Integer getCleanUpJobBatchSizeFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_CLEAN_UP_JOB_BATCH_SIZE, DEFAULT_CLEAN_UP_JOB_BATCH_SIZE);
+        LOGGER.info(format(Messages.CLEAN_UP_JOB_BATCH_SIZE, value));
+        return value;
+    }
+
+    private Integer getCleanUpJobTimeBudgetInMinutesFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_CLEAN_UP_JOB_TIME_BUDGET_IN_MINUTES,
+                                                       DEFAULT_CLEAN_UP_JOB_TIME_BUDGET_IN_MINUTES);
+        LOGGER.info(format(Messages.CLEAN_UP_JOB_TIME_BUDGET_IN_MINUTES, value));
+        return value;
+    }
+
+    private Integer getCleanUpJobThreadsFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_CLEAN_UP_JOB_THREADS, DEFAULT_CLEAN_UP_JOB_THREADS);
+        LOGGER.info(format(Messages.CLEAN_UP_JOB_THREADS, value));
+        return value;
+    }
+
     private Boolean shouldUseXSAuditLoggingFromEnvironment() {
         Boolean value = environment.getBoolean(CFG_USE_XS_AUDIT_LOGGING, DEFAULT_USE_XS_AUDIT_LOGGING);
         LOGGER.info(format(Messages.USE_XS_AUDIT_LOGGING, value));
@@ -724,6 +934,24 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private int getMaxStepPollingIntervalFromEnvironment() {
+        int value = environment.getPositiveInteger(CFG_MAX_STEP_POLLING_INTERVAL_IN_SECONDS, DEFAULT_MAX_STEP_POLLING_INTERVAL_IN_SECONDS);
+        LOGGER.info(format(Messages.MAX_STEP_POLLING_INTERVAL_IN_SECONDS, value));
+        return value;
+    }
+
+    private Integer getServicePollingThreadsFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_SERVICE_POLLING_THREADS, DEFAULT_SERVICE_POLLING_THREADS);
+        LOGGER.info(format(Messages.SERVICE_POLLING_THREADS, value));
+        return value;
+    }
+
+    private Integer getMaxParallelModuleDeploymentsFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_MAX_PARALLEL_MODULE_DEPLOYMENTS, DEFAULT_MAX_PARALLEL_MODULE_DEPLOYMENTS);
+        LOGGER.info(format(Messages.MAX_PARALLEL_MODULE_DEPLOYMENTS, value));
+        return value;
+    }
+
     private Boolean shouldSkipSslValidationBasedOnEnvironment() {
         Boolean value = environment.getBoolean(CFG_SKIP_SSL_VALIDATION, DEFAULT_SKIP_SSL_VALIDATION);
         LOGGER.info(format(Messages.SKIP_SSL_VALIDATION, value));
@@ -843,6 +1071,85 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private Boolean isFlowableJobExecutorAutoScalingEnabledThroughEnvironment() {
+        Boolean value = environment.getBoolean(CFG_FLOWABLE_JOB_EXECUTOR_AUTO_SCALING, DEFAULT_FLOWABLE_JOB_EXECUTOR_AUTO_SCALING);
+        LOGGER.info(format(Messages.FLOWABLE_JOB_EXECUTOR_AUTO_SCALING, value));
+        return value;
+    }
+
+    private Boolean shouldUseVirtualThreadsFromEnvironment() {
+        Boolean value = environment.getBoolean(CFG_USE_VIRTUAL_THREADS, DEFAULT_USE_VIRTUAL_THREADS);
+        if (value && !VirtualThreadsUtil.isSupported()) {
+            LOGGER.warn(Messages.VIRTUAL_THREADS_ARE_NOT_SUPPORTED_USING_PLATFORM_THREADS);
+            value = false;
+        }
+        LOGGER.info(format(Messages.USE_VIRTUAL_THREADS, value));
+        return value;
+    }
+
+    private Integer getFlowableJobExecutorMaxSpaceShareFromEnvironment() {
+        Integer value = Math.min(100, environment.getPositiveInteger(CFG_FLOWABLE_JOB_EXECUTOR_MAX_SPACE_SHARE,
+                                                                     DEFAULT_FLOWABLE_JOB_EXECUTOR_MAX_SPACE_SHARE));
+        LOGGER.info(format(Messages.FLOWABLE_JOB_EXECUTOR_MAX_SPACE_SHARE, value));
+        return value;
+    }
+
+    private Integer getMaxActiveOperationsFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_MAX_ACTIVE_OPERATIONS, DEFAULT_MAX_ACTIVE_OPERATIONS);
+        LOGGER.info(format(Messages.MAX_ACTIVE_OPERATIONS, value));
+        return value;
+    }
+
+    private Integer getMaxActiveOperationsPerSpaceFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_MAX_ACTIVE_OPERATIONS_PER_SPACE, DEFAULT_MAX_ACTIVE_OPERATIONS_PER_SPACE);
+        LOGGER.info(format(Messages.MAX_ACTIVE_OPERATIONS_PER_SPACE, value));
+        return value;
+    }
+
+    private String getFlowableHistoryLevelFromEnvironment() {
+        String value = environment.getString(CFG_FLOWABLE_HISTORY_LEVEL, DEFAULT_FLOWABLE_HISTORY_LEVEL);
+        if (value == null || !SUPPORTED_FLOWABLE_HISTORY_LEVELS.contains(value.toLowerCase())) {
+            LOGGER.warn(format(Messages.UNSUPPORTED_FLOWABLE_HISTORY_LEVEL, value, DEFAULT_FLOWABLE_HISTORY_LEVEL));
+            value = DEFAULT_FLOWABLE_HISTORY_LEVEL;
+        }
+        value = value.toLowerCase();
+        LOGGER.info(format(Messages.FLOWABLE_HISTORY_LEVEL, value));
+        return value;
+    }
+
+    private Boolean isFlowableStartupFastPathEnabledFromEnvironment() {
+        Boolean value = environment.getBoolean(CFG_FLOWABLE_STARTUP_FAST_PATH_ENABLED, DEFAULT_FLOWABLE_STARTUP_FAST_PATH_ENABLED);
+        LOGGER.info(format(Messages.FLOWABLE_STARTUP_FAST_PATH_ENABLED, value));
+        return value;
+    }
+
+    private String getProcessVariableFormatFromEnvironment() {
+        String value = environment.getString(CFG_PROCESS_VARIABLE_FORMAT, DEFAULT_PROCESS_VARIABLE_FORMAT);
+        if (value == null || !SUPPORTED_PROCESS_VARIABLE_FORMATS.contains(value.toLowerCase())) {
+            LOGGER.warn(format(Messages.UNSUPPORTED_PROCESS_VARIABLE_FORMAT, value, DEFAULT_PROCESS_VARIABLE_FORMAT));
+            value = DEFAULT_PROCESS_VARIABLE_FORMAT;
+        }
+        value = value.toLowerCase();
+        LOGGER.info(format(Messages.PROCESS_VARIABLE_FORMAT, value));
+        return value;
+    }
+
+    private Boolean shouldCompressProcessVariablesFromEnvironment() {
+        Boolean value = environment.getBoolean(CFG_PROCESS_VARIABLE_COMPRESSION, DEFAULT_PROCESS_VARIABLE_COMPRESSION);
+        LOGGER.info(format(Messages.PROCESS_VARIABLE_COMPRESSION, value));
+        return value;
+    }
+
+    private Integer getSharedProcessVariableThresholdInBytesFromEnvironment() {
+        Integer value = environment.getInteger(CFG_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES,
+                                               DEFAULT_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES);
+        if (value == null || value < 0) {
+            value = DEFAULT_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES;
+        }
+        LOGGER.info(format(Messages.SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES, value));
+        return value;
+    }
+
     private String getCronExpression(String name, String defaultValue) {
         String value = environment.getString(name);
         if (value != null && org.quartz.CronExpression.isValidExpression(value)) {
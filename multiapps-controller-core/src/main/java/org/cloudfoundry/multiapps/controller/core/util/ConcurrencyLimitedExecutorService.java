@@ -0,0 +1,120 @@
+package org.cloudfoundry.multiapps.controller.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of tasks that run at the same time on an executor, which does not limit them on its own (e.g. one that starts a new
+ * virtual thread for each task). Tasks submitted above the limit wait in a queue of the given capacity, and are rejected once it is full,
+ * as they would be by a thread pool.
+ */
+class ConcurrencyLimitedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final int maxConcurrentTasks;
+    private final Semaphore permits;
+    private final BlockingQueue<Runnable> queue;
+    private volatile boolean shutdown;
+
+    ConcurrencyLimitedExecutorService(ExecutorService delegate, int maxConcurrentTasks) {
+        this(delegate, maxConcurrentTasks, 0);
+    }
+
+    ConcurrencyLimitedExecutorService(ExecutorService delegate, int maxConcurrentTasks, int queueCapacity) {
+        this.delegate = delegate;
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.permits = new Semaphore(maxConcurrentTasks);
+        this.queue = queueCapacity == 0 ? new SynchronousQueue<>() : new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException();
+        }
+        if (queue.isEmpty() && permits.tryAcquire()) {
+            start(command);
+            return;
+        }
+        if (!queue.offer(command)) {
+            throw new RejectedExecutionException();
+        }
+        startQueuedTasks();
+    }
+
+    // A queued task is started either here, or by one of the running tasks when it completes, since the queue is checked after every
+    // release of a permit:
+    private void startQueuedTasks() {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            Runnable task = queue.poll();
+            if (task == null) {
+                permits.release();
+            } else {
+                start(task);
+            }
+        }
+    }
+
+    private void start(Runnable task) {
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                    startQueuedTasks();
+                    shutdownDelegateIfIdle();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // The delegate is shut down once the queued tasks are started, since it does not accept them afterwards:
+    private void shutdownDelegateIfIdle() {
+        if (shutdown && queue.isEmpty() && permits.availablePermits() == maxConcurrentTasks) {
+            delegate.shutdown();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        shutdownDelegateIfIdle();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> tasks = new ArrayList<>();
+        queue.drainTo(tasks);
+        tasks.addAll(delegate.shutdownNow());
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.core.util;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +12,8 @@ import org.cloudfoundry.multiapps.common.ParsingException;
 import org.cloudfoundry.multiapps.controller.core.model.CloudTarget;
 import org.cloudfoundry.multiapps.controller.core.model.ConfigurationEntry;
 import org.cloudfoundry.multiapps.controller.core.model.ConfigurationFilter;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationEntryBatchQuery;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationEntryQuery;
 import org.cloudfoundry.multiapps.controller.core.persistence.service.ConfigurationEntryService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,15 +56,8 @@ public class ConfigurationEntriesUtil {
         Map<String, Object> requiredContent = filter.getRequiredContent();
         LOGGER.debug("searching for configuration entries with provider nid {}, id {}, version {}, org {}, space {}, content {}, visibleTargets {}",
                      providerNid, providerId, providerVersion, org, space, requiredContent, cloudTargets);
-        List<ConfigurationEntry> result = configurationEntryService.createQuery()
-                                                                   .providerNid(providerNid)
-                                                                   .providerId(providerId)
-                                                                   .version(providerVersion)
-                                                                   .providerNamespace(providerNamespace, false)
-                                                                   .target(targetSpace)
-                                                                   .requiredProperties(requiredContent)
-                                                                   .visibilityTargets(cloudTargets)
-                                                                   .list();
+        List<ConfigurationEntry> result = buildQuery(configurationEntryService.createQuery(), filter, targetSpace, false,
+                                                     cloudTargets).list();
         if (!result.isEmpty()) {
             LOGGER.debug("result found {}", result);
             return result;
@@ -74,6 +70,60 @@ public class ConfigurationEntriesUtil {
                                                                   globalConfigTarget);
     }
 
+    /**
+     * Finds the entries of several filters with one query, and with one more query for the filters which have no entries in their target
+     * space, but may have entries in the global configuration space.
+     *
+     * @return the entries for each filter, in the order of the filters
+     */
+    public static List<List<ConfigurationEntry>> findConfigurationEntries(ConfigurationEntryService configurationEntryService,
+                                                                          List<ConfigurationFilter> filters, List<CloudTarget> cloudTargets,
+                                                                          CloudTarget globalConfigTarget) {
+        LOGGER.debug("searching for configuration entries of {} filters, visibleTargets {}", filters.size(), cloudTargets);
+        ConfigurationEntryBatchQuery batchQuery = configurationEntryService.createBatchQuery();
+        for (ConfigurationFilter filter : filters) {
+            batchQuery.add(query -> buildQuery(query, filter, filter.getTargetSpace(), false, cloudTargets));
+        }
+        List<List<ConfigurationEntry>> result = new ArrayList<>(batchQuery.list());
+        if (globalConfigTarget == null) {
+            return result;
+        }
+        List<Integer> filtersForGlobalConfigTarget = new ArrayList<>();
+        for (int i = 0; i < filters.size(); i++) {
+            if (result.get(i)
+                      .isEmpty()
+                && !filters.get(i)
+                           .isStrictTargetSpace()) {
+                filtersForGlobalConfigTarget.add(i);
+            }
+        }
+        if (filtersForGlobalConfigTarget.isEmpty()) {
+            return result;
+        }
+        LOGGER.debug("searching for configuration entries in global config space {}", globalConfigTarget);
+        ConfigurationEntryBatchQuery globalConfigBatchQuery = configurationEntryService.createBatchQuery();
+        for (int i : filtersForGlobalConfigTarget) {
+            ConfigurationFilter filter = filters.get(i);
+            globalConfigBatchQuery.add(query -> buildQuery(query, filter, globalConfigTarget, true, cloudTargets));
+        }
+        List<List<ConfigurationEntry>> globalConfigResult = globalConfigBatchQuery.list();
+        for (int i = 0; i < filtersForGlobalConfigTarget.size(); i++) {
+            result.set(filtersForGlobalConfigTarget.get(i), globalConfigResult.get(i));
+        }
+        return result;
+    }
+
+    private static ConfigurationEntryQuery buildQuery(ConfigurationEntryQuery query, ConfigurationFilter filter, CloudTarget target,
+                                                      boolean considerNullNamespaceAsEmpty, List<CloudTarget> cloudTargets) {
+        return query.providerNid(filter.getProviderNid())
+                    .providerId(filter.getProviderId())
+                    .version(filter.getProviderVersion())
+                    .providerNamespace(filter.getProviderNamespace(), considerNullNamespaceAsEmpty)
+                    .target(target)
+                    .requiredProperties(filter.getRequiredContent())
+                    .visibilityTargets(cloudTargets);
+    }
+
     public static List<ConfigurationEntry>
            findConfigurationEntriesInGlobalConfigurationSpace(ConfigurationEntryService configurationEntryService, String providerNid,
                                                               String providerVersion, String providerNamespace, String providerId,
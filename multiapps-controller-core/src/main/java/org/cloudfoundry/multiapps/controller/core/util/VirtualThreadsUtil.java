@@ -0,0 +1,72 @@
+package org.cloudfoundry.multiapps.controller.core.util;
+
+import java.text.MessageFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.cloudfoundry.multiapps.controller.core.Messages;
+
+/**
+ * Creates executors, which run each task on a new virtual thread. The virtual threads API is accessed reflectively, because the
+ * application is compiled for JDKs that do not have it.
+ */
+public class VirtualThreadsUtil {
+
+    private static final String THREAD_BUILDER_CLASS = "java.lang.Thread$Builder";
+    private static final boolean SUPPORTED = isSupportedByJdk();
+
+    private VirtualThreadsUtil() {
+    }
+
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Creates an executor, which runs each task on a new virtual thread, but rejects tasks while {@code maxConcurrentTasks} are running.
+     * Virtual threads are cheap, but the resources used by the tasks (e.g. database connections) are not.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String threadNamePrefix, int maxConcurrentTasks) {
+        return new ConcurrencyLimitedExecutorService(newThreadPerTaskExecutor(threadNamePrefix), maxConcurrentTasks);
+    }
+
+    /**
+     * Creates an executor, which runs each task on a new virtual thread, while less than {@code maxConcurrentTasks} are running. The other
+     * tasks wait in a queue with the given capacity, like in a thread pool.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String threadNamePrefix, int maxConcurrentTasks, int queueCapacity) {
+        return new ConcurrencyLimitedExecutorService(newThreadPerTaskExecutor(threadNamePrefix), maxConcurrentTasks, queueCapacity);
+    }
+
+    public static ExecutorService newThreadPerTaskExecutor(String threadNamePrefix) {
+        if (!SUPPORTED) {
+            throw new UnsupportedOperationException(Messages.VIRTUAL_THREADS_ARE_NOT_SUPPORTED);
+        }
+        try {
+            Class<?> threadBuilderClass = Class.forName(THREAD_BUILDER_CLASS);
+            Object threadBuilder = Thread.class.getMethod("ofVirtual")
+                                               .invoke(null);
+            threadBuilder = threadBuilderClass.getMethod("name", String.class, long.class)
+                                              .invoke(threadBuilder, threadNamePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) threadBuilderClass.getMethod("factory")
+                                                                            .invoke(threadBuilder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                                                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(MessageFormat.format(Messages.ERROR_CREATING_VIRTUAL_THREAD_EXECUTOR, e.getMessage()), e);
+        }
+    }
+
+    // Virtual threads are a preview feature in some JDKs, in which case Thread.ofVirtual() fails, unless previews are enabled:
+    private static boolean isSupportedByJdk() {
+        try {
+            Thread.class.getMethod("ofVirtual")
+                        .invoke(null);
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
+
+}
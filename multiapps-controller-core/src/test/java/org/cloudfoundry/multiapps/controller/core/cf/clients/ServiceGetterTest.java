@@ -3,16 +3,19 @@ package org.cloudfoundry.multiapps.controller.core.cf.clients;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
 import org.apache.commons.collections4.MapUtils;
 import org.cloudfoundry.client.lib.CloudControllerClient;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -67,6 +70,27 @@ class ServiceGetterTest {
         verify(serviceInstanceGetter).getServiceInstanceEntity(client, SERVICE_NAME, SPACE_ID);
     }
 
+    @Test
+    void testGetServiceInstanceEntities() {
+        Map<String, Object> serviceInstance = Map.of("test-service-instance", "test-value");
+        Map<String, Object> userProvidedInstance = Map.of("test-user-provided-instance", "test-value");
+        when(serviceInstanceGetter.getServiceInstanceEntities(client, List.of(SERVICE_NAME, "test-user-provided-service", "missing-service"),
+                                                              SPACE_ID)).thenReturn(Map.of(SERVICE_NAME, serviceInstance));
+        when(userProvidedInstanceGetter.getServiceInstanceEntities(eq(client), any(),
+                                                                   eq(SPACE_ID))).thenReturn(Map.of("test-user-provided-service",
+                                                                                                    userProvidedInstance));
+
+        Map<String, Map<String, Object>> serviceInstanceEntities = serviceGetter.getServiceInstanceEntities(client,
+                                                                                                            List.of(SERVICE_NAME,
+                                                                                                                    "test-user-provided-service",
+                                                                                                                    "missing-service"),
+                                                                                                            SPACE_ID);
+
+        assertEquals(Map.of(SERVICE_NAME, serviceInstance, "test-user-provided-service", userProvidedInstance), serviceInstanceEntities);
+        verify(userProvidedInstanceGetter).getServiceInstanceEntities(client, List.of("test-user-provided-service", "missing-service"),
+                                                                      SPACE_ID);
+    }
+
     private void prepareServiceGetters(Map<String, Object> serviceInstanceGetterResponse,
                                        Map<String, Object> userProvidedInstanceGetterResponse) {
         when(serviceInstanceGetter.getServiceInstanceEntity(any(), anyString(), anyString())).thenReturn(serviceInstanceGetterResponse);
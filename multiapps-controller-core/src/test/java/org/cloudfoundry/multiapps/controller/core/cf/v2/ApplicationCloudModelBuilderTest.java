@@ -0,0 +1,106 @@
+package org.cloudfoundry.multiapps.controller.core.cf.v2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
+import org.cloudfoundry.multiapps.controller.core.helpers.ModuleToDeployHelper;
+import org.cloudfoundry.multiapps.controller.core.model.SupportedParameters;
+import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.cloudfoundry.multiapps.mta.model.Module;
+import org.cloudfoundry.multiapps.mta.model.RequiredDependency;
+import org.cloudfoundry.multiapps.mta.model.Resource;
+import org.cloudfoundry.multiapps.mta.util.PropertiesUtil;
+import org.junit.jupiter.api.Test;
+
+class ApplicationCloudModelBuilderTest {
+
+    private static final int MODULES_COUNT = 120;
+    private static final int RESOURCES_COUNT = 40;
+    private static final int REQUIRED_DEPENDENCIES_PER_MODULE_COUNT = 5;
+
+    private final DeploymentDescriptor descriptor = createLargeDescriptor();
+    private final ApplicationCloudModelBuilder builder = new ApplicationCloudModelBuilder(descriptor, false, null, "deploy-id", null,
+                                                                                          null);
+
+    @Test
+    void testModuleParametersAreBuiltOnce() {
+        Module module = descriptor.getModules()
+                                  .get(0);
+
+        List<Map<String, Object>> parametersList = builder.getModuleParameters(module);
+
+        assertSame(parametersList, builder.getModuleParameters(module));
+        assertEquals("512M", PropertiesUtil.getPropertyValue(parametersList, SupportedParameters.MEMORY, null));
+    }
+
+    @Test
+    void testBuildLargeDescriptor() {
+        List<CloudApplicationExtended> applications = descriptor.getModules()
+                                                                .stream()
+                                                                .map(module -> builder.build(module, new ModuleToDeployHelper()))
+                                                                .collect(Collectors.toList());
+
+        assertEquals(MODULES_COUNT, applications.size());
+        for (int i = 0; i < MODULES_COUNT; i++) {
+            CloudApplicationExtended application = applications.get(i);
+            assertEquals("module-" + i, application.getName());
+            assertEquals(getServiceNames(i), application.getServices());
+            assertEquals(512, application.getMemory());
+        }
+    }
+
+    private static List<String> getServiceNames(int moduleIndex) {
+        return IntStream.range(0, REQUIRED_DEPENDENCIES_PER_MODULE_COUNT)
+                        .mapToObj(i -> "service-" + getResourceIndex(moduleIndex, i))
+                        .collect(Collectors.toList());
+    }
+
+    private static DeploymentDescriptor createLargeDescriptor() {
+        List<Resource> resources = IntStream.range(0, RESOURCES_COUNT)
+                                            .mapToObj(ApplicationCloudModelBuilderTest::createResource)
+                                            .collect(Collectors.toList());
+        List<Module> modules = IntStream.range(0, MODULES_COUNT)
+                                        .mapToObj(ApplicationCloudModelBuilderTest::createModule)
+                                        .collect(Collectors.toList());
+        return DeploymentDescriptor.createV2()
+                                   .setId("large-mta")
+                                   .setVersion("1.0.0")
+                                   .setModules(modules)
+                                   .setResources(resources);
+    }
+
+    private static Resource createResource(int index) {
+        return Resource.createV2()
+                       .setName("resource-" + index)
+                       .setType("org.cloudfoundry.managed-service")
+                       .setParameters(Map.of(SupportedParameters.SERVICE_NAME, "service-" + index, SupportedParameters.SERVICE,
+                                             "xsuaa", SupportedParameters.SERVICE_PLAN, "default", SupportedParameters.TYPE,
+                                             "managed-service"));
+    }
+
+    private static Module createModule(int index) {
+        List<RequiredDependency> requiredDependencies = IntStream.range(0, REQUIRED_DEPENDENCIES_PER_MODULE_COUNT)
+                                                                 .mapToObj(i -> RequiredDependency.createV2()
+                                                                                                  .setName("resource-"
+                                                                                                      + getResourceIndex(index, i)))
+                                                                 .collect(Collectors.toList());
+        return Module.createV2()
+                     .setName("module-" + index)
+                     .setType("javascript.nodejs")
+                     .setParameters(Map.of(SupportedParameters.APP_NAME, "module-" + index, SupportedParameters.MEMORY, "512M",
+                                           SupportedParameters.NO_ROUTE, true))
+                     .setProperties(Map.of("property", "value-" + index))
+                     .setRequiredDependencies(requiredDependencies);
+    }
+
+    private static int getResourceIndex(int moduleIndex, int dependencyIndex) {
+        return (moduleIndex + dependencyIndex) % RESOURCES_COUNT;
+    }
+
+}
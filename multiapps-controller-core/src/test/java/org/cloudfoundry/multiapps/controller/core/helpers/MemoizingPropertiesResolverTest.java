@@ -0,0 +1,130 @@
+package org.cloudfoundry.multiapps.controller.core.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.cloudfoundry.multiapps.common.ContentException;
+import org.cloudfoundry.multiapps.mta.resolvers.PropertiesResolver;
+import org.cloudfoundry.multiapps.mta.resolvers.ProvidedValuesResolver;
+import org.cloudfoundry.multiapps.mta.resolvers.ReferencePattern;
+import org.junit.jupiter.api.Test;
+
+class MemoizingPropertiesResolverTest {
+
+    private static final int USERS_OF_SHARED_PROPERTIES = 50;
+
+    private final AtomicInteger resolvedReferences = new AtomicInteger();
+
+    @Test
+    void testResolvedPropertiesAreTheSameAsWithoutMemoization() {
+        Map<String, Object> properties = createPropertiesWithSharedReferences();
+
+        Map<String, Object> expectedProperties = new PropertiesResolver(properties, createValuesResolver(properties),
+                                                                        ReferencePattern.PLACEHOLDER, "").resolve();
+        Map<String, Object> resolvedProperties = createResolver(properties).resolve();
+
+        assertEquals(expectedProperties, resolvedProperties);
+        assertEquals("https://app.example.com/7", resolvedProperties.get("url-7"));
+        assertEquals(List.of("8080"), getNestedList(resolvedProperties, "user-7"));
+    }
+
+    @Test
+    void testEveryReferenceIsResolvedOnce() {
+        Map<String, Object> properties = createPropertiesWithSharedReferences();
+
+        new PropertiesResolver(properties, createValuesResolver(properties), ReferencePattern.PLACEHOLDER, "").resolve();
+        int resolvedReferencesWithoutMemoization = resolvedReferences.getAndSet(0);
+        createResolver(properties).resolve();
+
+        assertEquals(4, resolvedReferences.get());
+        assertTrue(resolvedReferencesWithoutMemoization > USERS_OF_SHARED_PROPERTIES * 4);
+    }
+
+    @Test
+    void testResolvedValuesAreNotShared() {
+        Map<String, Object> resolvedProperties = createResolver(createPropertiesWithSharedReferences()).resolve();
+
+        assertNotSame(resolvedProperties.get("user-1"), resolvedProperties.get("user-2"));
+        assertNotSame(getNestedList(resolvedProperties, "user-1"), getNestedList(resolvedProperties, "user-2"));
+    }
+
+    @Test
+    void testOrderOfResolvedPropertiesIsTheSameAsWithoutMemoization() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("host", "app");
+        properties.put("port", "8080");
+        properties.put("shared", Map.of("z", "${host}", "a", "${port}", "m", "https"));
+        properties.put("user-1", "${shared}");
+        properties.put("user-2", "${shared}");
+
+        Map<String, Object> expectedProperties = new PropertiesResolver(properties, createValuesResolver(properties),
+                                                                        ReferencePattern.PLACEHOLDER, "").resolve();
+        Map<String, Object> resolvedProperties = createResolver(properties).resolve();
+
+        assertEquals(getKeys(expectedProperties, "user-1"), getKeys(resolvedProperties, "user-1"));
+        assertEquals(getKeys(expectedProperties, "user-2"), getKeys(resolvedProperties, "user-2"));
+    }
+
+    @Test
+    void testReferencesUsedMoreThanOnceAreNotCircular() {
+        Map<String, Object> properties = Map.of("host", "app", "base", "${host}.example.com", "urls", "https://${base}/a,https://${base}/b",
+                                                "shared", Map.of("a", "${base}/a", "b", "${base}/b"), "user", "${shared}");
+
+        Map<String, Object> resolvedProperties = createResolver(properties).resolve();
+
+        assertEquals(Map.of("a", "app.example.com/a", "b", "app.example.com/b"), resolvedProperties.get("user"));
+    }
+
+    @Test
+    void testCircularReferencesAreDetected() {
+        Map<String, Object> properties = Map.of("a", "${b}", "b", "${c}", "c", "prefix-${a}");
+
+        assertThrows(ContentException.class, () -> createResolver(properties).resolve());
+    }
+
+    private PropertiesResolver createResolver(Map<String, Object> properties) {
+        return new MemoizingResolverBuilder().build(properties, createValuesResolver(properties), ReferencePattern.PLACEHOLDER, "", true);
+    }
+
+    private ProvidedValuesResolver createValuesResolver(Map<String, Object> properties) {
+        return dependencyName -> {
+            resolvedReferences.incrementAndGet();
+            return properties;
+        };
+    }
+
+    private static Map<String, Object> createPropertiesWithSharedReferences() {
+        Map<String, Object> properties = new TreeMap<>();
+        properties.put("host", "app");
+        properties.put("port", "8080");
+        properties.put("base", "${host}.example.com");
+        properties.put("shared", Map.of("a", "${base}/a", "nested", Map.of("list", List.of("${port}"))));
+        for (int i = 0; i < USERS_OF_SHARED_PROPERTIES; i++) {
+            properties.put("user-" + i, "${shared}");
+            properties.put("url-" + i, "https://${base}/" + i);
+        }
+        return properties;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> getKeys(Map<String, Object> properties, String key) {
+        return new ArrayList<>(((Map<String, Object>) properties.get(key)).keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> getNestedList(Map<String, Object> properties, String key) {
+        Map<String, Object> shared = (Map<String, Object>) properties.get(key);
+        Map<String, Object> nested = (Map<String, Object>) shared.get("nested");
+        return (List<Object>) nested.get("list");
+    }
+
+}
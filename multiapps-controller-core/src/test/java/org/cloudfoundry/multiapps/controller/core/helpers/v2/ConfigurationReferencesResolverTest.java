@@ -15,8 +15,10 @@ import org.cloudfoundry.multiapps.common.util.YamlParser;
 import org.cloudfoundry.multiapps.controller.core.model.CloudTarget;
 import org.cloudfoundry.multiapps.controller.core.model.ConfigurationEntry;
 import org.cloudfoundry.multiapps.controller.core.model.ConfigurationFilter;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationEntryBatchQuery;
 import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationEntryQuery;
 import org.cloudfoundry.multiapps.controller.core.persistence.service.ConfigurationEntryService;
+import org.cloudfoundry.multiapps.controller.core.test.BatchQueryMock;
 import org.cloudfoundry.multiapps.controller.core.test.MockBuilder;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.mta.builders.v2.ParametersChainBuilder;
@@ -116,8 +118,12 @@ public class ConfigurationReferencesResolverTest {
 
     protected void prepareService() {
         when(configurationEntryService.createQuery()).thenReturn(configurationEntryQuery);
+        when(configurationEntryService.createBatchQuery()).thenAnswer(invocation -> BatchQueryMock.create(ConfigurationEntryBatchQuery.class,
+                                                                                                              configurationEntryQuery,
+                                                                                                              ConfigurationEntryQuery::list));
     }
 
+
     protected void prepareConfigurationEntries(String configurationEntriesLocation) {
         List<ServiceMockConfiguration> serviceConfigurations = JsonUtil.fromJson(TestUtil.getResourceAsString(configurationEntriesLocation,
                                                                                                               getClass()),
@@ -7,6 +7,7 @@ import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
@@ -142,6 +143,37 @@ class ConfigurationEntryServiceTest {
 
     }
 
+    @Test
+    void testBatchQuery() {
+        addConfigurationEntries(ALL_ENTRIES);
+
+        List<List<ConfigurationEntry>> result = configurationEntryService.createBatchQuery()
+                                                                         .add(query -> query.providerId(CONFIGURATION_ENTRY_1.getProviderId()))
+                                                                         .add(query -> query.providerNid(CONFIGURATION_ENTRY_3.getProviderNid()))
+                                                                         .add(query -> query.version(">3.0.0"))
+                                                                         .add(query -> query.providerNamespace(null, true)
+                                                                                            .target(CONFIGURATION_ENTRY_2.getTargetSpace()))
+                                                                         .add(query -> query.providerId("providerId4"))
+                                                                         .list();
+
+        assertEquals(Arrays.asList(Arrays.asList(1L), Arrays.asList(3L), Arrays.asList(2L, 3L), Arrays.asList(2L), Collections.emptyList()),
+                     getIds(result));
+    }
+
+    @Test
+    void testEmptyBatchQuery() {
+        assertEquals(Collections.emptyList(), configurationEntryService.createBatchQuery()
+                                                                       .list());
+    }
+
+    private List<List<Long>> getIds(List<List<ConfigurationEntry>> entriesPerQuery) {
+        return entriesPerQuery.stream()
+                              .map(entries -> entries.stream()
+                                                     .map(ConfigurationEntry::getId)
+                                                     .collect(Collectors.toList()))
+                              .collect(Collectors.toList());
+    }
+
     private void testQueryByCriteria(ConfigurationEntryQueryBuilder configurationEntryQueryBuilder) {
 
         addConfigurationEntries(ALL_ENTRIES);
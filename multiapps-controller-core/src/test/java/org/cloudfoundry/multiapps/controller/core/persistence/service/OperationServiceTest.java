@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.core.persistence.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.text.MessageFormat;
@@ -9,6 +10,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
@@ -73,6 +75,11 @@ class OperationServiceTest {
         testQueryByCriteria((query, operation) -> query.processId(operation.getProcessId()), OPERATION_1, OPERATION_2);
     }
 
+    @Test
+    void testQueryByProcessIdGreaterThan() {
+        testQueryByCriteria((query, operation) -> query.processIdGreaterThan(OPERATION_1.getProcessId()), OPERATION_2, OPERATION_1);
+    }
+
     @Test
     void testQueryByProcessType() {
         testQueryByCriteria((query, operation) -> query.processType(operation.getProcessType()), OPERATION_1, OPERATION_2);
@@ -143,6 +150,90 @@ class OperationServiceTest {
         testQueryByCriteria((query, operation) -> query.inFinalState(), operation1, OPERATION_2);
     }
 
+    @Test
+    void testQueryInFinalStateExcludesQueuedOperations() {
+        Operation operation1 = ImmutableOperation.copyOf(OPERATION_1)
+                                                 .withState(Operation.State.ABORTED);
+        Operation operation2 = ImmutableOperation.copyOf(OPERATION_2)
+                                                 .withState(Operation.State.QUEUED);
+        testQueryByCriteria((query, operation) -> query.inFinalState(), operation1, operation2);
+    }
+
+    @Test
+    void testQueryInNonFinalStateExcludesQueuedOperations() {
+        Operation operation2 = ImmutableOperation.copyOf(OPERATION_2)
+                                                 .withEndedAt(null)
+                                                 .withState(Operation.State.QUEUED);
+        testQueryByCriteria((query, operation) -> query.inNonFinalState(), OPERATION_1, operation2);
+    }
+
+    @Test
+    void testQueryQueued() {
+        testQueryByCriteria((query, operation) -> query.queued(true), createQueuedOperation(), OPERATION_2);
+    }
+
+    @Test
+    void testCountPerSpace() {
+        Operation operation3 = ImmutableOperation.copyOf(OPERATION_1)
+                                                 .withProcessId("3");
+        addOperations(Arrays.asList(OPERATION_1, OPERATION_2, operation3));
+
+        assertEquals(Map.of("spaceId", 2L, "spaceId1", 1L), operationService.createQuery()
+                                                                           .countPerSpace());
+        assertEquals(Map.of("spaceId", 2L), operationService.createQuery()
+                                                            .acquiredLock(false)
+                                                            .countPerSpace());
+    }
+
+    @Test
+    void testMarkAsStarted() {
+        Operation queuedOperation = createQueuedOperation();
+        operationService.add(queuedOperation);
+
+        assertEquals(queuedOperation, operationService.createQuery()
+                                                      .processId(queuedOperation.getProcessId())
+                                                      .singleResult());
+        assertEquals(1, operationService.createQuery()
+                                        .processId(queuedOperation.getProcessId())
+                                        .queued(true)
+                                        .markAsStarted());
+        // Operations can be started only once:
+        assertEquals(0, operationService.createQuery()
+                                        .processId(queuedOperation.getProcessId())
+                                        .queued(true)
+                                        .markAsStarted());
+        Operation startedOperation = operationService.createQuery()
+                                                     .processId(queuedOperation.getProcessId())
+                                                     .singleResult();
+        assertNull(startedOperation.getState());
+        assertEquals(Collections.emptyMap(), startedOperation.getParameters());
+    }
+
+    @Test
+    void testMarkAsAborted() {
+        Operation queuedOperation = createQueuedOperation();
+        operationService.add(queuedOperation);
+        Date endedAt = toDate(ZonedDateTime.parse("2010-10-14T10:00:00.000Z[UTC]"));
+
+        assertEquals(1, operationService.createQuery()
+                                        .processId(queuedOperation.getProcessId())
+                                        .queued(true)
+                                        .markAsAborted(endedAt));
+        Operation abortedOperation = operationService.createQuery()
+                                                     .processId(queuedOperation.getProcessId())
+                                                     .singleResult();
+        assertEquals(Operation.State.ABORTED, abortedOperation.getState());
+        assertEquals(endedAt, toDate(abortedOperation.getEndedAt()));
+        assertEquals(Collections.emptyMap(), abortedOperation.getParameters());
+    }
+
+    private static Operation createQueuedOperation() {
+        return ImmutableOperation.copyOf(OPERATION_1)
+                                 .withEndedAt(null)
+                                 .withState(Operation.State.QUEUED)
+                                 .withParameters(Map.of("mtaId", "anatz", "keepFiles", true, "startTimeout", 3600));
+    }
+
     private void testQueryByCriteria(OperationQueryBuilder operationQueryBuilder, Operation operation1, Operation operation2) {
         addOperations(Arrays.asList(operation1, operation2));
         assertEquals(1, operationQueryBuilder.build(operationService.createQuery(), operation1)
@@ -0,0 +1,128 @@
+package org.cloudfoundry.multiapps.controller.core.persistence.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
+import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
+import org.cloudfoundry.multiapps.controller.core.persistence.service.OperationService.OperationMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ProcessVariableContentServiceTest {
+
+    private static final String DIGEST_1 = "0A1B";
+    private static final String DIGEST_2 = "2C3D";
+    private static final String PROCESS_ID_1 = "1";
+    private static final String PROCESS_ID_2 = "2";
+    private static final byte[] CONTENT = "{\"modules\":[]}".getBytes(StandardCharsets.UTF_8);
+    private static final String DATABASE_URL = "jdbc:derby:memory:configuration-subscriptions";
+    private static final String DATABASE_USER = "root";
+    private static final Date PAST = new Date(0);
+    private static final Date FUTURE = Date.from(ZonedDateTime.now()
+                                                           .plusDays(1)
+                                                           .toInstant());
+
+    private final EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
+    private final ProcessVariableContentService processVariableContentService = new ProcessVariableContentService(entityManagerFactory);
+    private final OperationService operationService = createOperationService();
+
+    private final Connection connection = openConnection();
+
+    @AfterEach
+    void cleanUp() throws SQLException {
+        connection.close();
+        operationService.createQuery()
+                        .delete();
+        processVariableContentService.deleteContentOfDeletedOperations(FUTURE);
+    }
+
+    @Test
+    void testStore() throws SQLException {
+        processVariableContentService.store(connection, DIGEST_1, PROCESS_ID_1, CONTENT);
+        connection.commit();
+
+        assertArrayEquals(CONTENT, processVariableContentService.find(DIGEST_1));
+    }
+
+    @Test
+    void testStoreIsRolledBackWithTransaction() throws SQLException {
+        processVariableContentService.store(connection, DIGEST_1, PROCESS_ID_1, CONTENT);
+        connection.rollback();
+
+        assertNull(processVariableContentService.find(DIGEST_1));
+    }
+
+    @Test
+    void testStoreSameContentTwice() throws SQLException {
+        processVariableContentService.store(connection, DIGEST_2, PROCESS_ID_1, CONTENT);
+        processVariableContentService.store(connection, DIGEST_2, PROCESS_ID_1, CONTENT);
+        connection.commit();
+        processVariableContentService.store(connection, DIGEST_2, PROCESS_ID_1, CONTENT);
+        processVariableContentService.store(connection, DIGEST_2, PROCESS_ID_2, CONTENT);
+        connection.commit();
+
+        assertArrayEquals(CONTENT, processVariableContentService.find(DIGEST_2));
+    }
+
+    @Test
+    void testFindMissingContent() {
+        assertNull(processVariableContentService.find("4E5F"));
+    }
+
+    @Test
+    void testDeleteContentOfDeletedOperations() throws SQLException {
+        addOperation(PROCESS_ID_1);
+        processVariableContentService.store(connection, DIGEST_1, PROCESS_ID_1, CONTENT);
+        processVariableContentService.store(connection, DIGEST_1, PROCESS_ID_2, CONTENT);
+        processVariableContentService.store(connection, DIGEST_2, PROCESS_ID_2, CONTENT);
+        connection.commit();
+
+        assertEquals(0, processVariableContentService.deleteContentOfDeletedOperations(PAST));
+        assertEquals(2, processVariableContentService.deleteContentOfDeletedOperations(FUTURE));
+        assertArrayEquals(CONTENT, processVariableContentService.find(DIGEST_1));
+        assertNull(processVariableContentService.find(DIGEST_2));
+    }
+
+    // Stands for the connection of the process engine. The tables are created once the entity manager factory connects to the database:
+    private Connection openConnection() {
+        entityManagerFactory.createEntityManager()
+                            .close();
+        try {
+            Connection connection = DriverManager.getConnection(DATABASE_URL, DATABASE_USER, DATABASE_USER);
+            connection.setAutoCommit(false);
+            return connection;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private OperationService createOperationService() {
+        OperationService operationService = new OperationService(entityManagerFactory);
+        operationService.operationMapper = new OperationMapper();
+        return operationService;
+    }
+
+    private void addOperation(String processId) {
+        operationService.add(ImmutableOperation.builder()
+                                               .processId(processId)
+                                               .processType(ProcessType.DEPLOY)
+                                               .spaceId("space")
+                                               .user("user")
+                                               .startedAt(ZonedDateTime.now())
+                                               .hasAcquiredLock(false)
+                                               .build());
+    }
+
+}
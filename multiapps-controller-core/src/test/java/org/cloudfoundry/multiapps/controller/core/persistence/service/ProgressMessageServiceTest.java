@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -75,6 +76,22 @@ class ProgressMessageServiceTest {
         testQueryByCriteria((query, message) -> query.id(message.getId()));
     }
 
+    @Test
+    void testQueryByIdGreaterThan() {
+        testQueryByCriteria((query, message) -> query.idGreaterThan(message.getId() - 1)
+                                                     .processId(message.getProcessId()));
+    }
+
+    @Test
+    void testAddNotifiesListeners() {
+        List<ProgressMessage> notifiedMessages = new ArrayList<>();
+        progressMessageService.addListener(notifiedMessages::add);
+        progressMessageService.add(PROGRESS_MESSAGE_1);
+        assertEquals(1, notifiedMessages.size());
+        assertEquals(PROGRESS_MESSAGE_1.getId(), notifiedMessages.get(0)
+                                                                 .getId());
+    }
+
     @Test
     void testQueryByProcessId() {
         testQueryByCriteria((query, message) -> query.processId(message.getProcessId()));
@@ -256,6 +256,32 @@ class ApplicationConfigurationTest {
                                 configuration.getStepPollingIntervalInSeconds());
     }
 
+    @Test
+    void testGetMaxStepPollingIntervalInSeconds() {
+        Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_MAX_STEP_POLLING_INTERVAL_IN_SECONDS,
+                                                    ApplicationConfiguration.DEFAULT_MAX_STEP_POLLING_INTERVAL_IN_SECONDS))
+               .thenReturn(ApplicationConfiguration.DEFAULT_MAX_STEP_POLLING_INTERVAL_IN_SECONDS);
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_MAX_STEP_POLLING_INTERVAL_IN_SECONDS,
+                                configuration.getMaxStepPollingIntervalInSeconds());
+    }
+
+    @Test
+    void testGetServicePollingThreads() {
+        Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_SERVICE_POLLING_THREADS,
+                                                    ApplicationConfiguration.DEFAULT_SERVICE_POLLING_THREADS))
+               .thenReturn(ApplicationConfiguration.DEFAULT_SERVICE_POLLING_THREADS);
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_SERVICE_POLLING_THREADS, configuration.getServicePollingThreads());
+    }
+
+    @Test
+    void testGetMaxParallelModuleDeployments() {
+        Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_MAX_PARALLEL_MODULE_DEPLOYMENTS,
+                                                    ApplicationConfiguration.DEFAULT_MAX_PARALLEL_MODULE_DEPLOYMENTS))
+               .thenReturn(ApplicationConfiguration.DEFAULT_MAX_PARALLEL_MODULE_DEPLOYMENTS);
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_MAX_PARALLEL_MODULE_DEPLOYMENTS,
+                                configuration.getMaxParallelModuleDeployments());
+    }
+
     @Test
     void testShouldSkipSslValidation() {
         Mockito.when(environment.getBoolean(ApplicationConfiguration.CFG_SKIP_SSL_VALIDATION,
@@ -415,6 +441,113 @@ class ApplicationConfigurationTest {
                                 configuration.getFlowableJobExecutorQueueCapacity());
     }
 
+    @Test
+    void testIsFlowableJobExecutorAutoScalingEnabled() {
+        Mockito.when(environment.getBoolean(ApplicationConfiguration.CFG_FLOWABLE_JOB_EXECUTOR_AUTO_SCALING,
+                                            ApplicationConfiguration.DEFAULT_FLOWABLE_JOB_EXECUTOR_AUTO_SCALING))
+               .thenReturn(ApplicationConfiguration.DEFAULT_FLOWABLE_JOB_EXECUTOR_AUTO_SCALING);
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_FLOWABLE_JOB_EXECUTOR_AUTO_SCALING,
+                                configuration.isFlowableJobExecutorAutoScalingEnabled());
+    }
+
+    @Test
+    void testShouldUseVirtualThreads() {
+        Mockito.when(environment.getBoolean(ApplicationConfiguration.CFG_USE_VIRTUAL_THREADS,
+                                            ApplicationConfiguration.DEFAULT_USE_VIRTUAL_THREADS))
+               .thenReturn(true);
+        Assertions.assertEquals(VirtualThreadsUtil.isSupported(), configuration.shouldUseVirtualThreads());
+    }
+
+    @Test
+    void testGetFlowableJobExecutorMaxSpaceShare() {
+        Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_FLOWABLE_JOB_EXECUTOR_MAX_SPACE_SHARE,
+                                                    ApplicationConfiguration.DEFAULT_FLOWABLE_JOB_EXECUTOR_MAX_SPACE_SHARE))
+               .thenReturn(150);
+        Assertions.assertEquals(100, configuration.getFlowableJobExecutorMaxSpaceShare());
+    }
+
+    @Test
+    void testGetFlowableHistoryLevel() {
+        Mockito.when(environment.getString(ApplicationConfiguration.CFG_FLOWABLE_HISTORY_LEVEL,
+                                           ApplicationConfiguration.DEFAULT_FLOWABLE_HISTORY_LEVEL))
+               .thenReturn("AUDIT");
+        Assertions.assertEquals("audit", configuration.getFlowableHistoryLevel());
+    }
+
+    @Test
+    void testGetFlowableHistoryLevelWhenUnsupported() {
+        Mockito.when(environment.getString(ApplicationConfiguration.CFG_FLOWABLE_HISTORY_LEVEL,
+                                           ApplicationConfiguration.DEFAULT_FLOWABLE_HISTORY_LEVEL))
+               .thenReturn("none");
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_FLOWABLE_HISTORY_LEVEL, configuration.getFlowableHistoryLevel());
+    }
+
+    @Test
+    void testIsFlowableStartupFastPathEnabled() {
+        Mockito.when(environment.getBoolean(ApplicationConfiguration.CFG_FLOWABLE_STARTUP_FAST_PATH_ENABLED,
+                                            ApplicationConfiguration.DEFAULT_FLOWABLE_STARTUP_FAST_PATH_ENABLED))
+               .thenReturn(false);
+        Assertions.assertFalse(configuration.isFlowableStartupFastPathEnabled());
+    }
+
+    @Test
+    void testGetProcessVariableFormat() {
+        Mockito.when(environment.getString(ApplicationConfiguration.CFG_PROCESS_VARIABLE_FORMAT,
+                                           ApplicationConfiguration.DEFAULT_PROCESS_VARIABLE_FORMAT))
+               .thenReturn("SMILE");
+        Assertions.assertEquals("smile", configuration.getProcessVariableFormat());
+    }
+
+    @Test
+    void testGetProcessVariableFormatWhenUnsupported() {
+        Mockito.when(environment.getString(ApplicationConfiguration.CFG_PROCESS_VARIABLE_FORMAT,
+                                           ApplicationConfiguration.DEFAULT_PROCESS_VARIABLE_FORMAT))
+               .thenReturn("cbor");
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_PROCESS_VARIABLE_FORMAT, configuration.getProcessVariableFormat());
+    }
+
+    @Test
+    void testShouldCompressProcessVariables() {
+        Mockito.when(environment.getBoolean(ApplicationConfiguration.CFG_PROCESS_VARIABLE_COMPRESSION,
+                                            ApplicationConfiguration.DEFAULT_PROCESS_VARIABLE_COMPRESSION))
+               .thenReturn(true);
+        Assertions.assertTrue(configuration.shouldCompressProcessVariables());
+    }
+
+    @Test
+    void testGetSharedProcessVariableThresholdInBytes() {
+        Mockito.when(environment.getInteger(ApplicationConfiguration.CFG_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES,
+                                            ApplicationConfiguration.DEFAULT_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES))
+               .thenReturn(65536);
+        Assertions.assertEquals(65536, configuration.getSharedProcessVariableThresholdInBytes());
+    }
+
+    @Test
+    void testGetSharedProcessVariableThresholdInBytesWhenNegative() {
+        Mockito.when(environment.getInteger(ApplicationConfiguration.CFG_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES,
+                                            ApplicationConfiguration.DEFAULT_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES))
+               .thenReturn(-1);
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_SHARED_PROCESS_VARIABLE_THRESHOLD_IN_BYTES,
+                                configuration.getSharedProcessVariableThresholdInBytes());
+    }
+
+    @Test
+    void testGetMaxActiveOperations() {
+        Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_MAX_ACTIVE_OPERATIONS,
+                                                    ApplicationConfiguration.DEFAULT_MAX_ACTIVE_OPERATIONS))
+               .thenReturn(ApplicationConfiguration.DEFAULT_MAX_ACTIVE_OPERATIONS);
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_MAX_ACTIVE_OPERATIONS, configuration.getMaxActiveOperations());
+    }
+
+    @Test
+    void testGetMaxActiveOperationsPerSpace() {
+        Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_MAX_ACTIVE_OPERATIONS_PER_SPACE,
+                                                    ApplicationConfiguration.DEFAULT_MAX_ACTIVE_OPERATIONS_PER_SPACE))
+               .thenReturn(ApplicationConfiguration.DEFAULT_MAX_ACTIVE_OPERATIONS_PER_SPACE);
+        Assertions.assertEquals(ApplicationConfiguration.DEFAULT_MAX_ACTIVE_OPERATIONS_PER_SPACE,
+                                configuration.getMaxActiveOperationsPerSpace());
+    }
+
     @Test
     void testGetFssCacheUpdateTimeoutMinutes() {
         Mockito.when(environment.getPositiveInteger(ApplicationConfiguration.CFG_FSS_CACHE_UPDATE_TIMEOUT_MINUTES,
@@ -0,0 +1,74 @@
+package org.cloudfoundry.multiapps.controller.core.util;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long an executor needs to complete a number of tasks, which spend their time blocked, like the Flowable jobs waiting for
+ * Cloud Controller responses or sleeping between retries in the ResilientOperationExecutor. It compares a pool of platform threads with
+ * virtual threads limited to the same and to a larger number of concurrent tasks. The timings depend on the machine, so the benchmark is
+ * not part of the unit tests, and is run through its main method, e.g. from the IDE, on a JDK that supports virtual threads.
+ */
+class BlockingTasksBenchmark {
+
+    private static final int PLATFORM_THREADS = 8;
+    private static final int MAX_CONCURRENT_VIRTUAL_THREADS = 64;
+    private static final int TASKS = 400;
+    private static final long BLOCKING_TIME_IN_MILLIS = 50;
+
+    private final int tasks;
+    private final long blockingTimeInMillis;
+
+    BlockingTasksBenchmark(int tasks, long blockingTimeInMillis) {
+        this.tasks = tasks;
+        this.blockingTimeInMillis = blockingTimeInMillis;
+    }
+
+    public static void main(String[] args) {
+        BlockingTasksBenchmark benchmark = new BlockingTasksBenchmark(TASKS, BLOCKING_TIME_IN_MILLIS);
+        report("Platform threads", PLATFORM_THREADS, benchmark.run(Executors.newFixedThreadPool(PLATFORM_THREADS)));
+        if (!VirtualThreadsUtil.isSupported()) {
+            System.out.println("Virtual threads are not supported by this JDK");
+            return;
+        }
+        report("Virtual threads", PLATFORM_THREADS,
+               benchmark.run(VirtualThreadsUtil.newThreadPerTaskExecutor("benchmark-", PLATFORM_THREADS, TASKS)));
+        report("Virtual threads", MAX_CONCURRENT_VIRTUAL_THREADS,
+               benchmark.run(VirtualThreadsUtil.newThreadPerTaskExecutor("benchmark-", MAX_CONCURRENT_VIRTUAL_THREADS, TASKS)));
+    }
+
+    private static void report(String executor, int maxConcurrentTasks, long timeInMillis) {
+        System.out.println(MessageFormat.format("{0}, {1} concurrent tasks: {2} tasks blocked for {3} ms completed in {4} ms", executor,
+                                                maxConcurrentTasks, TASKS, BLOCKING_TIME_IN_MILLIS, timeInMillis));
+    }
+
+    long run(ExecutorService executor) {
+        try {
+            long startTime = System.nanoTime();
+            List<CompletableFuture<Void>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                futures.add(CompletableFuture.runAsync(this::block, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                             .join();
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void block() {
+        try {
+            Thread.sleep(blockingTimeInMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+}
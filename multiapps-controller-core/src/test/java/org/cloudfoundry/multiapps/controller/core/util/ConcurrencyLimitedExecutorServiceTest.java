@@ -0,0 +1,115 @@
+package org.cloudfoundry.multiapps.controller.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitedExecutorServiceTest {
+
+    private static final int MAX_CONCURRENT_TASKS = 2;
+    private static final int QUEUE_CAPACITY = 1;
+
+    private final ExecutorService executor = new ConcurrencyLimitedExecutorService(Executors.newCachedThreadPool(), MAX_CONCURRENT_TASKS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testTasksAboveLimitAreRejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> firstTask = executor.submit(() -> awaitQuietly(release));
+        executor.submit(() -> awaitQuietly(release));
+
+        assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> awaitQuietly(release)));
+
+        release.countDown();
+        firstTask.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testTasksAreAcceptedAgainWhenRunningTasksComplete() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < MAX_CONCURRENT_TASKS; i++) {
+            executor.submit(() -> awaitQuietly(release));
+        }
+        release.countDown();
+        CountDownLatch started = new CountDownLatch(1);
+
+        // The permits of the completed tasks are returned right after they complete, so the submission is retried until they are:
+        submitWhenAccepted(started::countDown);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testTasksAboveLimitWaitInQueue() throws Exception {
+        ExecutorService queueingExecutor = new ConcurrencyLimitedExecutorService(Executors.newCachedThreadPool(), MAX_CONCURRENT_TASKS,
+                                                                                 QUEUE_CAPACITY);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < MAX_CONCURRENT_TASKS; i++) {
+            queueingExecutor.submit(() -> awaitQuietly(release));
+        }
+        CountDownLatch queuedTaskStarted = new CountDownLatch(1);
+        queueingExecutor.submit(queuedTaskStarted::countDown);
+
+        assertThrows(RejectedExecutionException.class, () -> queueingExecutor.submit(() -> awaitQuietly(release)));
+        assertFalse(queuedTaskStarted.await(100, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(queuedTaskStarted.await(10, TimeUnit.SECONDS));
+        queueingExecutor.shutdownNow();
+    }
+
+    @Test
+    void testQueuedTasksRunAfterShutdown() throws Exception {
+        ExecutorService queueingExecutor = new ConcurrencyLimitedExecutorService(Executors.newCachedThreadPool(), MAX_CONCURRENT_TASKS,
+                                                                                 QUEUE_CAPACITY);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < MAX_CONCURRENT_TASKS; i++) {
+            queueingExecutor.submit(() -> awaitQuietly(release));
+        }
+        Future<String> queuedTask = queueingExecutor.submit(() -> "done");
+
+        queueingExecutor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> queueingExecutor.submit(() -> awaitQuietly(release)));
+        release.countDown();
+        assertEquals("done", queuedTask.get(10, TimeUnit.SECONDS));
+        assertTrue(queueingExecutor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private void submitWhenAccepted(Runnable task) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (true) {
+            try {
+                executor.submit(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package org.cloudfoundry.multiapps.controller.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadsUtilTest {
+
+    @Test
+    void testNewThreadPerTaskExecutorWhenNotSupported() {
+        assumeFalse(VirtualThreadsUtil.isSupported());
+
+        assertThrows(UnsupportedOperationException.class, () -> VirtualThreadsUtil.newThreadPerTaskExecutor("test-"));
+    }
+
+    @Test
+    void testNewThreadPerTaskExecutor() throws Exception {
+        assumeTrue(VirtualThreadsUtil.isSupported());
+        ExecutorService executor = VirtualThreadsUtil.newThreadPerTaskExecutor("test-");
+
+        Future<String> threadName = executor.submit(() -> Thread.currentThread()
+                                                                .getName());
+
+        assertEquals("test-0", threadName.get());
+        executor.shutdown();
+    }
+
+}
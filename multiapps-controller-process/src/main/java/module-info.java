@@ -21,6 +21,7 @@ open module org.cloudfoundry.multiapps.controller.process {
     requires cloudfoundry.client;
     requires com.fasterxml.jackson.core;
     requires com.fasterxml.jackson.databind;
+    requires com.fasterxml.jackson.dataformat.smile;
     requires flowable.bpmn.model;
     requires flowable.engine.common;
     requires flowable.engine.common.api;
@@ -33,6 +34,7 @@ open module org.cloudfoundry.multiapps.controller.process {
     requires java.xml.bind;
     requires javax.inject;
     requires log4j;
+    requires micrometer.core;
     requires org.apache.commons.collections4;
     requires org.apache.commons.io;
     requires org.apache.commons.lang3;
@@ -42,6 +44,7 @@ open module org.cloudfoundry.multiapps.controller.process {
     requires org.cloudfoundry.multiapps.mta;
     requires org.eclipse.jgit;
     requires org.joda.time;
+    requires org.mybatis;
     requires org.slf4j;
     requires quartz;
     requires spring.beans;
@@ -9,6 +9,13 @@ public class Messages {
     public static final String CANT_DETERMINE_CURRENT_USER = "Cannot determine the current user";
     public static final String CONFLICTING_PROCESS_FOUND = "Conflicting process \"{0}\" found for MTA \"{1}\"";
     public static final String REQUIRED_PROCESS_VARIABLE_IS_MISSING = "Required process variable \"{0}\" is missing.";
+    public static final String ERROR_ENCODING_PROCESS_VARIABLE = "Error encoding process variable: {0}";
+    public static final String ERROR_DECODING_PROCESS_VARIABLE = "Error decoding process variable: {0}";
+    public static final String UNSUPPORTED_PROCESS_VARIABLE_ENCODING = "Unsupported process variable encoding (version {0}, format {1}, compression {2})";
+    public static final String MISSING_CONTENT_OF_SHARED_PROCESS_VARIABLE_0 = "Missing content of shared process variable with digest \"{0}\"";
+    public static final String SHARED_PROCESS_VARIABLE_0_IS_NOT_A_PROCESS_VARIABLE = "Shared process variable \"{0}\" is not a variable of a process";
+    public static final String SHARED_PROCESS_VARIABLES_CAN_BE_STORED_ONLY_BY_THE_PROCESS_ENGINE = "Shared process variables can be stored only by the process engine";
+    public static final String COULD_NOT_STORE_CONTENT_OF_SHARED_PROCESS_VARIABLE_0 = "Could not store content of shared process variable with digest \"{0}\"";
     public static final String ERROR_RETRIEVING_MTA_MODULE_CONTENT = "Error retrieving content of MTA module \"{0}\"";
     public static final String ERROR_RETRIEVING_MTA_REQUIRED_DEPENDENCY_CONTENT = "Error retrieving content of MTA required dependency \"{0}\"";
     public static final String ERROR_RETRIEVING_MTA_RESOURCE_CONTENT = "Error retrieving content of MTA resource \"{0}\"";
@@ -137,7 +144,7 @@ public class Messages {
     public static final String ERROR_MONITORING_DELETION_OF_SERVICES = "Error monitoring deletion of services";
     public static final String SERVICE_IS_ALREADY_DELETED = "Service \"{0}\" is already deleted";
     public static final String ERROR_DETERMINING_ACTIONS_TO_EXECUTE_ON_SERVICE = "Error determining actions to execute on service \"{0}\"";
-    public static final String ERROR_POLLING_OF_SERVICE = "Error polling last operation of service \"{0}\": {1}";
+    public static final String ERROR_POLLING_OF_SERVICES = "Error polling last operations of services {0}: {1}";
     public static final String ERROR_MERGING_ARCHIVE = "Error merging archive. Retrying...";
     public static final String ERROR_DELETING_OPERATION_WITH_ID = "Error deleting operation with ID \"{0}\"";
     public static final String ERROR_DELETING_FLOWABLE_PROCESS_WITH_ID = "Error deleting Flowable process with ID \"{0}\"";
@@ -168,7 +175,10 @@ public class Messages {
     public static final String DEFAULT_FAILED_OPERATION_DESCRIPTION = "The service broker returned an error with no description!";
     public static final String ERROR_DURING_CLEAN_UP_0 = "Error during clean-up: {0}";
     public static final String COULD_NOT_DELETE_HISTORIC_PROCESS_0 = "Could not delete historic process \"{0}\"";
+    public static final String COULD_NOT_DELETE_HISTORIC_PROCESSES_IN_BULK_0 = "Could not delete historic processes {0} in bulk, deleting them one by one";
+    public static final String COULD_NOT_DELETE_DATA_OF_DELETED_HISTORIC_PROCESSES = "Could not delete the data of deleted historic processes";
     public static final String COULD_NOT_ABORT_OPERATION_0 = "Could not abort operation \"{0}\"";
+    public static final String CLEANER_0_DID_NOT_FINISH_WITHIN_TIME_BUDGET = "Cleaner {0} did not finish within the time budget of the clean-up job and was cancelled";
     public static final String SKIP_SERVICES_DELETION = "Skipping deletion of services, because the command line option \"--delete-services\" is not specified.";
     public static final String UNSUPPORTED_MINOR_VERSION = "Used version \"{0}\" is higher than the supported ones. Some features might not be implemented.";
     public static final String MISSING_SERVICE_OPERATION_STATE = "Stopping service operation polling of \"{0}\" due to missing operation state...";
@@ -192,6 +202,7 @@ public class Messages {
     public static final String WILL_CLEAN_UP_DATA_STORED_BEFORE_0 = "Will clean-up data stored before: {0}";
     public static final String DELETED_HISTORIC_PROCESSES_0 = "Deleted historic processes: {0}";
     public static final String DELETED_FILES_0 = "Deleted files: {0}";
+    public static final String DELETED_SHARED_PROCESS_VARIABLES_0 = "Deleted shared process variables: {0}";
     public static final String ABORTED_OPERATIONS_0 = "Aborted operations: {0}";
     public static final String DELETED_OPERATIONS_0 = "Deleted operations: {0}";
     public static final String DELETED_PROCESS_LOGS_0 = "Deleted process logs: {0}";
@@ -282,11 +293,14 @@ public class Messages {
     public static final String PARAMETERS_VALIDATED = "Parameters validated";
     public static final String PROCESSING_MTA_ARCHIVE = "Processing MTA archive...";
     public static final String MTA_ARCHIVE_PROCESSED = "MTA archive processed";
+    public static final String USING_PREVIOUSLY_PROCESSED_MTA_ARCHIVE_0 = "Using previously processed MTA archive \"{0}\"";
+    public static final String USING_PREVIOUSLY_CALCULATED_DIGEST_OF_FILE_0 = "Using previously calculated digest of file \"{0}\"";
     public static final String PROCESSING_MTA_EXTENSION_DESCRIPTORS = "Processing MTA extension descriptors...";
     public static final String MTA_EXTENSION_DESCRIPTORS_PROCESSED = "MTA extension descriptors processed";
     public static final String DETECTING_MTA_MAJOR_SCHEMA_VERSION = "Detecting MTA major schema version...";
     public static final String MERGING_DESCRIPTORS = "Validating and merging descriptors...";
     public static final String DESCRIPTORS_MERGED = "Descriptors validated and merged";
+    public static final String USING_PREVIOUSLY_MERGED_DESCRIPTORS = "Using previously validated and merged descriptors";
     public static final String DETECTING_DEPLOYED_MTA = "Detecting deployed MTA...";
     public static final String DETECTING_COLOR_OF_DEPLOYED_MTA = "Detecting color of deployed MTA...";
     public static final String COLLECTING_SYSTEM_PARAMETERS = "Collecting system parameters...";
@@ -408,7 +422,9 @@ public class Messages {
     public static final String UPLOADING_FILE_0_FOR_APP_1 = "Uploading file \"{0}\" for application \"{1}\"";
     public static final String STARTED_ASYNC_UPLOAD_OF_APP_0 = "Started async upload of application \"{0}\"";
     public static final String DELETING_HISTORIC_PROCESS_0 = "Deleting historic process \"{0}\"...";
+    public static final String DELETING_HISTORIC_PROCESSES_0 = "Deleting historic processes {0}...";
     public static final String DELETING_FILES_MODIFIED_BEFORE_0 = "Deleting files modified before: {0}";
+    public static final String DELETING_SHARED_PROCESS_VARIABLES_STORED_BEFORE_0 = "Deleting shared process variables of deleted operations stored before: {0}";
     public static final String DELETING_OPERATIONS_STARTED_BEFORE_0 = "Deleting operations started before: {0}";
     public static final String ABORTING_OPERATION_0 = "Aborting operation \"{0}\"...";
     public static final String DELETING_PROCESS_LOGS_MODIFIED_BEFORE_0 = "Deleting process logs modified before \"{0}\"...";
@@ -417,6 +433,7 @@ public class Messages {
     public static final String DELETING_HISTORIC_OPERATION_EVENTS_STORED_BEFORE_0 = "Deleting historic operation events stored before \"{0}\"...";
     public static final String DELETING_DATA_FOR_NON_EXISTING_USERS = "Deleting data for no-longer existing users...";
     public static final String REGISTERED_CLEANERS_IN_CLEAN_UP_JOB_0 = "Registered cleaners in clean-up job: {0}";
+    public static final String EXECUTING_CLEANERS_0 = "Executing cleaners: {0}";
     public static final String MISSING_SERVICE_TO_DELETE = "Missing service to delete.";
     public static final String NO_CONTENT_TO_UPLOAD = "No content to upload";
     public static final String NO_BUILD_FOUND_FOR_APPLICATION = "No build found for application \"{0}\"";
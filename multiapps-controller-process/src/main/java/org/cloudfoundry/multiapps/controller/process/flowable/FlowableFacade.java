@@ -3,10 +3,15 @@ package org.cloudfoundry.multiapps.controller.process.flowable;
 import static java.text.MessageFormat.format;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -16,12 +21,16 @@ import org.cloudfoundry.multiapps.controller.persistence.Constants;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.engine.ProcessEngine;
-import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.NativeExecutionQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.slf4j.Logger;
@@ -48,6 +57,15 @@ public class FlowableFacade {
                             .startProcessInstanceByKey(processDefinitionKey, variables);
     }
 
+    public ProcessInstance startProcess(String processInstanceId, String processDefinitionKey, Map<String, Object> variables) {
+        return processEngine.getRuntimeService()
+                            .createProcessInstanceBuilder()
+                            .predefineProcessInstanceId(processInstanceId)
+                            .processDefinitionKey(processDefinitionKey)
+                            .variables(variables)
+                            .start();
+    }
+
     public String getProcessInstanceId(String executionId) {
         return getVariable(executionId, Constants.CORRELATION_ID);
     }
@@ -89,24 +107,90 @@ public class FlowableFacade {
     }
 
     public boolean hasDeadLetterJobs(String processId) {
-        return !getDeadLetterJobs(processId).isEmpty();
+        return !findProcessInstancesWithDeadLetterJobs(List.of(processId)).isEmpty();
     }
 
     private List<Job> getDeadLetterJobs(String processId) {
-        List<Execution> allProcessExecutions = getAllProcessExecutions(processId);
-        return allProcessExecutions.stream()
-                                   .map(this::getDeadLetterJobsForExecution)
-                                   .flatMap(List::stream)
-                                   .collect(Collectors.toList());
+        return findProcessInstanceExecutionsWithDeadLetterJobs(List.of(processId)).stream()
+                                                                                  .map(this::getDeadLetterJobsForProcessInstance)
+                                                                                  .flatMap(List::stream)
+                                                                                  .collect(Collectors.toList());
     }
 
-    private List<Job> getDeadLetterJobsForExecution(Execution execution) {
+    private List<Job> getDeadLetterJobsForProcessInstance(Execution processInstanceExecution) {
         return processEngine.getManagementService()
                             .createDeadLetterJobQuery()
-                            .processInstanceId(execution.getProcessInstanceId())
+                            .processInstanceId(processInstanceExecution.getProcessInstanceId())
                             .list();
     }
 
+    /**
+     * Returns those of the given root process instances which have a dead letter job in any process instance of their hierarchy. Executes a
+     * single query regardless of the number of process instances.
+     */
+    public Set<String> findProcessInstancesWithDeadLetterJobs(Collection<String> rootProcessInstanceIds) {
+        return getRootProcessInstanceIds(findProcessInstanceExecutionsWithDeadLetterJobs(rootProcessInstanceIds));
+    }
+
+    private List<Execution> findProcessInstanceExecutionsWithDeadLetterJobs(Collection<String> rootProcessInstanceIds) {
+        String condition = MessageFormat.format("E.ID_ = E.PROC_INST_ID_ AND EXISTS (SELECT 1 FROM {0} J WHERE J.PROCESS_INSTANCE_ID_ = E.ID_)",
+                                                getTableName(DeadLetterJobEntity.class));
+        return findExecutionsInHierarchies(rootProcessInstanceIds, condition);
+    }
+
+    /**
+     * Returns those of the given root process instances which have an execution waiting at a receive task. Relies only on runtime data, so
+     * it does not depend on the history level. Executes a single query
+     * regardless of the number of process instances.
+     */
+    public Set<String> findProcessInstancesAtReceiveTask(Collection<String> rootProcessInstanceIds) {
+        String condition = MessageFormat.format("E.ACT_ID_ IS NOT NULL AND EXISTS (SELECT 1 FROM {0} A WHERE A.EXECUTION_ID_ = E.ID_ AND A.ACT_ID_ = E.ACT_ID_ AND A.ACT_TYPE_ = ''receiveTask'')",
+                                                getTableName(ActivityInstanceEntity.class));
+        return getRootProcessInstanceIds(findExecutionsInHierarchies(rootProcessInstanceIds, condition));
+    }
+
+    public Set<String> findActiveProcessInstances(Collection<String> processInstanceIds) {
+        if (processInstanceIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return processEngine.getRuntimeService()
+                            .createProcessInstanceQuery()
+                            .processInstanceIds(new HashSet<>(processInstanceIds))
+                            .list()
+                            .stream()
+                            .map(ProcessInstance::getProcessInstanceId)
+                            .collect(Collectors.toSet());
+    }
+
+    private List<Execution> findExecutionsInHierarchies(Collection<String> rootProcessInstanceIds, String condition) {
+        if (rootProcessInstanceIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        NativeExecutionQuery query = processEngine.getRuntimeService()
+                                                  .createNativeExecutionQuery();
+        List<String> parameterPlaceholders = new ArrayList<>(rootProcessInstanceIds.size());
+        for (String rootProcessInstanceId : rootProcessInstanceIds) {
+            String parameterName = "rootProcessInstanceId" + parameterPlaceholders.size();
+            query.parameter(parameterName, rootProcessInstanceId);
+            parameterPlaceholders.add("#{" + parameterName + "}");
+        }
+        String sql = MessageFormat.format("SELECT E.* FROM {0} E WHERE E.ROOT_PROC_INST_ID_ IN ({1}) AND {2}",
+                                          getTableName(ExecutionEntity.class), String.join(", ", parameterPlaceholders), condition);
+        return query.sql(sql)
+                    .list();
+    }
+
+    private String getTableName(Class<?> entityClass) {
+        return processEngine.getManagementService()
+                            .getTableName(entityClass);
+    }
+
+    private Set<String> getRootProcessInstanceIds(List<Execution> executions) {
+        return executions.stream()
+                         .map(Execution::getRootProcessInstanceId)
+                         .collect(Collectors.toSet());
+    }
+
     public List<String> getHistoricSubProcessIds(String correlationId) {
         return retrieveVariablesByCorrelationId(correlationId).stream()
                                                               .map(HistoricVariableInstance::getProcessInstanceId)
@@ -138,18 +222,20 @@ public class FlowableFacade {
                             .singleResult();
     }
 
-    public List<String> getActiveHistoricSubProcessIds(String correlationId) {
-        return getHistoricSubProcessIds(correlationId).stream()
-                                                      .filter(this::isActive)
-                                                      .collect(Collectors.toCollection(LinkedList::new));
-    }
-
-    private boolean isActive(String processId) {
-        HistoricProcessInstance processInstance = processEngine.getHistoryService()
-                                                               .createHistoricProcessInstanceQuery()
-                                                               .processInstanceId(processId)
-                                                               .singleResult();
-        return processInstance.getEndTime() == null;
+    /**
+     * Returns the IDs of the active sub processes of a process. Relies only on runtime data, so sub processes without history are included.
+     */
+    public List<String> getActiveSubProcessIds(String correlationId) {
+        return processEngine.getRuntimeService()
+                            .createExecutionQuery()
+                            .rootProcessInstanceId(correlationId)
+                            .onlyProcessInstanceExecutions()
+                            .list()
+                            .stream()
+                            .map(Execution::getProcessInstanceId)
+                            .filter(id -> !id.equals(correlationId))
+                            .sorted()
+                            .collect(Collectors.toCollection(LinkedList::new));
     }
 
     public void executeJob(String processInstanceId) {
@@ -226,9 +312,9 @@ public class FlowableFacade {
                             .list();
     }
 
-    private List<HistoricActivityInstance> findCurrentActivitiesAtReceiveTask(Execution execution) {
-        return processEngine.getHistoryService()
-                            .createHistoricActivityInstanceQuery()
+    private List<ActivityInstance> findCurrentActivitiesAtReceiveTask(Execution execution) {
+        return processEngine.getRuntimeService()
+                            .createActivityInstanceQuery()
                             .activityId(execution.getActivityId())
                             .executionId(execution.getId())
                             .activityType("receiveTask")
@@ -7,9 +7,8 @@ import javax.inject.Inject;
 
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
 import org.cloudfoundry.multiapps.controller.process.util.ClientReleaser;
-import org.cloudfoundry.multiapps.controller.process.util.HistoryUtil;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
-import org.flowable.engine.HistoryService;
+import org.flowable.engine.RuntimeService;
 
 public abstract class ProcessAction {
 
@@ -26,9 +25,9 @@ public abstract class ProcessAction {
     }
 
     protected List<String> getActiveExecutionIds(String superProcessInstanceId) {
-        List<String> activeHistoricSubProcessIds = flowableFacade.getActiveHistoricSubProcessIds(superProcessInstanceId);
-        activeHistoricSubProcessIds.add(0, superProcessInstanceId);
-        return activeHistoricSubProcessIds;
+        List<String> activeSubProcessIds = flowableFacade.getActiveSubProcessIds(superProcessInstanceId);
+        activeSubProcessIds.add(0, superProcessInstanceId);
+        return activeSubProcessIds;
     }
 
     public void execute(String user, String superProcessInstanceId) {
@@ -50,15 +49,13 @@ public abstract class ProcessAction {
     public abstract Action getAction();
 
     protected void updateUserIfNecessary(String user, String executionId) {
-        HistoryService historyService = flowableFacade.getProcessEngine()
-                                                      .getHistoryService();
-        String currentUser = HistoryUtil.getVariableValue(historyService, executionId, Variables.USER.getName());
+        RuntimeService runtimeService = flowableFacade.getProcessEngine()
+                                                      .getRuntimeService();
+        String currentUser = (String) runtimeService.getVariable(executionId, Variables.USER.getName());
         if (!user.equals(currentUser)) {
             ClientReleaser clientReleaser = new ClientReleaser(clientProvider);
-            clientReleaser.releaseClientFor(historyService, executionId);
-            flowableFacade.getProcessEngine()
-                          .getRuntimeService()
-                          .setVariable(executionId, Variables.USER.getName(), user);
+            clientReleaser.releaseClientFor(runtimeService, executionId);
+            runtimeService.setVariable(executionId, Variables.USER.getName(), user);
         }
     }
 }
\ No newline at end of file
@@ -35,30 +35,33 @@ public class AbortedOperationsCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(Date expirationTime) {
+    public long execute(Date expirationTime) {
         Instant instant = Instant.now()
                                  .minus(30, ChronoUnit.MINUTES);
         List<HistoricOperationEvent> abortedOperations = historicOperationEventService.createQuery()
                                                                                       .type(EventType.ABORTED)
                                                                                       .olderThan(new Date(instant.toEpochMilli()))
                                                                                       .list();
-        abortedOperations.stream()
-                         .map(HistoricOperationEvent::getProcessId)
-                         .distinct()
-                         .filter(this::isInActiveState)
-                         .forEach(this::deleteProcessInstance);
+        return abortedOperations.stream()
+                                .map(HistoricOperationEvent::getProcessId)
+                                .distinct()
+                                .filter(this::isInActiveState)
+                                .filter(this::deleteProcessInstance)
+                                .count();
     }
 
     private boolean isInActiveState(String processId) {
         return flowableFacade.getProcessInstance(processId) != null;
     }
 
-    private void deleteProcessInstance(String processInstanceId) {
+    private boolean deleteProcessInstance(String processInstanceId) {
         try {
             LOGGER.info(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.DELETING_OPERATION_WITH_ID, processInstanceId));
             flowableFacade.deleteProcessInstance(processInstanceId, Operation.State.ABORTED.name());
+            return true;
         } catch (Exception e) {
             LOGGER.error(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.ERROR_DELETING_OPERATION_WITH_ID, processInstanceId), e);
+            return false;
         }
     }
 }
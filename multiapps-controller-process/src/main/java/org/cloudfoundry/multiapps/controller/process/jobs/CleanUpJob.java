@@ -2,9 +2,21 @@ package org.cloudfoundry.multiapps.controller.process.jobs;
 
 import static java.text.MessageFormat.format;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.inject.Inject;
 
@@ -18,17 +30,33 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Executes the registered cleaners in phases, ordered by their {@link org.springframework.core.annotation.Order}. Cleaners with the same
+ * order are independent of each other and are executed concurrently.
+ */
 @DisallowConcurrentExecution
 public class CleanUpJob implements Job {
 
     public static final Marker LOG_MARKER = MarkerFactory.getMarker("clean-up-job");
+    public static final String METRICS_PREFIX = "multiapps.cleanup.";
+    static final String DURATION_METRIC = METRICS_PREFIX + "duration";
+    static final String DELETED_ITEMS_METRIC = METRICS_PREFIX + "deleted.items";
+    static final String FAILURES_METRIC = METRICS_PREFIX + "failures";
+    static final String CLEANER_TAG = "cleaner";
     private static final Logger LOGGER = LoggerFactory.getLogger(CleanUpJob.class);
 
     @Inject
     ApplicationConfiguration configuration;
     @Inject
     List<Cleaner> cleaners;
+    MeterRegistry meterRegistry = Metrics.globalRegistry;
     private final SafeExecutor safeExecutor = new SafeExecutor(CleanUpJob::log);
 
     @Override
@@ -39,8 +67,13 @@ public class CleanUpJob implements Job {
         Date expirationTime = computeExpirationTime();
         LOGGER.info(LOG_MARKER, format(Messages.WILL_CLEAN_UP_DATA_STORED_BEFORE_0, expirationTime));
         LOGGER.info(LOG_MARKER, format(Messages.REGISTERED_CLEANERS_IN_CLEAN_UP_JOB_0, cleaners));
-        for (Cleaner cleaner : cleaners) {
-            safeExecutor.execute(() -> cleaner.execute(expirationTime));
+        ExecutorService executor = Executors.newFixedThreadPool(configuration.getCleanUpJobThreads());
+        try {
+            for (List<Cleaner> phase : groupCleanersByOrder()) {
+                executeConcurrently(executor, phase, expirationTime);
+            }
+        } finally {
+            executor.shutdownNow();
         }
 
         LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_JOB_FINISHED_AT_0, Instant.now()));
@@ -52,8 +85,94 @@ public class CleanUpJob implements Job {
                                 .minusSeconds(maxTtlForOldData));
     }
 
+    private Collection<List<Cleaner>> groupCleanersByOrder() {
+        Map<Integer, List<Cleaner>> cleanersByOrder = new TreeMap<>();
+        for (Cleaner cleaner : cleaners) {
+            int order = OrderUtils.getOrder(cleaner.getClass(), Ordered.LOWEST_PRECEDENCE);
+            cleanersByOrder.computeIfAbsent(order, key -> new ArrayList<>())
+                           .add(cleaner);
+        }
+        return cleanersByOrder.values();
+    }
+
+    private void executeConcurrently(ExecutorService executor, List<Cleaner> phase, Date expirationTime) {
+        LOGGER.debug(LOG_MARKER, format(Messages.EXECUTING_CLEANERS_0, phase));
+        List<CleanerExecution> executions = new ArrayList<>();
+        for (Cleaner cleaner : phase) {
+            CompletableFuture<Long> startTime = new CompletableFuture<>();
+            Future<?> future = executor.submit(() -> {
+                startTime.complete(System.currentTimeMillis());
+                safeExecutor.execute(() -> executeCleaner(cleaner, expirationTime));
+            });
+            executions.add(new CleanerExecution(cleaner, startTime, future));
+        }
+        executions.forEach(this::waitForCompletion);
+    }
+
+    Duration getTimeBudget() {
+        return Duration.ofMinutes(configuration.getCleanUpJobTimeBudgetInMinutes());
+    }
+
+    private void executeCleaner(Cleaner cleaner, Date expirationTime) {
+        String cleanerName = getName(cleaner);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            long deletedItems = cleaner.execute(expirationTime);
+            meterRegistry.counter(DELETED_ITEMS_METRIC, CLEANER_TAG, cleanerName)
+                         .increment(deletedItems);
+        } catch (RuntimeException e) {
+            meterRegistry.counter(FAILURES_METRIC, CLEANER_TAG, cleanerName)
+                         .increment();
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(DURATION_METRIC, CLEANER_TAG, cleanerName));
+        }
+    }
+
+    // Cleaners that exceed the time budget are cancelled, so that they do not hold back the rest of the clean-up job. The cleaners that work
+    // in batches stop between batches once they are interrupted, and the rest of their data is cleaned up by the next run of the job. The time budget of a cleaner starts when the
+    // cleaner starts running, not when it is queued behind the other cleaners of its phase. A cleaner that is not started within a time
+    // budget, because the threads are still held by cancelled cleaners, is cancelled as well.
+    private void waitForCompletion(CleanerExecution execution) {
+        long timeBudget = getTimeBudget().toMillis();
+        try {
+            long startTime = execution.startTime.get(timeBudget, TimeUnit.MILLISECONDS);
+            execution.future.get(Math.max(startTime + timeBudget - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn(LOG_MARKER, format(Messages.CLEANER_0_DID_NOT_FINISH_WITHIN_TIME_BUDGET, getName(execution.cleaner)));
+            execution.future.cancel(true);
+            meterRegistry.counter(FAILURES_METRIC, CLEANER_TAG, getName(execution.cleaner))
+                         .increment();
+        } catch (InterruptedException e) {
+            execution.future.cancel(true);
+            Thread.currentThread()
+                  .interrupt();
+        } catch (ExecutionException e) {
+            log(e);
+        }
+    }
+
+    private static String getName(Cleaner cleaner) {
+        return cleaner.getClass()
+                      .getSimpleName();
+    }
+
     private static void log(Exception e) {
         LOGGER.error(LOG_MARKER, format(Messages.ERROR_DURING_CLEAN_UP_0, e.getMessage()), e);
     }
 
+    private static class CleanerExecution {
+
+        private final Cleaner cleaner;
+        private final CompletableFuture<Long> startTime;
+        private final Future<?> future;
+
+        CleanerExecution(Cleaner cleaner, CompletableFuture<Long> startTime, Future<?> future) {
+            this.cleaner = cleaner;
+            this.startTime = startTime;
+            this.future = future;
+        }
+
+    }
+
 }
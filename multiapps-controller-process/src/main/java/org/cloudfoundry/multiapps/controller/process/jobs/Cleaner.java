@@ -4,6 +4,9 @@ import java.util.Date;
 
 public interface Cleaner {
 
-    void execute(Date expirationTime);
+    /**
+     * @return the number of deleted items
+     */
+    long execute(Date expirationTime);
 
 }
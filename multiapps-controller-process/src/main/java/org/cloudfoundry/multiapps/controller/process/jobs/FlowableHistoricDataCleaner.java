@@ -2,16 +2,25 @@ package org.cloudfoundry.multiapps.controller.process.jobs;
 
 import static java.text.MessageFormat.format;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.apache.commons.collections4.ListUtils;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.flowable.engine.HistoryService;
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.history.HistoricProcessInstance;
-import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.history.NativeHistoricProcessInstanceQuery;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.Order;
@@ -21,59 +30,113 @@ import org.springframework.core.annotation.Order;
 public class FlowableHistoricDataCleaner implements Cleaner {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FlowableHistoricDataCleaner.class);
-    private static final int PAGE_SIZE = 100;
+
+    // Keeps the IN lists of the sub-process queries below the parameter limits of all supported databases:
+    static final int MAX_PARENT_PROCESS_IDS_PER_QUERY = 1000;
 
     private final HistoryService historyService;
-    private final int pageSize;
+    private final ManagementService managementService;
+    private final ApplicationConfiguration configuration;
 
     @Inject
-    public FlowableHistoricDataCleaner(HistoryService historyService) {
-        this(historyService, PAGE_SIZE);
-    }
-
-    public FlowableHistoricDataCleaner(HistoryService historyService, int pageSize) {
+    public FlowableHistoricDataCleaner(HistoryService historyService, ManagementService managementService,
+                                       ApplicationConfiguration configuration) {
         this.historyService = historyService;
-        this.pageSize = pageSize;
+        this.managementService = managementService;
+        this.configuration = configuration;
     }
 
     @Override
-    public void execute(Date expirationTime) {
+    public long execute(Date expirationTime) {
+        int batchSize = configuration.getCleanUpJobBatchSize();
         long deletedProcessesCount = 0;
-        long expiredProcessesPages = getExpiredProcessesPageCount(expirationTime);
-        for (int i = 0; i < expiredProcessesPages; i++) {
-            deletedProcessesCount += deleteExpiredProcessesPage(expirationTime);
+        String lastProcessId = null;
+        while (true) {
+            List<String> processIds = getExpiredProcessIds(expirationTime, lastProcessId, batchSize);
+            deletedProcessesCount += deleteProcessesSafely(processIds);
+            if (processIds.size() < batchSize || isCancelled()) {
+                break;
+            }
+            lastProcessId = processIds.get(processIds.size() - 1);
         }
+        deleteDataOfDeletedProcesses();
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_HISTORIC_PROCESSES_0, deletedProcessesCount));
+        return deletedProcessesCount;
+    }
+
+    // Keyset pagination: processes that could not be deleted stay in the result set, so the next batch starts after the last seen process ID
+    // instead of at an offset.
+    private List<String> getExpiredProcessIds(Date expirationTime, String lastProcessId, int batchSize) {
+        NativeHistoricProcessInstanceQuery query = historyService.createNativeHistoricProcessInstanceQuery()
+                                                                 .parameter("expirationTime", expirationTime);
+        String sql = "SELECT RES.* FROM " + getHistoricProcessInstanceTableName()
+            + " RES WHERE RES.END_TIME_ IS NOT NULL AND RES.SUPER_PROCESS_INSTANCE_ID_ IS NULL AND RES.START_TIME_ < #{expirationTime}";
+        if (lastProcessId != null) {
+            query.parameter("lastProcessId", lastProcessId);
+            sql += " AND RES.ID_ > #{lastProcessId}";
+        }
+        return getIds(query.sql(sql + " ORDER BY RES.ID_")
+                           .listPage(0, batchSize));
     }
 
-    private long getExpiredProcessesPageCount(Date expirationTime) {
-        return (long) Math.ceil((double) getExpiredProcessesCount(expirationTime) / pageSize);
+    private int deleteProcessesSafely(List<String> processIds) {
+        if (processIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            deleteProcesses(processIds);
+            return processIds.size();
+        } catch (Exception e) {
+            LOGGER.warn(CleanUpJob.LOG_MARKER, format(Messages.COULD_NOT_DELETE_HISTORIC_PROCESSES_IN_BULK_0, processIds), e);
+            return (int) processIds.stream()
+                                   .filter(this::deleteProcessSafely)
+                                   .count();
+        }
     }
 
-    private long getExpiredProcessesCount(Date expirationTime) {
-        return createExpiredHistoricProcessInstancesQuery(expirationTime).count();
+    private void deleteProcesses(List<String> processIds) {
+        LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_HISTORIC_PROCESSES_0, processIds));
+        Set<String> processIdsToDelete = new HashSet<>(processIds);
+        processIdsToDelete.addAll(getSubProcessIds(processIds));
+        historyService.createHistoricProcessInstanceQuery()
+                      .processInstanceIds(processIdsToDelete)
+                      .delete();
     }
 
-    private HistoricProcessInstanceQuery createExpiredHistoricProcessInstancesQuery(Date expirationTime) {
-        return historyService.createHistoricProcessInstanceQuery()
-                             .finished()
-                             .excludeSubprocesses(true)
-                             .startedBefore(expirationTime);
+    private List<String> getSubProcessIds(Collection<String> processIds) {
+        List<String> subProcessIds = new ArrayList<>();
+        Collection<String> parentProcessIds = processIds;
+        while (!parentProcessIds.isEmpty()) {
+            List<String> childProcessIds = getChildProcessIds(parentProcessIds);
+            subProcessIds.addAll(childProcessIds);
+            parentProcessIds = childProcessIds;
+        }
+        return subProcessIds;
     }
 
-    private long deleteExpiredProcessesPage(Date expirationTime) {
-        List<HistoricProcessInstance> processesToDelete = getExpiredProcessesPage(expirationTime);
-        return processesToDelete.stream()
-                                .filter(this::deleteProcessSafely)
-                                .count();
+    private List<String> getChildProcessIds(Collection<String> parentProcessIds) {
+        List<String> childProcessIds = new ArrayList<>();
+        for (List<String> parentProcessIdsChunk : ListUtils.partition(List.copyOf(parentProcessIds), MAX_PARENT_PROCESS_IDS_PER_QUERY)) {
+            childProcessIds.addAll(getChildProcessIdsChunk(parentProcessIdsChunk));
+        }
+        return childProcessIds;
     }
 
-    private List<HistoricProcessInstance> getExpiredProcessesPage(Date expirationTime) {
-        return createExpiredHistoricProcessInstancesQuery(expirationTime).listPage(0, pageSize);
+    private List<String> getChildProcessIdsChunk(List<String> parentProcessIds) {
+        NativeHistoricProcessInstanceQuery query = historyService.createNativeHistoricProcessInstanceQuery();
+        List<String> parameterPlaceholders = new ArrayList<>(parentProcessIds.size());
+        for (String parentProcessId : parentProcessIds) {
+            String parameterName = "parentProcessId" + parameterPlaceholders.size();
+            query.parameter(parameterName, parentProcessId);
+            parameterPlaceholders.add("#{" + parameterName + "}");
+        }
+        String sql = "SELECT RES.* FROM " + getHistoricProcessInstanceTableName() + " RES WHERE RES.SUPER_PROCESS_INSTANCE_ID_ IN ("
+            + String.join(", ", parameterPlaceholders) + ")";
+        return getIds(query.sql(sql)
+                           .list());
     }
 
-    private boolean deleteProcessSafely(HistoricProcessInstance process) {
-        String processId = process.getId();
+    private boolean deleteProcessSafely(String processId) {
         try {
             LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_HISTORIC_PROCESS_0, processId));
             historyService.deleteHistoricProcessInstance(processId);
@@ -84,4 +147,31 @@ public class FlowableHistoricDataCleaner implements Cleaner {
         }
     }
 
+    // Activities, tasks, variables and the rest of the data of the deleted processes are removed with a few set-based statements, rather
+    // than row by row for every process.
+    private void deleteDataOfDeletedProcesses() {
+        try {
+            historyService.deleteTaskAndActivityDataOfRemovedHistoricProcessInstances();
+            historyService.deleteRelatedDataOfRemovedHistoricProcessInstances();
+        } catch (Exception e) {
+            LOGGER.warn(CleanUpJob.LOG_MARKER, Messages.COULD_NOT_DELETE_DATA_OF_DELETED_HISTORIC_PROCESSES, e);
+        }
+    }
+
+    private String getHistoricProcessInstanceTableName() {
+        return managementService.getTableName(HistoricProcessInstanceEntity.class);
+    }
+
+    private static List<String> getIds(List<HistoricProcessInstance> processes) {
+        return processes.stream()
+                        .map(HistoricProcessInstance::getId)
+                        .collect(Collectors.toList());
+    }
+
+    // The clean-up job interrupts cleaners, which exceed its time budget:
+    protected boolean isCancelled() {
+        return Thread.currentThread()
+                     .isInterrupted();
+    }
+
 }
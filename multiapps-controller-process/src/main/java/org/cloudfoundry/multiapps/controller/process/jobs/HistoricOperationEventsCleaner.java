@@ -27,12 +27,13 @@ public class HistoricOperationEventsCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(Date expirationTime) {
+    public long execute(Date expirationTime) {
         LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_HISTORIC_OPERATION_EVENTS_STORED_BEFORE_0, expirationTime));
         int removedHistoricOperationEvents = historicOperationEventService.createQuery()
                                                                           .olderThan(expirationTime)
                                                                           .delete();
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_HISTORIC_OPERATION_EVENTS_0, removedHistoricOperationEvents));
+        return removedHistoricOperationEvents;
     }
 
 }
\ No newline at end of file
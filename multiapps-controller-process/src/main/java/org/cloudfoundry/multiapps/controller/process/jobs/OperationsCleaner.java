@@ -12,7 +12,9 @@ import javax.inject.Named;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.core.persistence.OrderDirection;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.OperationQuery;
 import org.cloudfoundry.multiapps.controller.core.persistence.service.OperationService;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.flowable.Action;
 import org.cloudfoundry.multiapps.controller.process.flowable.ProcessAction;
@@ -27,25 +29,21 @@ import org.springframework.core.annotation.Order;
 public class OperationsCleaner implements Cleaner {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OperationsCleaner.class);
-    private static final int DEFAULT_PAGE_SIZE = 100;
 
     private final OperationService operationService;
     private final ProcessActionRegistry processActionRegistry;
-    private int pageSize = DEFAULT_PAGE_SIZE;
+    private final ApplicationConfiguration configuration;
 
     @Inject
-    public OperationsCleaner(OperationService operationService, ProcessActionRegistry processActionRegistry) {
+    public OperationsCleaner(OperationService operationService, ProcessActionRegistry processActionRegistry,
+                             ApplicationConfiguration configuration) {
         this.operationService = operationService;
         this.processActionRegistry = processActionRegistry;
-    }
-
-    public OperationsCleaner withPageSize(int pageSize) {
-        this.pageSize = pageSize;
-        return this;
+        this.configuration = configuration;
     }
 
     @Override
-    public void execute(Date expirationTime) {
+    public long execute(Date expirationTime) {
         LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_OPERATIONS_STARTED_BEFORE_0, expirationTime));
         int abortedOperations = abortActiveOperations(expirationTime);
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.ABORTED_OPERATIONS_0, abortedOperations));
@@ -54,38 +52,47 @@ public class OperationsCleaner implements Cleaner {
                                                 .inFinalState()
                                                 .delete();
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_OPERATIONS_0, deletedOperations));
+        return deletedOperations;
     }
 
     private int abortActiveOperations(Date expirationTime) {
+        int pageSize = configuration.getCleanUpJobBatchSize();
         int abortedOperations = 0;
-        for (int pageIndex = 0;; pageIndex++) {
-            List<Operation> operationsPage = getOperationsPage(expirationTime, pageIndex);
+        String lastProcessId = null;
+        while (true) {
+            List<Operation> operationsPage = getOperationsPage(expirationTime, lastProcessId, pageSize);
             for (Operation operation : operationsPage) {
-                if (inFinalState(operation)) {
-                    continue;
-                }
                 boolean abortWasSuccessful = abortSafely(operation);
                 if (abortWasSuccessful) {
                     abortedOperations++;
                 }
             }
-            if (pageSize > operationsPage.size()) {
+            if (pageSize > operationsPage.size() || isCancelled()) {
                 return abortedOperations;
             }
+            lastProcessId = operationsPage.get(operationsPage.size() - 1)
+                                          .getProcessId();
         }
     }
 
-    private List<Operation> getOperationsPage(Date expirationTime, int pageIndex) {
-        return operationService.createQuery()
-                               .startedBefore(expirationTime)
-                               .offsetOnSelect(pageIndex * pageSize)
-                               .limitOnSelect(pageSize)
-                               .orderByProcessId(OrderDirection.ASCENDING)
-                               .list();
+    // Keyset pagination: aborted operations leave the result set, so offsets would skip operations, and the page after the last seen
+    // process ID is found through the index without scanning the preceding rows.
+    private List<Operation> getOperationsPage(Date expirationTime, String lastProcessId, int pageSize) {
+        OperationQuery query = operationService.createQuery()
+                                               .startedBefore(expirationTime)
+                                               .inNonFinalState();
+        if (lastProcessId != null) {
+            query = query.processIdGreaterThan(lastProcessId);
+        }
+        return query.limitOnSelect(pageSize)
+                    .orderByProcessId(OrderDirection.ASCENDING)
+                    .list();
     }
 
-    private boolean inFinalState(Operation operation) {
-        return operation.getState() != null;
+    // The clean-up job interrupts cleaners, which exceed its time budget:
+    protected boolean isCancelled() {
+        return Thread.currentThread()
+                     .isInterrupted();
     }
 
     private boolean abortSafely(Operation operation) {
@@ -0,0 +1,42 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import static java.text.MessageFormat.format;
+
+import java.util.Date;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.core.persistence.service.ProcessVariableContentService;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Deletes the content of shared process variables, whose operations were deleted. It runs after the operations are deleted, so their
+ * content is deleted in the same run of the clean-up job. Historic variables, which are left for a later run of the job, are read as null
+ * once their content is deleted.
+ */
+@Named
+@Order(40)
+public class SharedProcessVariablesCleaner implements Cleaner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedProcessVariablesCleaner.class);
+
+    private final ProcessVariableContentService processVariableContentService;
+
+    @Inject
+    public SharedProcessVariablesCleaner(ProcessVariableContentService processVariableContentService) {
+        this.processVariableContentService = processVariableContentService;
+    }
+
+    @Override
+    public long execute(Date expirationTime) {
+        LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_SHARED_PROCESS_VARIABLES_STORED_BEFORE_0, expirationTime));
+        int deletedVariablesCount = processVariableContentService.deleteContentOfDeletedOperations(expirationTime);
+        LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_SHARED_PROCESS_VARIABLES_0, deletedVariablesCount));
+        return deletedVariablesCount;
+    }
+
+}
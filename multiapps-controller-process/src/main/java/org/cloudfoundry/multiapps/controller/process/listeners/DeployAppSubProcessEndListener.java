@@ -3,7 +3,6 @@ package org.cloudfoundry.multiapps.controller.process.listeners;
 import javax.inject.Named;
 
 import org.cloudfoundry.client.lib.domain.CloudServiceBroker;
-import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudApplicationExtended;
 import org.cloudfoundry.multiapps.controller.process.Constants;
 import org.cloudfoundry.multiapps.controller.process.Messages;
@@ -50,7 +49,9 @@ public class DeployAppSubProcessEndListener implements ExecutionListener {
                                                        .singleResult();
         superExecutionId = superExecutionResult.getSuperExecutionId();
 
-        byte[] binaryJson = variableValue == null ? null : JsonUtil.toJsonBinary(variableValue);
+        byte[] binaryJson = variableValue == null ? null
+            : VariableHandling.getCodec()
+                              .encode(variableValue);
         runtimeService.setVariable(superExecutionId, exportedVariableName, binaryJson);
     }
 
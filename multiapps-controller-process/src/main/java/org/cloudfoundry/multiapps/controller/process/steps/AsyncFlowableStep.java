@@ -4,8 +4,13 @@ import java.util.List;
 
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 
+import io.micrometer.core.instrument.Metrics;
+
 public abstract class AsyncFlowableStep extends SyncFlowableStep {
 
+    public static final String POLLING_METRIC = "multiapps.step.polls";
+    static final String EXECUTION_TAG = "execution";
+    static final double POLLING_INTERVAL_MULTIPLIER = 1.5;
     private static final Integer DEFAULT_STEP_EXECUTION_INDEX = 0;
 
     @Override
@@ -15,12 +20,16 @@ public abstract class AsyncFlowableStep extends SyncFlowableStep {
             return executeStepExecution(context);
         }
         context.setVariable(Variables.ASYNC_STEP_EXECUTION_INDEX, DEFAULT_STEP_EXECUTION_INDEX);
+        resetPollingInterval(context);
         return executeAsyncStep(context);
     }
 
     private StepPhase executeStepExecution(ProcessContext context) throws Exception {
         List<AsyncExecution> stepExecutions = getAsyncStepExecutions(context);
         AsyncExecution stepExecution = getStepExecution(context, stepExecutions);
+        Metrics.counter(POLLING_METRIC, EXECUTION_TAG, stepExecution.getClass()
+                                                                   .getSimpleName())
+               .increment();
         try {
             AsyncExecutionState stepExecutionStatus = stepExecution.execute(context);
             return handleStepExecutionStatus(context, stepExecutionStatus, stepExecutions);
@@ -43,6 +52,7 @@ public abstract class AsyncFlowableStep extends SyncFlowableStep {
                                                 List<AsyncExecution> stepExecutions) {
         if (stepExecutionState == AsyncExecutionState.FINISHED) {
             StepsUtil.incrementVariable(context.getExecution(), Variables.ASYNC_STEP_EXECUTION_INDEX.getName());
+            resetPollingInterval(context);
         }
 
         if (stepExecutionState == AsyncExecutionState.ERROR) {
@@ -50,6 +60,7 @@ public abstract class AsyncFlowableStep extends SyncFlowableStep {
         }
 
         if (stepExecutionState == AsyncExecutionState.RUNNING) {
+            increasePollingInterval(context);
             return StepPhase.POLL;
         }
         return determineStepPhase(context, stepExecutions);
@@ -64,6 +75,22 @@ public abstract class AsyncFlowableStep extends SyncFlowableStep {
         return StepPhase.POLL;
     }
 
+    // The interval is read by the timers of the process definitions. Every execution is polled often at first, so that short operations
+    // finish quickly, and less often the longer it runs, so that long operations (e.g. staging) do not flood the controller with requests:
+    private void resetPollingInterval(ProcessContext context) {
+        context.setVariable(Variables.STEP_POLLING_INTERVAL_IN_SECONDS, configuration.getStepPollingIntervalInSeconds());
+    }
+
+    private void increasePollingInterval(ProcessContext context) {
+        Integer pollingInterval = context.getVariable(Variables.STEP_POLLING_INTERVAL_IN_SECONDS);
+        int minPollingInterval = configuration.getStepPollingIntervalInSeconds();
+        int maxPollingInterval = Math.max(configuration.getMaxStepPollingIntervalInSeconds(), minPollingInterval);
+        int nextPollingInterval = pollingInterval == null ? minPollingInterval
+            : (int) Math.ceil(pollingInterval * POLLING_INTERVAL_MULTIPLIER);
+        context.setVariable(Variables.STEP_POLLING_INTERVAL_IN_SECONDS,
+                            Math.min(Math.max(nextPollingInterval, minPollingInterval), maxPollingInterval));
+    }
+
     @Override
     protected StepPhase getInitialStepPhase(ProcessContext context) {
         StepPhase currentStepPhase = context.getVariable(Variables.STEP_PHASE);
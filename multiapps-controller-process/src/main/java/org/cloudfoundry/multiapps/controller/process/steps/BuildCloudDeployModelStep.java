@@ -243,11 +243,11 @@ public class BuildCloudDeployModelStep extends SyncFlowableStep {
                                             ApplicationCloudModelBuilder applicationCloudModelBuilder, List<? extends Module> modules,
                                             ModuleToDeployHelper moduleToDeployHelper) {
         Set<String> domains = new TreeSet<>();
+        ParametersChainBuilder parametersChainBuilder = new ParametersChainBuilder(descriptor);
         for (Module module : modules) {
             if (!moduleToDeployHelper.isApplication(module)) {
                 continue;
             }
-            ParametersChainBuilder parametersChainBuilder = new ParametersChainBuilder(context.getVariable(Variables.COMPLETE_DEPLOYMENT_DESCRIPTOR));
             List<Map<String, Object>> parametersList = parametersChainBuilder.buildModuleChain(module.getName());
 
             boolean noRoute = (Boolean) PropertiesUtil.getPropertyValue(parametersList, SupportedParameters.NO_ROUTE, false);
@@ -1,11 +1,15 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.apache.commons.collections4.ListUtils;
+import org.cloudfoundry.multiapps.controller.core.cf.clients.ApplicationsGetter;
 import org.cloudfoundry.multiapps.controller.core.security.serialization.SecureSerialization;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.ModuleDependencyChecker;
@@ -19,6 +23,9 @@ import org.springframework.context.annotation.Scope;
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class ComputeNextModulesStep extends SyncFlowableStep {
 
+    @Inject
+    private ApplicationsGetter applicationsGetter;
+
     @Override
     protected StepPhase executeStep(ProcessContext context) {
         getStepLogger().debug(Messages.COMPUTING_NEXT_MODULES_FOR_PARALLEL_ITERATION);
@@ -26,8 +33,7 @@ public class ComputeNextModulesStep extends SyncFlowableStep {
         List<Module> completedModules = context.getVariable(Variables.ITERATED_MODULES_IN_PARALLEL);
 
         DeploymentDescriptor descriptor = context.getVariable(Variables.DEPLOYMENT_DESCRIPTOR);
-        ModuleDependencyChecker dependencyChecker = new ModuleDependencyChecker(context.getControllerClient(),
-                                                                                descriptor.getModules(),
+        ModuleDependencyChecker dependencyChecker = new ModuleDependencyChecker(descriptor.getModules(),
                                                                                 allModulesToDeploy,
                                                                                 completedModules);
 
@@ -36,7 +42,9 @@ public class ComputeNextModulesStep extends SyncFlowableStep {
         getStepLogger().debug("Modules not for deploy detected: " + dependencyChecker.getModulesNotForDeployment());
 
         // Set next iteration data
-        List<Module> modulesForNextIteration = computeApplicationsForNextIteration(allModulesToDeploy, dependencyChecker);
+        Set<String> applicationsInSpace = getDependencyApplicationsInSpace(context, dependencyChecker.getDependenciesNotForDeployment());
+        List<Module> modulesForNextIteration = computeApplicationsForNextIteration(allModulesToDeploy, dependencyChecker,
+                                                                                   applicationsInSpace);
         context.setVariable(Variables.MODULES_TO_ITERATE_IN_PARALLEL, modulesForNextIteration);
 
         // Mark next iteration data as computed
@@ -51,11 +59,29 @@ public class ComputeNextModulesStep extends SyncFlowableStep {
         return Messages.ERROR_COMPUTING_NEXT_MODULES_FOR_PARALLEL_ITERATION;
     }
 
-    private List<Module> computeApplicationsForNextIteration(List<Module> allModulesToDeploy, ModuleDependencyChecker dependencyChecker) {
+    // Only the applications found in the space are remembered for the following iterations. The modules, which are not for deployment,
+    // are not touched by this process, so a found application stays present, while a missing one may still be deployed by someone else
+    // and is therefore looked up again:
+    private Set<String> getDependencyApplicationsInSpace(ProcessContext context, Set<String> dependenciesNotForDeployment) {
+        Set<String> applicationsInSpace = new HashSet<>(context.getVariable(Variables.DEPENDENCY_APPLICATIONS_IN_SPACE));
+        Set<String> applicationsToLookUp = new HashSet<>(dependenciesNotForDeployment);
+        applicationsToLookUp.removeAll(applicationsInSpace);
+        if (applicationsToLookUp.isEmpty()) {
+            return applicationsInSpace;
+        }
+        applicationsInSpace.addAll(applicationsGetter.getExistingApplicationNames(context.getControllerClient(), applicationsToLookUp,
+                                                                                  context.getVariable(Variables.SPACE_GUID)));
+        context.setVariable(Variables.DEPENDENCY_APPLICATIONS_IN_SPACE, applicationsInSpace);
+        return applicationsInSpace;
+    }
+
+    private List<Module> computeApplicationsForNextIteration(List<Module> allModulesToDeploy, ModuleDependencyChecker dependencyChecker,
+                                                             Set<String> applicationsInSpace) {
         return allModulesToDeploy.stream()
                                  .filter(module -> !dependencyChecker.getAlreadyDeployedModules()
                                                                      .contains(module.getName()))
-                                 .filter(dependencyChecker::areAllDependenciesSatisfied)
+                                 .filter(module -> dependencyChecker.areAllDependenciesSatisfied(module, applicationsInSpace))
+                                 .limit(configuration.getMaxParallelModuleDeployments())
                                  .collect(Collectors.toList());
     }
 
@@ -1,12 +1,17 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.cloudfoundry.multiapps.controller.core.cf.CloudHandlerFactory;
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaDescriptorMerger;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.util.MtaArchiveCache;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
 import org.cloudfoundry.multiapps.mta.model.ExtensionDescriptor;
@@ -18,26 +23,58 @@ import org.springframework.context.annotation.Scope;
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class MergeDescriptorsStep extends SyncFlowableStep {
 
+    @Inject
+    protected MtaArchiveCache mtaArchiveCache;
+
     protected MtaDescriptorMerger getMtaDescriptorMerger(CloudHandlerFactory factory, Platform platform) {
         return new MtaDescriptorMerger(factory, platform, getStepLogger());
     }
 
     @Override
-    protected StepPhase executeStep(ProcessContext context) {
+    protected StepPhase executeStep(ProcessContext context) throws FileStorageException {
         getStepLogger().debug(Messages.MERGING_DESCRIPTORS);
-        DeploymentDescriptor deploymentDescriptor = context.getVariable(Variables.DEPLOYMENT_DESCRIPTOR);
-        List<ExtensionDescriptor> extensionDescriptors = context.getVariable(Variables.MTA_EXTENSION_DESCRIPTOR_CHAIN);
-
         CloudHandlerFactory handlerFactory = StepsUtil.getHandlerFactory(context.getExecution());
         Platform platform = configuration.getPlatform();
-        DeploymentDescriptor descriptor = getMtaDescriptorMerger(handlerFactory, platform).merge(deploymentDescriptor,
-                                                                                                 extensionDescriptors);
+        MtaDescriptorMerger merger = getMtaDescriptorMerger(handlerFactory, platform);
+
+        FileEntry appArchive = getFile(context, context.getVariable(Variables.APP_ARCHIVE_ID));
+        List<FileEntry> extensionDescriptorFiles = getExtensionDescriptorFiles(context);
+        DeploymentDescriptor descriptor = mtaArchiveCache.getMergedDescriptor(appArchive, extensionDescriptorFiles);
+        if (descriptor != null) {
+            getStepLogger().debug(Messages.USING_PREVIOUSLY_MERGED_DESCRIPTORS);
+            // The validation only warns about incompatible parameters, but it should not modify the shared descriptor:
+            descriptor = merger.validateParameters(DeploymentDescriptor.copyOf(descriptor));
+        } else {
+            DeploymentDescriptor deploymentDescriptor = context.getVariable(Variables.DEPLOYMENT_DESCRIPTOR);
+            List<ExtensionDescriptor> extensionDescriptors = context.getVariable(Variables.MTA_EXTENSION_DESCRIPTOR_CHAIN);
+            descriptor = merger.merge(deploymentDescriptor, extensionDescriptors);
+            mtaArchiveCache.putMergedDescriptor(appArchive, extensionDescriptorFiles, descriptor);
+        }
         context.setVariable(Variables.DEPLOYMENT_DESCRIPTOR, descriptor);
         getStepLogger().debug(Messages.DESCRIPTORS_MERGED);
         
         return StepPhase.DONE;
     }
 
+    private List<FileEntry> getExtensionDescriptorFiles(ProcessContext context) throws FileStorageException {
+        List<FileEntry> extensionDescriptorFiles = new ArrayList<>();
+        String extensionDescriptorFileIds = context.getVariable(Variables.EXT_DESCRIPTOR_FILE_ID);
+        if (extensionDescriptorFileIds == null || extensionDescriptorFileIds.isEmpty()) {
+            return extensionDescriptorFiles;
+        }
+        for (String extensionDescriptorFileId : extensionDescriptorFileIds.split(",")) {
+            extensionDescriptorFiles.add(getFile(context, extensionDescriptorFileId));
+        }
+        return extensionDescriptorFiles;
+    }
+
+    private FileEntry getFile(ProcessContext context, String fileId) throws FileStorageException {
+        if (fileId == null) {
+            return null;
+        }
+        return fileService.getFile(context.getVariable(Variables.SPACE_GUID), fileId);
+    }
+
     @Override
     protected String getStepErrorMessage(ProcessContext context) {
         return Messages.ERROR_MERGING_DESCRIPTORS;
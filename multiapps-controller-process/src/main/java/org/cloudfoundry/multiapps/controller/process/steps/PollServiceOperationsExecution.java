@@ -44,9 +44,10 @@ public abstract class PollServiceOperationsExecution implements AsyncExecution {
             return AsyncExecutionState.FINISHED;
         }
 
+        Map<String, ServiceOperation> lastServiceOperations = getLastServiceOperationsAndHandleExceptions(context, servicesToPoll);
         Map<CloudServiceInstanceExtended, ServiceOperation> servicesWithLastOperation = new HashMap<>();
         for (CloudServiceInstanceExtended service : servicesToPoll) {
-            ServiceOperation lastServiceOperation = getLastServiceOperationAndHandleExceptions(context, service);
+            ServiceOperation lastServiceOperation = getLastServiceOperation(context, service, lastServiceOperations.get(service.getName()));
             if (lastServiceOperation != null) {
                 servicesWithLastOperation.put(service, lastServiceOperation);
             }
@@ -88,22 +89,26 @@ public abstract class PollServiceOperationsExecution implements AsyncExecution {
         return getServicesWithTriggeredOperations(servicesData, triggeredServiceOperations);
     }
 
-    private ServiceOperation getLastServiceOperationAndHandleExceptions(ProcessContext context, CloudServiceInstanceExtended service) {
+    private Map<String, ServiceOperation> getLastServiceOperationsAndHandleExceptions(ProcessContext context,
+                                                                                      List<CloudServiceInstanceExtended> services) {
         try {
-            ServiceOperation lastServiceOperation = getLastServiceOperation(context, service);
-            if (lastServiceOperation != null) {
-                return mapOperationState(context.getStepLogger(), lastServiceOperation, service);
-            }
-            handleMissingOperationState(context.getStepLogger(), service);
-            return null;
+            return serviceOperationGetter.getLastServiceOperations(context, services);
         } catch (CloudOperationException e) {
-            String errorMessage = format(Messages.ERROR_POLLING_OF_SERVICE, service.getName(), e.getStatusText());
+            String serviceNames = services.stream()
+                                          .map(CloudServiceInstanceExtended::getName)
+                                          .collect(Collectors.joining("\", \"", "\"", "\""));
+            String errorMessage = format(Messages.ERROR_POLLING_OF_SERVICES, serviceNames, e.getStatusText());
             throw new CloudControllerException(e.getStatusCode(), errorMessage, e.getDescription());
         }
     }
 
-    private ServiceOperation getLastServiceOperation(ProcessContext context, CloudServiceInstanceExtended service) {
-        return serviceOperationGetter.getLastServiceOperation(context, service);
+    private ServiceOperation getLastServiceOperation(ProcessContext context, CloudServiceInstanceExtended service,
+                                                     ServiceOperation lastServiceOperation) {
+        if (lastServiceOperation != null) {
+            return mapOperationState(context.getStepLogger(), lastServiceOperation, service);
+        }
+        handleMissingOperationState(context.getStepLogger(), service);
+        return null;
     }
 
     protected ServiceOperation mapOperationState(StepLogger stepLogger, ServiceOperation lastServiceOperation,
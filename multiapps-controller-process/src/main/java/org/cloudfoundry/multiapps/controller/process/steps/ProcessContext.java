@@ -1,5 +1,8 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.cloudfoundry.client.lib.CloudControllerClient;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
@@ -11,11 +14,18 @@ import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.flowable.engine.delegate.DelegateExecution;
 
+/**
+ * The context of a single execution of a step. Deserialized variables are cached for the execution of the step, since steps and the
+ * helpers they call read the same variables (e.g. the deployment descriptor) many times. A cached value is returned only while the
+ * execution still holds the serialized value it was deserialized from, so changes made directly through the execution are not missed.
+ * Values read through the context are therefore shared by all readers and must not be modified, unless they are set again.
+ */
 public class ProcessContext {
 
     private final DelegateExecution execution;
     private final StepLogger stepLogger;
     private final CloudControllerClientProvider clientProvider;
+    private final Map<Variable<?>, CachedValue> cachedValues = new ConcurrentHashMap<>();
 
     public ProcessContext(DelegateExecution execution, StepLogger stepLogger, CloudControllerClientProvider clientProvider) {
         this.execution = execution;
@@ -52,16 +62,44 @@ public class ProcessContext {
         return value;
     }
 
+    @SuppressWarnings("unchecked")
     public <T> T getVariable(Variable<T> variable) {
-        return VariableHandling.get(execution, variable);
+        Object serializedValue = execution.getVariable(variable.getName());
+        CachedValue cachedValue = cachedValues.get(variable);
+        // Flowable returns the same instance of the serialized value until the variable is set again:
+        if (cachedValue != null && cachedValue.serializedValue == serializedValue) {
+            return (T) cachedValue.value;
+        }
+        T value = VariableHandling.deserialize(variable, serializedValue);
+        cachedValues.put(variable, new CachedValue(serializedValue, value));
+        return value;
     }
 
     public <T> void setVariable(Variable<T> variable, T value) {
-        VariableHandling.set(execution, variable, value);
+        Object serializedValue = VariableHandling.serialize(variable, value);
+        execution.setVariable(variable.getName(), serializedValue);
+        if (value == null) {
+            cachedValues.remove(variable);
+            return;
+        }
+        cachedValues.put(variable, new CachedValue(serializedValue, value));
     }
 
     public void removeVariable(Variable<?> variable) {
         VariableHandling.remove(execution, variable);
+        cachedValues.remove(variable);
+    }
+
+    private static class CachedValue {
+
+        private final Object serializedValue;
+        private final Object value;
+
+        CachedValue(Object serializedValue, Object value) {
+            this.serializedValue = serializedValue;
+            this.value = value;
+        }
+
     }
 
 }
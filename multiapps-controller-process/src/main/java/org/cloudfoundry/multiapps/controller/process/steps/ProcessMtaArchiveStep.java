@@ -11,10 +11,14 @@ import org.cloudfoundry.multiapps.controller.core.helpers.DescriptorParserFacade
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveElements;
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveHelper;
 import org.cloudfoundry.multiapps.controller.core.persistence.service.OperationService;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.cloudfoundry.multiapps.controller.process.util.ImmutableProcessedMtaArchive;
+import org.cloudfoundry.multiapps.controller.process.util.MtaArchiveCache;
 import org.cloudfoundry.multiapps.controller.process.util.ProcessConflictPreventer;
+import org.cloudfoundry.multiapps.controller.process.util.ProcessedMtaArchive;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.cloudfoundry.multiapps.mta.handlers.ArchiveHandler;
 import org.cloudfoundry.multiapps.mta.handlers.DescriptorParserFacade;
@@ -28,6 +32,9 @@ public class ProcessMtaArchiveStep extends SyncFlowableStep {
     @Inject
     protected DescriptorParserFacadeFactory descriptorParserFactory;
 
+    @Inject
+    protected MtaArchiveCache mtaArchiveCache;
+
     protected Function<OperationService, ProcessConflictPreventer> conflictPreventerSupplier = ProcessConflictPreventer::new;
 
     @Override
@@ -49,10 +56,32 @@ public class ProcessMtaArchiveStep extends SyncFlowableStep {
     }
 
     private void processApplicationArchive(ProcessContext context, String appArchiveId) throws FileStorageException {
+        FileEntry appArchive = fileService.getFile(context.getVariable(Variables.SPACE_GUID), appArchiveId);
+        ProcessedMtaArchive processedArchive = mtaArchiveCache.getProcessedArchive(appArchive);
+        if (processedArchive != null) {
+            getStepLogger().debug(Messages.USING_PREVIOUSLY_PROCESSED_MTA_ARCHIVE_0, appArchiveId);
+            setProcessedArchive(context, processedArchive);
+            return;
+        }
         fileService.consumeFileContent(context.getVariable(Variables.SPACE_GUID), appArchiveId,
                                        createDeploymentDescriptorFileContentConsumer(context));
         fileService.consumeFileContent(context.getVariable(Variables.SPACE_GUID), appArchiveId,
                                        createManifestFileContentConsumer(context, appArchiveId));
+        mtaArchiveCache.putProcessedArchive(appArchive, getProcessedArchive(context));
+    }
+
+    private void setProcessedArchive(ProcessContext context, ProcessedMtaArchive processedArchive) {
+        context.setVariable(Variables.DEPLOYMENT_DESCRIPTOR, processedArchive.getDeploymentDescriptor());
+        context.setVariable(Variables.MTA_ARCHIVE_ELEMENTS, processedArchive.getMtaArchiveElements());
+        context.setVariable(Variables.MTA_ARCHIVE_MODULES, processedArchive.getMtaArchiveModules());
+    }
+
+    private ProcessedMtaArchive getProcessedArchive(ProcessContext context) {
+        return ImmutableProcessedMtaArchive.builder()
+                                           .deploymentDescriptor(context.getVariable(Variables.DEPLOYMENT_DESCRIPTOR))
+                                           .mtaArchiveElements(context.getVariable(Variables.MTA_ARCHIVE_ELEMENTS))
+                                           .mtaArchiveModules(context.getVariable(Variables.MTA_ARCHIVE_MODULES))
+                                           .build();
     }
 
     private FileContentConsumer createDeploymentDescriptorFileContentConsumer(ProcessContext context) {
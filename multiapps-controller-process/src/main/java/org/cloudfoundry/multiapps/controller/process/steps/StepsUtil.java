@@ -1,6 +1,5 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -16,7 +15,6 @@ import org.cloudfoundry.client.lib.domain.CloudApplication;
 import org.cloudfoundry.client.lib.domain.CloudServiceBroker;
 import org.cloudfoundry.client.lib.domain.CloudTask;
 import org.cloudfoundry.multiapps.common.SLException;
-import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudHandlerFactory;
 import org.cloudfoundry.multiapps.controller.core.cf.clients.RecentLogsRetriever;
 import org.cloudfoundry.multiapps.controller.core.cf.v2.ApplicationCloudModelBuilder;
@@ -100,7 +98,8 @@ public class StepsUtil {
             return Collections.emptyList();
         }
         byte[] deletedEntriesByteArray = (byte[]) deletedEntries.getValue();
-        return Arrays.asList(JsonUtil.fromJsonBinary(deletedEntriesByteArray, ConfigurationEntry[].class));
+        return Arrays.asList(VariableHandling.getCodec()
+                                             .decode(deletedEntriesByteArray, Variable.typeReference(ConfigurationEntry[].class)));
     }
 
     static List<ConfigurationEntry> getDeletedEntriesFromAllProcesses(ProcessContext context, FlowableFacade flowableFacade) {
@@ -121,7 +120,8 @@ public class StepsUtil {
             return Collections.emptyList();
         }
         byte[] binaryJson = (byte[]) publishedEntries.getValue();
-        return Arrays.asList(JsonUtil.fromJsonBinary(binaryJson, ConfigurationEntry[].class));
+        return Arrays.asList(VariableHandling.getCodec()
+                                             .decode(binaryJson, Variable.typeReference(ConfigurationEntry[].class)));
     }
 
     static List<ConfigurationEntry> getPublishedEntriesFromSubProcesses(ProcessContext context, FlowableFacade flowableFacade) {
@@ -254,8 +254,8 @@ public class StepsUtil {
         if (jsonBinary == null) {
             return defaultValue;
         }
-        String jsonString = new String(jsonBinary, StandardCharsets.UTF_8);
-        return JsonUtil.fromJson(jsonString, type);
+        return VariableHandling.getCodec()
+                               .decode(jsonBinary, type);
     }
 
     public static void setAsJsonBinary(VariableScope scope, String name, Object value) {
@@ -263,7 +263,8 @@ public class StepsUtil {
             scope.setVariable(name, null);
             return;
         }
-        byte[] jsonBinary = JsonUtil.toJsonBinary(value);
+        byte[] jsonBinary = VariableHandling.getCodec()
+                                            .encode(value);
         scope.setVariable(name, jsonBinary);
     }
 
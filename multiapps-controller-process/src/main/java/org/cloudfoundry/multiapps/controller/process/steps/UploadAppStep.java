@@ -30,6 +30,7 @@ import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveElements;
 import org.cloudfoundry.multiapps.controller.core.model.SupportedParameters;
 import org.cloudfoundry.multiapps.controller.core.security.serialization.SecureSerialization;
 import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
@@ -38,6 +39,7 @@ import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveRead
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationStager;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
 import org.cloudfoundry.multiapps.controller.process.util.CloudPackagesGetter;
+import org.cloudfoundry.multiapps.controller.process.util.MtaArchiveCache;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +58,8 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
     protected ApplicationZipBuilder applicationZipBuilder;
     @Inject
     protected CloudPackagesGetter cloudPackagesGetter;
+    @Inject
+    protected MtaArchiveCache mtaArchiveCache;
 
     @Override
     public StepPhase executeAsyncStep(ProcessContext context) throws FileStorageException {
@@ -125,8 +129,16 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
     }
 
     private String getNewApplicationDigest(ProcessContext context, String appArchiveId, String fileName) throws FileStorageException {
-        return fileService.processFileContent(context.getVariable(Variables.SPACE_GUID), appArchiveId,
-                                              createDigestCalculatorFileContentProcessor(fileName));
+        FileEntry appArchive = fileService.getFile(context.getVariable(Variables.SPACE_GUID), appArchiveId);
+        String applicationDigest = mtaArchiveCache.getModuleDigest(appArchive, fileName);
+        if (applicationDigest != null) {
+            getStepLogger().debug(Messages.USING_PREVIOUSLY_CALCULATED_DIGEST_OF_FILE_0, fileName);
+            return applicationDigest;
+        }
+        applicationDigest = fileService.processFileContent(context.getVariable(Variables.SPACE_GUID), appArchiveId,
+                                                           createDigestCalculatorFileContentProcessor(fileName));
+        mtaArchiveCache.putModuleDigest(appArchive, fileName, applicationDigest);
+        return applicationDigest;
     }
 
     private FileContentProcessor<String> createDigestCalculatorFileContentProcessor(String fileName) {
@@ -7,6 +7,7 @@ import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.flowable.engine.HistoryService;
+import org.flowable.engine.RuntimeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,7 +28,22 @@ public class ClientReleaser {
         String organizationName = HistoryUtil.getVariableValue(historyService, processInstanceId, Variables.ORGANIZATION_NAME.getName());
         String spaceName = HistoryUtil.getVariableValue(historyService, processInstanceId, Variables.SPACE_NAME.getName());
         String spaceGuid = HistoryUtil.getVariableValue(historyService, processInstanceId, Variables.SPACE_GUID.getName());
+        releaseClient(user, organizationName, spaceName, spaceGuid);
+    }
+
+    /**
+     * Releases the client of a running process. Unlike {@link #releaseClientFor(HistoryService, String)}, it works for processes without
+     * history.
+     */
+    public void releaseClientFor(RuntimeService runtimeService, String executionId) {
+        String user = (String) runtimeService.getVariable(executionId, Variables.USER.getName());
+        String organizationName = (String) runtimeService.getVariable(executionId, Variables.ORGANIZATION_NAME.getName());
+        String spaceName = (String) runtimeService.getVariable(executionId, Variables.SPACE_NAME.getName());
+        String spaceGuid = (String) runtimeService.getVariable(executionId, Variables.SPACE_GUID.getName());
+        releaseClient(user, organizationName, spaceName, spaceGuid);
+    }
 
+    private void releaseClient(String user, String organizationName, String spaceName, String spaceGuid) {
         try {
             clientProvider.releaseClient(user, organizationName, spaceName);
             clientProvider.releaseClient(user, spaceGuid);
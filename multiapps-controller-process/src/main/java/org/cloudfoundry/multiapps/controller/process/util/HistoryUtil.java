@@ -3,6 +3,8 @@ package org.cloudfoundry.multiapps.controller.process.util;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 
 public final class HistoryUtil {
@@ -10,7 +12,14 @@ public final class HistoryUtil {
     private HistoryUtil() {
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> T getVariableValue(CommandContext commandContext, String processInstanceId, String variableName) {
+        // Processes may have no history, depending on the history level of their definition, so running ones are read from the runtime:
+        ExecutionEntity processInstance = CommandContextUtil.getExecutionEntityManager(commandContext)
+                                                            .findById(processInstanceId);
+        if (processInstance != null) {
+            return (T) processInstance.getVariable(variableName);
+        }
         HistoricVariableInstance variable = getVariableInstance(commandContext, processInstanceId, variableName);
         return getValue(variable);
     }
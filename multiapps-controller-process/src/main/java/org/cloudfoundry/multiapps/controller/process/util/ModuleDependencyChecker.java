@@ -1,12 +1,9 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.cloudfoundry.client.lib.CloudControllerClient;
-import org.cloudfoundry.client.lib.domain.CloudApplication;
 import org.cloudfoundry.multiapps.mta.model.Module;
 
 public class ModuleDependencyChecker {
@@ -14,11 +11,10 @@ public class ModuleDependencyChecker {
     private final Set<String> modulesForDeployment;
     private final Set<String> modulesNotForDeployment;
     private final Set<String> modulesAlreadyDeployed;
-    private final CloudControllerClient client;
+    private final List<Module> allModulesToDeploy;
 
-    public ModuleDependencyChecker(CloudControllerClient client, List<Module> allModulesInDescriptor, List<Module> allModulesToDeploy,
-                                   List<Module> completedModules) {
-        this.client = client;
+    public ModuleDependencyChecker(List<Module> allModulesInDescriptor, List<Module> allModulesToDeploy, List<Module> completedModules) {
+        this.allModulesToDeploy = allModulesToDeploy;
 
         modulesForDeployment = computeModulesForDeployment(allModulesToDeploy);
         modulesAlreadyDeployed = computeAlreadyDeployedModules(completedModules);
@@ -44,23 +40,36 @@ public class ModuleDependencyChecker {
                          .collect(Collectors.toSet());
     }
 
-    public boolean areAllDependenciesSatisfied(Module module) {
-        if (module.getMajorSchemaVersion() < 3) {
-            return true;
-        }
+    /**
+     * Returns the names of the modules, which are not for deployment, but have to be present in the space as applications, so that the
+     * dependencies of the remaining modules can be checked. The applications can then be looked up with a single batched request, instead
+     * of one request per dependency.
+     */
+    public Set<String> getDependenciesNotForDeployment() {
+        return allModulesToDeploy.stream()
+                                 .filter(module -> !modulesAlreadyDeployed.contains(module.getName()))
+                                 .filter(module -> !hasNoDependencies(module) && !areDependenciesProcessed(module))
+                                 .flatMap(module -> module.getDeployedAfter()
+                                                          .stream())
+                                 .filter(modulesNotForDeployment::contains)
+                                 .collect(Collectors.toSet());
+    }
 
-        return module.getDeployedAfter()
-                     .isEmpty()
-            || areDependenciesProcessed(module) || areAllDependenciesAlreadyPresent(module.getDeployedAfter());
+    public boolean areAllDependenciesSatisfied(Module module, Set<String> applicationsInSpace) {
+        return hasNoDependencies(module) || areDependenciesProcessed(module)
+            || areAllDependenciesAlreadyPresent(module.getDeployedAfter(), applicationsInSpace);
+    }
+
+    private boolean hasNoDependencies(Module module) {
+        return module.getMajorSchemaVersion() < 3 || module.getDeployedAfter()
+                                                           .isEmpty();
     }
 
-    private boolean areAllDependenciesAlreadyPresent(List<String> deployedAfter) {
-        List<CloudApplication> modulesNotFoundInSpace = deployedAfter.stream()
-                                                                     .filter(modulesNotForDeployment::contains)
-                                                                     .map(deployAfterDependency -> client.getApplication(deployAfterDependency,
-                                                                                                                         false))
-                                                                     .filter(Objects::isNull)
-                                                                     .collect(Collectors.toList());
+    private boolean areAllDependenciesAlreadyPresent(List<String> deployedAfter, Set<String> applicationsInSpace) {
+        List<String> modulesNotFoundInSpace = deployedAfter.stream()
+                                                           .filter(modulesNotForDeployment::contains)
+                                                           .filter(module -> !applicationsInSpace.contains(module))
+                                                           .collect(Collectors.toList());
 
         List<String> modulesNotYetDeployed = deployedAfter.stream()
                                                           .filter(modulesForDeployment::contains)
@@ -0,0 +1,86 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Keeps the results of processing MTA archives and merging their descriptors, so that retried operations and repeated deployments of the
+ * same archive do not have to read, parse and merge it again. The results are keyed by the spaces, digests and sizes of the archive and the
+ * extension descriptors, since the same files are uploaded again for each deployment. The files are digested with MD5, which does not
+ * withstand deliberate collisions, so the results are not shared between spaces. They are softly referenced, so they are released when
+ * memory is needed.
+ */
+@Named
+public class MtaArchiveCache {
+
+    private final Map<String, ProcessedMtaArchive> processedArchives = new ConcurrentReferenceHashMap<>();
+    private final Map<String, String> moduleDigests = new ConcurrentReferenceHashMap<>();
+    private final Map<String, DeploymentDescriptor> mergedDescriptors = new ConcurrentReferenceHashMap<>();
+
+    public ProcessedMtaArchive getProcessedArchive(FileEntry archive) {
+        String key = getKey(archive);
+        return key == null ? null : processedArchives.get(key);
+    }
+
+    public void putProcessedArchive(FileEntry archive, ProcessedMtaArchive processedArchive) {
+        String key = getKey(archive);
+        if (key != null) {
+            processedArchives.put(key, processedArchive);
+        }
+    }
+
+    public String getModuleDigest(FileEntry archive, String moduleFileName) {
+        String key = getKey(archive);
+        return key == null ? null : moduleDigests.get(getModuleKey(key, moduleFileName));
+    }
+
+    public void putModuleDigest(FileEntry archive, String moduleFileName, String moduleDigest) {
+        String key = getKey(archive);
+        if (key != null) {
+            moduleDigests.put(getModuleKey(key, moduleFileName), moduleDigest);
+        }
+    }
+
+    /**
+     * @return the merged descriptor, which must not be modified, since it is shared between operations
+     */
+    public DeploymentDescriptor getMergedDescriptor(FileEntry archive, List<FileEntry> extensionDescriptors) {
+        String key = getKey(archive, extensionDescriptors);
+        return key == null ? null : mergedDescriptors.get(key);
+    }
+
+    public void putMergedDescriptor(FileEntry archive, List<FileEntry> extensionDescriptors, DeploymentDescriptor mergedDescriptor) {
+        String key = getKey(archive, extensionDescriptors);
+        if (key != null) {
+            mergedDescriptors.put(key, mergedDescriptor);
+        }
+    }
+
+    private static String getKey(FileEntry archive, List<FileEntry> extensionDescriptors) {
+        List<String> keys = extensionDescriptors.stream()
+                                                .map(MtaArchiveCache::getKey)
+                                                .collect(Collectors.toList());
+        keys.add(0, getKey(archive));
+        return keys.contains(null) ? null : String.join("|", keys);
+    }
+
+    private static String getKey(FileEntry file) {
+        if (file == null || file.getDigest() == null) {
+            return null;
+        }
+        return String.join(":", file.getSpace(), file.getDigestAlgorithm(), file.getDigest(), Objects.toString(file.getSize()));
+    }
+
+    private static String getModuleKey(String key, String moduleFileName) {
+        return key + ":" + moduleFileName;
+    }
+
+}
@@ -21,8 +21,8 @@ import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage.P
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
-import org.flowable.engine.HistoryService;
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.RuntimeService;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.runtime.Execution;
 
@@ -143,8 +143,8 @@ public class OperationInErrorStateHandler {
     }
 
     private void releaseCloudControllerClient(FlowableEngineEvent event) {
-        HistoryService historyService = getProcessEngineConfiguration().getHistoryService();
-        clientReleaser.releaseClientFor(historyService, event.getProcessInstanceId());
+        RuntimeService runtimeService = getProcessEngineConfiguration().getRuntimeService();
+        clientReleaser.releaseClientFor(runtimeService, event.getProcessInstanceId());
     }
 
 }
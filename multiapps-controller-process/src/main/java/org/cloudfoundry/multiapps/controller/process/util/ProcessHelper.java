@@ -1,11 +1,16 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.apache.commons.collections4.ListUtils;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation.State;
 import org.cloudfoundry.multiapps.controller.core.model.HistoricOperationEvent;
@@ -17,6 +22,9 @@ import org.flowable.engine.runtime.ProcessInstance;
 @Named
 public class ProcessHelper {
 
+    // Keeps the IN lists of the batched queries below the limits of all supported databases:
+    private static final int MAX_PROCESS_IDS_PER_QUERY = 500;
+
     private final FlowableFacade flowableFacade;
     private final HistoricOperationEventService historicOperationEventService;
 
@@ -45,6 +53,53 @@ public class ProcessHelper {
         return State.FINISHED;
     }
 
+    /**
+     * Computes the states of multiple processes with a constant number of queries per {@value #MAX_PROCESS_IDS_PER_QUERY} processes. The
+     * computed states are the same as the ones returned by {@link #computeProcessState(String)}.
+     */
+    public Map<String, Operation.State> computeProcessStates(List<String> processIds) {
+        Map<String, Operation.State> processStates = new HashMap<>();
+        for (List<String> processIdsBatch : ListUtils.partition(processIds, MAX_PROCESS_IDS_PER_QUERY)) {
+            processStates.putAll(computeProcessStatesBatch(processIdsBatch));
+        }
+        return processStates;
+    }
+
+    private Map<String, Operation.State> computeProcessStatesBatch(List<String> processIds) {
+        Set<String> abortedProcessIds = getAbortedProcessIds(processIds);
+        Set<String> activeProcessIds = flowableFacade.findActiveProcessInstances(processIds);
+        // Dead letter jobs and receive tasks can only be found in active processes:
+        Set<String> processIdsInErrorState = flowableFacade.findProcessInstancesWithDeadLetterJobs(activeProcessIds);
+        Set<String> processIdsAtReceiveTask = flowableFacade.findProcessInstancesAtReceiveTask(activeProcessIds);
+        return processIds.stream()
+                         .distinct()
+                         .collect(Collectors.toMap(processId -> processId, processId -> {
+                             if (abortedProcessIds.contains(processId)) {
+                                 return State.ABORTED;
+                             }
+                             if (processIdsInErrorState.contains(processId)) {
+                                 return State.ERROR;
+                             }
+                             if (processIdsAtReceiveTask.contains(processId)) {
+                                 return State.ACTION_REQUIRED;
+                             }
+                             if (activeProcessIds.contains(processId)) {
+                                 return State.RUNNING;
+                             }
+                             return State.FINISHED;
+                         }));
+    }
+
+    private Set<String> getAbortedProcessIds(List<String> processIds) {
+        return historicOperationEventService.createQuery()
+                                            .processIdAnyOf(processIds)
+                                            .type(EventType.ABORTED)
+                                            .list()
+                                            .stream()
+                                            .map(HistoricOperationEvent::getProcessId)
+                                            .collect(Collectors.toSet());
+    }
+
     private boolean isInReceiveTask(String processId) {
         return flowableFacade.isProcessInstanceAtReceiveTask(processId);
     }
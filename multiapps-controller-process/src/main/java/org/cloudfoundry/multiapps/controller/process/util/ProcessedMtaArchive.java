@@ -0,0 +1,18 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.util.Set;
+
+import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveElements;
+import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.immutables.value.Value;
+
+@Value.Immutable
+public interface ProcessedMtaArchive {
+
+    DeploymentDescriptor getDeploymentDescriptor();
+
+    MtaArchiveElements getMtaArchiveElements();
+
+    Set<String> getMtaArchiveModules();
+
+}
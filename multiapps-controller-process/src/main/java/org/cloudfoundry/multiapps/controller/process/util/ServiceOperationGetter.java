@@ -1,13 +1,21 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.cloudfoundry.client.lib.CloudControllerClient;
 import org.cloudfoundry.client.lib.domain.CloudEvent;
@@ -21,13 +29,21 @@ import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 @Named
 public class ServiceOperationGetter {
 
+    // The services of a batch are polled with a single request, which can filter by up to this many names:
+    private static final int SERVICES_PER_BATCH = 50;
+
     private ServiceGetter serviceGetter;
     private EventsGetter eventsGetter;
+    private ServiceStatusPoller serviceStatusPoller;
+    private Executor servicePollingExecutor;
 
     @Inject
-    public ServiceOperationGetter(ServiceGetter serviceGetter, EventsGetter eventsGetter) {
+    public ServiceOperationGetter(ServiceGetter serviceGetter, EventsGetter eventsGetter, ServiceStatusPoller serviceStatusPoller,
+                                  @Named("servicePollingExecutor") Executor servicePollingExecutor) {
         this.serviceGetter = serviceGetter;
         this.eventsGetter = eventsGetter;
+        this.serviceStatusPoller = serviceStatusPoller;
+        this.servicePollingExecutor = servicePollingExecutor;
     }
 
     public ServiceOperation getLastServiceOperation(ProcessContext context, CloudServiceInstanceExtended service) {
@@ -40,6 +56,85 @@ public class ServiceOperationGetter {
         return getLastServiceOperation(serviceInstanceEntity);
     }
 
+    /**
+     * Polls the last operations of the given services, which exist in the space of the process, through the {@link ServiceStatusPoller}.
+     * The services are split into batches of up to {@value #SERVICES_PER_BATCH}, which are polled with one request each. Only the batches
+     * are polled concurrently, so that the batching does not multiply the requests to the Cloud Controller.
+     *
+     * @return the last operations of the services, mapped to their names
+     */
+    public Map<String, ServiceOperation> getLastServiceOperations(ProcessContext context, List<CloudServiceInstanceExtended> services) {
+        // The variables of the process must not be accessed from other threads:
+        CloudControllerClient client = context.getControllerClient();
+        String user = context.getVariable(Variables.USER);
+        String spaceGuid = context.getVariable(Variables.SPACE_GUID);
+        List<CompletableFuture<Map<String, ServiceOperation>>> batches = ListUtils.partition(services, SERVICES_PER_BATCH)
+                                                                                  .stream()
+                                                                                  .map(batch -> CompletableFuture.supplyAsync(() -> getLastServiceOperations(client,
+                                                                                                                                                             user,
+                                                                                                                                                             spaceGuid,
+                                                                                                                                                             batch),
+                                                                                                                              servicePollingExecutor))
+                                                                                  .collect(Collectors.toList());
+        Map<String, ServiceOperation> lastServiceOperations = new HashMap<>();
+        for (CompletableFuture<Map<String, ServiceOperation>> batch : batches) {
+            lastServiceOperations.putAll(join(batch));
+        }
+        return lastServiceOperations;
+    }
+
+    private Map<String, ServiceOperation> getLastServiceOperations(CloudControllerClient client, String user, String spaceGuid,
+                                                                   List<CloudServiceInstanceExtended> services) {
+        List<String> serviceNames = services.stream()
+                                            .map(CloudServiceInstanceExtended::getName)
+                                            .collect(Collectors.toList());
+        Map<String, Map<String, Object>> serviceInstanceEntities = serviceStatusPoller.getServiceInstanceEntities(client, user, spaceGuid,
+                                                                                                                  serviceNames);
+        Set<UUID> deletedServiceGuids = getDeletedServiceGuids(client, services, serviceInstanceEntities);
+        Map<String, ServiceOperation> lastServiceOperations = new HashMap<>();
+        for (CloudServiceInstanceExtended service : services) {
+            Map<String, Object> serviceInstanceEntity = serviceInstanceEntities.get(service.getName());
+            ServiceOperation lastServiceOperation = MapUtils.isEmpty(serviceInstanceEntity)
+                ? getLastDeleteServiceOperation(service, deletedServiceGuids)
+                : getLastServiceOperation(serviceInstanceEntity);
+            lastServiceOperations.put(service.getName(), lastServiceOperation);
+        }
+        return lastServiceOperations;
+    }
+
+    private Set<UUID> getDeletedServiceGuids(CloudControllerClient client, List<CloudServiceInstanceExtended> services,
+                                             Map<String, Map<String, Object>> serviceInstanceEntities) {
+        List<UUID> missingServiceGuids = services.stream()
+                                                 .filter(service -> MapUtils.isEmpty(serviceInstanceEntities.get(service.getName())))
+                                                 .filter(service -> service.getMetadata() != null)
+                                                 .map(service -> service.getMetadata()
+                                                                        .getGuid())
+                                                 .collect(Collectors.toList());
+        if (missingServiceGuids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return eventsGetter.getDeletedServiceInstanceGuids(missingServiceGuids, client);
+    }
+
+    private ServiceOperation getLastDeleteServiceOperation(CloudServiceInstanceExtended service, Set<UUID> deletedServiceGuids) {
+        if (service.getMetadata() == null) {
+            return null;
+        }
+        return buildDeleteServiceOperation(deletedServiceGuids.contains(service.getMetadata()
+                                                                               .getGuid()));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private Map<String, Object> getServiceInstanceEntity(ProcessContext context, CloudServiceInstanceExtended service) {
         CloudControllerClient client = context.getControllerClient();
         return serviceGetter.getServiceInstanceEntity(client, service.getName(), context.getVariable(Variables.SPACE_GUID));
@@ -49,8 +144,11 @@ public class ServiceOperationGetter {
         if (service.getMetadata() == null) {
             return null;
         }
-        boolean isServiceDeleted = isServiceDeleted(context, service.getMetadata()
-                                                                    .getGuid());
+        return buildDeleteServiceOperation(isServiceDeleted(context, service.getMetadata()
+                                                                            .getGuid()));
+    }
+
+    private ServiceOperation buildDeleteServiceOperation(boolean isServiceDeleted) {
         ServiceOperation.State operationState = isServiceDeleted ? ServiceOperation.State.SUCCEEDED : ServiceOperation.State.IN_PROGRESS;
         return new ServiceOperation(ServiceOperation.Type.DELETE, ServiceOperation.Type.DELETE.name(), operationState);
     }
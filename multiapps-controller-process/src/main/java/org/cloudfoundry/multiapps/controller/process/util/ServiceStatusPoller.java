@@ -0,0 +1,97 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.cloudfoundry.client.lib.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.core.cf.clients.ServiceGetter;
+import org.cloudfoundry.multiapps.controller.core.model.ServiceOperation;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+
+/**
+ * Central point through which the processes poll the states of their service instances. The instances of a space are fetched with a single
+ * request, and the ones that still have an operation in progress are shared between the processes of the same user for one polling
+ * interval. That way, processes polling the same services do not send the same requests to the Cloud Controller.
+ */
+@Named
+public class ServiceStatusPoller {
+
+    private final ServiceGetter serviceGetter;
+    private final ApplicationConfiguration configuration;
+    private final Map<List<String>, PolledServiceInstance> polledServiceInstances = new ConcurrentHashMap<>();
+
+    @Inject
+    public ServiceStatusPoller(ServiceGetter serviceGetter, ApplicationConfiguration configuration) {
+        this.serviceGetter = serviceGetter;
+        this.configuration = configuration;
+    }
+
+    public Map<String, Map<String, Object>> getServiceInstanceEntities(CloudControllerClient client, String user, String spaceGuid,
+                                                                       Collection<String> serviceNames) {
+        polledServiceInstances.values()
+                              .removeIf(PolledServiceInstance::isExpired);
+        Map<String, Map<String, Object>> serviceInstances = new HashMap<>();
+        for (String serviceName : serviceNames) {
+            PolledServiceInstance polledServiceInstance = polledServiceInstances.get(getKey(user, spaceGuid, serviceName));
+            if (polledServiceInstance != null && !polledServiceInstance.isExpired()) {
+                serviceInstances.put(serviceName, polledServiceInstance.entity);
+            }
+        }
+        List<String> serviceNamesToPoll = serviceNames.stream()
+                                                      .filter(serviceName -> !serviceInstances.containsKey(serviceName))
+                                                      .collect(Collectors.toList());
+        if (serviceNamesToPoll.isEmpty()) {
+            return serviceInstances;
+        }
+        Map<String, Map<String, Object>> polledEntities = serviceGetter.getServiceInstanceEntities(client, serviceNamesToPoll, spaceGuid);
+        polledEntities.forEach((serviceName, entity) -> share(user, spaceGuid, serviceName, entity));
+        serviceInstances.putAll(polledEntities);
+        return serviceInstances;
+    }
+
+    // Only the states of operations in progress are shared. Such a state can at worst delay the detection of a finished operation by one
+    // polling interval, while a shared final state could be mistaken for the result of an operation, which was triggered afterwards:
+    private void share(String user, String spaceGuid, String serviceName, Map<String, Object> entity) {
+        if (!isOperationInProgress(entity)) {
+            return;
+        }
+        long expirationTime = System.currentTimeMillis() + configuration.getStepPollingIntervalInSeconds() * 1000L;
+        polledServiceInstances.put(getKey(user, spaceGuid, serviceName), new PolledServiceInstance(entity, expirationTime));
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isOperationInProgress(Map<String, Object> entity) {
+        Map<String, Object> lastOperationAsMap = (Map<String, Object>) entity.get(ServiceOperation.LAST_SERVICE_OPERATION);
+        return lastOperationAsMap != null && ServiceOperation.State.IN_PROGRESS.toString()
+                                                                               .equals(lastOperationAsMap.get(ServiceOperation.SERVICE_OPERATION_STATE));
+    }
+
+    private List<String> getKey(String user, String spaceGuid, String serviceName) {
+        return Arrays.asList(user, spaceGuid, serviceName);
+    }
+
+    private static class PolledServiceInstance {
+
+        private final Map<String, Object> entity;
+        private final long expirationTime;
+
+        PolledServiceInstance(Map<String, Object> entity, long expirationTime) {
+            this.entity = entity;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expirationTime;
+        }
+
+    }
+
+}
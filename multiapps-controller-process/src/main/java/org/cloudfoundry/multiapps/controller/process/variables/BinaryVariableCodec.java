@@ -0,0 +1,146 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.cloudfoundry.multiapps.common.ParsingException;
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Encodes values as JSON or as Smile, which is a binary JSON format, and compresses them with GZIP, if configured and if they are large
+ * enough. The encoded values start with a header, which contains the version of the encoding, the format and the compression, so they are
+ * decoded regardless of the current configuration. Values without a header are plain JSON, which is written by previous versions and when
+ * JSON without compression is configured, so that previous versions can still read the variables during an update.
+ */
+public class BinaryVariableCodec implements VariableCodec {
+
+    public static final BinaryVariableCodec PLAIN_JSON = new BinaryVariableCodec(Format.JSON, false);
+
+    static final int COMPRESSION_THRESHOLD_IN_BYTES = 1024;
+
+    // A JSON document in UTF-8 never starts with a zero byte:
+    private static final byte[] MAGIC = { 0, 'M', 'V' };
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = MAGIC.length + 3;
+    private static final byte NO_COMPRESSION = 0;
+    private static final byte GZIP_COMPRESSION = 1;
+
+    private static final JsonFactory SMILE_FACTORY = new SmileFactory();
+
+    public enum Format {
+
+        JSON((byte) 0), SMILE((byte) 1);
+
+        private final byte code;
+
+        Format(byte code) {
+            this.code = code;
+        }
+
+        static Format fromCode(byte code) {
+            return Arrays.stream(values())
+                         .filter(format -> format.code == code)
+                         .findFirst()
+                         .orElse(null);
+        }
+
+    }
+
+    private final Format format;
+    private final boolean compress;
+
+    public BinaryVariableCodec(Format format, boolean compress) {
+        this.format = format;
+        this.compress = compress;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        if (format == Format.JSON && !compress) {
+            return JsonUtil.toJsonBinary(value);
+        }
+        try {
+            byte[] payload = format == Format.SMILE ? toSmile(value) : JsonUtil.toJsonBinary(value);
+            boolean compressPayload = compress && payload.length > COMPRESSION_THRESHOLD_IN_BYTES;
+            ByteArrayOutputStream encodedValue = new ByteArrayOutputStream(HEADER_LENGTH + payload.length);
+            encodedValue.write(MAGIC);
+            encodedValue.write(VERSION);
+            encodedValue.write(format.code);
+            encodedValue.write(compressPayload ? GZIP_COMPRESSION : NO_COMPRESSION);
+            if (compressPayload) {
+                writeCompressed(encodedValue, payload);
+            } else {
+                encodedValue.write(payload);
+            }
+            return encodedValue.toByteArray();
+        } catch (IOException e) {
+            throw new ParsingException(e, Messages.ERROR_ENCODING_PROCESS_VARIABLE, e.getMessage());
+        }
+    }
+
+    private static byte[] toSmile(Object value) throws IOException {
+        ByteArrayOutputStream smile = new ByteArrayOutputStream();
+        try (JsonGenerator generator = SMILE_FACTORY.createGenerator(smile)) {
+            getObjectMapper().writeValue(generator, value);
+        }
+        return smile.toByteArray();
+    }
+
+    private static void writeCompressed(OutputStream outputStream, byte[] payload) throws IOException {
+        try (GZIPOutputStream compressedStream = new GZIPOutputStream(outputStream)) {
+            compressedStream.write(payload);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] encodedValue, TypeReference<T> type) {
+        if (!hasHeader(encodedValue)) {
+            return JsonUtil.fromJsonBinary(encodedValue, type);
+        }
+        byte version = encodedValue[MAGIC.length];
+        Format encodedFormat = Format.fromCode(encodedValue[MAGIC.length + 1]);
+        byte compression = encodedValue[MAGIC.length + 2];
+        if (version != VERSION || encodedFormat == null || (compression != NO_COMPRESSION && compression != GZIP_COMPRESSION)) {
+            throw new ParsingException(Messages.UNSUPPORTED_PROCESS_VARIABLE_ENCODING, version, encodedValue[MAGIC.length + 1], compression);
+        }
+        try (InputStream payload = getPayload(encodedValue, compression);
+            JsonParser parser = createParser(encodedFormat, payload)) {
+            return getObjectMapper().readValue(parser, type);
+        } catch (IOException e) {
+            throw new ParsingException(e, Messages.ERROR_DECODING_PROCESS_VARIABLE, e.getMessage());
+        }
+    }
+
+    private static boolean hasHeader(byte[] encodedValue) {
+        return encodedValue.length >= HEADER_LENGTH && Arrays.equals(MAGIC, Arrays.copyOf(encodedValue, MAGIC.length));
+    }
+
+    private static InputStream getPayload(byte[] encodedValue, byte compression) throws IOException {
+        InputStream payload = new ByteArrayInputStream(encodedValue, HEADER_LENGTH, encodedValue.length - HEADER_LENGTH);
+        return compression == GZIP_COMPRESSION ? new GZIPInputStream(payload) : payload;
+    }
+
+    private static JsonParser createParser(Format format, InputStream payload) throws IOException {
+        JsonFactory factory = format == Format.SMILE ? SMILE_FACTORY : getObjectMapper().getFactory();
+        return factory.createParser(payload);
+    }
+
+    private static ObjectMapper getObjectMapper() {
+        return JsonUtil.getObjectMapper();
+    }
+
+}
@@ -3,7 +3,6 @@ package org.cloudfoundry.multiapps.controller.process.variables;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.immutables.value.Value;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -19,8 +18,9 @@ public abstract class JsonBinaryListVariable<T> implements ListVariable<T, List<
 
             @Override
             public Object serialize(List<T> values) {
+                VariableCodec codec = VariableHandling.getCodec();
                 return values.stream()
-                             .map(JsonUtil::toJsonBinary)
+                             .map(codec::encode)
                              .collect(Collectors.toList());
             }
 
@@ -28,8 +28,9 @@ public abstract class JsonBinaryListVariable<T> implements ListVariable<T, List<
             @Override
             public List<T> deserialize(Object serializedValue) {
                 List<byte[]> serializedValues = (List<byte[]>) serializedValue;
+                VariableCodec codec = VariableHandling.getCodec();
                 return serializedValues.stream()
-                                       .map(value -> JsonUtil.fromJsonBinary(value, getType()))
+                                       .map(value -> codec.decode(value, getType()))
                                        .collect(Collectors.toList());
             }
 
@@ -1,6 +1,5 @@
 package org.cloudfoundry.multiapps.controller.process.variables;
 
-import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.immutables.value.Value;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -16,12 +15,14 @@ public abstract class JsonBinaryVariable<T> implements Variable<T> {
 
             @Override
             public Object serialize(T object) {
-                return JsonUtil.toJsonBinary(object);
+                return VariableHandling.getCodec()
+                                       .encode(object);
             }
 
             @Override
             public T deserialize(Object serializedObject) {
-                return JsonUtil.fromJsonBinary((byte[]) serializedObject, getType());
+                return VariableHandling.getCodec()
+                                       .decode((byte[]) serializedObject, getType());
             }
 
         };
@@ -0,0 +1,111 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.xml.bind.DatatypeConverter;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.persistence.service.ProcessVariableContentService;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Stores the content of shared process variables by its digest, once per operation. The content is stored in the transaction of the
+ * process engine, which sets the variables, so it is committed or rolled back together with them. Content does not change once stored, so
+ * it is also kept in memory, where it is softly referenced.
+ */
+@Named
+public class SharedVariableStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedVariableStore.class);
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final ProcessVariableContentService processVariableContentService;
+    private final Map<String, byte[]> contents = new ConcurrentReferenceHashMap<>();
+    // Content is kept until its operation is deleted, after which the process cannot store it again:
+    private final Set<String> storedContentKeys = Collections.newSetFromMap(new ConcurrentReferenceHashMap<>());
+
+    @Inject
+    public SharedVariableStore(ProcessVariableContentService processVariableContentService) {
+        this.processVariableContentService = processVariableContentService;
+    }
+
+    /**
+     * @param processId the ID of the root process of the operation, which owns the content
+     * @return the digest, by which the content can be loaded
+     */
+    public String store(String processId, byte[] content) {
+        String digest = computeDigest(content);
+        String contentKey = processId + ":" + digest;
+        if (!storedContentKeys.contains(contentKey)) {
+            try {
+                processVariableContentService.store(getEngineConnection(), digest, processId, content);
+            } catch (SQLException e) {
+                throw new SLException(e, Messages.COULD_NOT_STORE_CONTENT_OF_SHARED_PROCESS_VARIABLE_0, digest);
+            }
+            // Until its transaction is committed, the content is stored again by other transactions that use it:
+            afterCommit(() -> storedContentKeys.add(contentKey));
+        }
+        contents.put(digest, content);
+        return digest;
+    }
+
+    Connection getEngineConnection() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            throw new IllegalStateException(Messages.SHARED_PROCESS_VARIABLES_CAN_BE_STORED_ONLY_BY_THE_PROCESS_ENGINE);
+        }
+        return CommandContextUtil.getDbSqlSession(commandContext)
+                                 .getSqlSession()
+                                 .getConnection();
+    }
+
+    void afterCommit(Runnable action) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext == null) {
+            throw new IllegalStateException(Messages.SHARED_PROCESS_VARIABLES_CAN_BE_STORED_ONLY_BY_THE_PROCESS_ENGINE);
+        }
+        transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> action.run());
+    }
+
+    /**
+     * @return the content, or null if it was already deleted together with its operation, while historic copies of its variables remain
+     */
+    public byte[] load(String digest) {
+        return contents.computeIfAbsent(digest, this::loadFromDatabase);
+    }
+
+    private byte[] loadFromDatabase(String digest) {
+        byte[] content = processVariableContentService.find(digest);
+        if (content == null) {
+            LOGGER.warn(MessageFormat.format(Messages.MISSING_CONTENT_OF_SHARED_PROCESS_VARIABLE_0, digest));
+        }
+        return content;
+    }
+
+    private static String computeDigest(byte[] content) {
+        try {
+            return DatatypeConverter.printHexBinary(MessageDigest.getInstance(DIGEST_ALGORITHM)
+                                                                 .digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+}
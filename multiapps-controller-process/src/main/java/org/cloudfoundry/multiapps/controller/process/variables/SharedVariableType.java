@@ -0,0 +1,109 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.function.Function;
+
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+
+/**
+ * A Flowable variable type for large strings and byte arrays, whose content is kept in a {@link SharedVariableStore}. The variables hold
+ * only the digest of their content. Flowable copies variables into every subprocess and into the history, so the same descriptor or cloud
+ * model is stored once per operation, instead of once per copy.
+ * <p>
+ * The types are always registered, so that shared variables can be read even when the threshold is 0 and no new ones are stored.
+ */
+public class SharedVariableType implements VariableType {
+
+    public static final String SHARED_STRING_TYPE_NAME = "sharedString";
+    public static final String SHARED_BYTES_TYPE_NAME = "sharedBytes";
+
+    private final String typeName;
+    private final Class<?> valueClass;
+    private final Function<Object, byte[]> encoder;
+    private final Function<byte[], Object> decoder;
+    private final SharedVariableStore store;
+    private final int thresholdInBytes;
+
+    private SharedVariableType(String typeName, Class<?> valueClass, Function<Object, byte[]> encoder, Function<byte[], Object> decoder,
+                               SharedVariableStore store, int thresholdInBytes) {
+        this.typeName = typeName;
+        this.valueClass = valueClass;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.store = store;
+        this.thresholdInBytes = thresholdInBytes;
+    }
+
+    public static SharedVariableType forStrings(SharedVariableStore store, int thresholdInBytes) {
+        return new SharedVariableType(SHARED_STRING_TYPE_NAME,
+                                      String.class,
+                                      value -> ((String) value).getBytes(StandardCharsets.UTF_8),
+                                      content -> new String(content, StandardCharsets.UTF_8),
+                                      store,
+                                      thresholdInBytes);
+    }
+
+    public static SharedVariableType forBytes(SharedVariableStore store, int thresholdInBytes) {
+        return new SharedVariableType(SHARED_BYTES_TYPE_NAME, byte[].class, value -> (byte[]) value, content -> content, store,
+                                      thresholdInBytes);
+    }
+
+    @Override
+    public String getTypeName() {
+        return typeName;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        if (thresholdInBytes <= 0 || !valueClass.isInstance(value)) {
+            return false;
+        }
+        // A string has at least as many bytes as characters:
+        return value instanceof String ? ((String) value).length() >= thresholdInBytes : ((byte[]) value).length >= thresholdInBytes;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        valueFields.setTextValue(value == null ? null : store.store(getRootProcessId(valueFields), encoder.apply(value)));
+    }
+
+    // The variables of subprocesses are copied from their root process, so they share its content:
+    private static String getRootProcessId(ValueFields valueFields) {
+        String processId = valueFields.getProcessInstanceId();
+        if (processId == null) {
+            throw new IllegalStateException(MessageFormat.format(Messages.SHARED_PROCESS_VARIABLE_0_IS_NOT_A_PROCESS_VARIABLE,
+                                                                 valueFields.getName()));
+        }
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            return processId;
+        }
+        ExecutionEntity process = CommandContextUtil.getExecutionEntityManager(commandContext)
+                                                    .findById(processId);
+        return process == null ? processId : process.getRootProcessInstanceId();
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        String digest = valueFields.getTextValue();
+        if (digest == null) {
+            return null;
+        }
+        // The content of historic variables is missing, if it was deleted with its operation before the history:
+        byte[] content = store.load(digest);
+        return content == null ? null : decoder.apply(content);
+    }
+
+}
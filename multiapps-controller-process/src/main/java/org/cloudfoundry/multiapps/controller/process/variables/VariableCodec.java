@@ -0,0 +1,14 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Encodes the values of binary process variables, which are stored by Flowable as byte arrays.
+ */
+public interface VariableCodec {
+
+    byte[] encode(Object value);
+
+    <T> T decode(byte[] encodedValue, TypeReference<T> type);
+
+}
@@ -5,20 +5,36 @@ import org.flowable.variable.api.delegate.VariableScope;
 
 public final class VariableHandling {
 
+    private static volatile VariableCodec codec = BinaryVariableCodec.PLAIN_JSON;
+
     private VariableHandling() {
     }
 
+    public static VariableCodec getCodec() {
+        return codec;
+    }
+
+    public static void setCodec(VariableCodec codec) {
+        VariableHandling.codec = codec;
+    }
+
     public static <T> void set(VariableContainer container, Variable<T> variable, T value) {
+        container.setVariable(variable.getName(), serialize(variable, value));
+    }
+
+    public static <T> T get(VariableContainer container, Variable<T> variable) {
+        return deserialize(variable, container.getVariable(variable.getName()));
+    }
+
+    public static <T> Object serialize(Variable<T> variable, T value) {
         if (value == null) {
-            container.setVariable(variable.getName(), null);
-            return;
+            return null;
         }
         Serializer<T> serializer = variable.getSerializer();
-        container.setVariable(variable.getName(), serializer.serialize(value));
+        return serializer.serialize(value);
     }
 
-    public static <T> T get(VariableContainer container, Variable<T> variable) {
-        Object serializedValue = container.getVariable(variable.getName());
+    public static <T> T deserialize(Variable<T> variable, Object serializedValue) {
         if (serializedValue == null) {
             return variable.getDefaultValue();
         }
@@ -163,6 +163,9 @@ public interface Variables {
     Variable<Integer> ASYNC_STEP_EXECUTION_INDEX = ImmutableSimpleVariable.<Integer> builder()
                                                                           .name("asyncStepExecutionIndex")
                                                                           .build();
+    Variable<Integer> STEP_POLLING_INTERVAL_IN_SECONDS = ImmutableSimpleVariable.<Integer> builder()
+                                                                                .name("stepPollingIntervalInSeconds")
+                                                                                .build();
     Variable<Long> START_TIME = ImmutableSimpleVariable.<Long> builder()
                                                        .name("startTime")
                                                        .build();
@@ -514,6 +517,12 @@ public interface Variables {
                                                                                            .type(Variable.typeReference(Module.class))
                                                                                            .defaultValue(Collections.emptyList())
                                                                                            .build();
+    Variable<Set<String>> DEPENDENCY_APPLICATIONS_IN_SPACE = ImmutableJsonBinaryVariable.<Set<String>> builder()
+                                                                                        .name("dependencyApplicationsInSpace")
+                                                                                        .type(new TypeReference<Set<String>>() {
+                                                                                        })
+                                                                                        .defaultValue(Collections.emptySet())
+                                                                                        .build();
     Variable<List<FileEntry>> FILE_ENTRIES = ImmutableJsonBinaryListVariable.<FileEntry> builder()
                                                                             .name("fileEntries")
                                                                             .type(Variable.typeReference(FileEntry.class))
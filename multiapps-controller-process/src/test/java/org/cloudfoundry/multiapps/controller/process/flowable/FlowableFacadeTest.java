@@ -1,16 +1,32 @@
 package org.cloudfoundry.multiapps.controller.process.flowable;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.NativeExecutionQuery;
+import org.flowable.job.api.DeadLetterJobQuery;
+import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 class FlowableFacadeTest {
 
+    private static final String PROCESS_ID = "1";
+    private static final String SUBPROCESS_ID = "2";
+    private static final String JOB_ID = "3";
+
     private FlowableFacade flowableFacade;
 
     @Mock
@@ -19,6 +35,14 @@ class FlowableFacadeTest {
     ProcessEngine mockedProcessEngine;
     @Mock
     ProcessEngineConfiguration mockedProcessEngineConfiguration;
+    @Mock
+    RuntimeService runtimeService;
+    @Mock
+    ManagementService managementService;
+    @Mock(answer = Answers.RETURNS_SELF)
+    NativeExecutionQuery nativeExecutionQuery;
+    @Mock(answer = Answers.RETURNS_SELF)
+    DeadLetterJobQuery deadLetterJobQuery;
 
     @BeforeEach
     void setUp() {
@@ -28,6 +52,14 @@ class FlowableFacadeTest {
                .thenReturn(mockedAsyncExecutor);
         Mockito.when(mockedProcessEngine.getProcessEngineConfiguration())
                .thenReturn(mockedProcessEngineConfiguration);
+        Mockito.when(mockedProcessEngine.getRuntimeService())
+               .thenReturn(runtimeService);
+        Mockito.when(mockedProcessEngine.getManagementService())
+               .thenReturn(managementService);
+        Mockito.when(runtimeService.createNativeExecutionQuery())
+               .thenReturn(nativeExecutionQuery);
+        Mockito.when(managementService.createDeadLetterJobQuery())
+               .thenReturn(deadLetterJobQuery);
 
         flowableFacade = new FlowableFacade(mockedProcessEngine);
     }
@@ -39,4 +71,59 @@ class FlowableFacadeTest {
                .shutdown();
     }
 
+    @Test
+    void testHasDeadLetterJobsExecutesSingleQuery() {
+        Execution subProcessInstance = mockProcessInstanceExecution(SUBPROCESS_ID);
+        Mockito.when(nativeExecutionQuery.list())
+               .thenReturn(List.of(subProcessInstance));
+
+        assertTrue(flowableFacade.hasDeadLetterJobs(PROCESS_ID));
+        Mockito.verify(runtimeService)
+               .createNativeExecutionQuery();
+        Mockito.verify(nativeExecutionQuery)
+               .parameter(Mockito.anyString(), Mockito.eq(PROCESS_ID));
+        Mockito.verify(managementService, Mockito.never())
+               .createDeadLetterJobQuery();
+        Mockito.verify(runtimeService, Mockito.never())
+               .createExecutionQuery();
+    }
+
+    @Test
+    void testHasNoDeadLetterJobs() {
+        Mockito.when(nativeExecutionQuery.list())
+               .thenReturn(List.of());
+
+        assertFalse(flowableFacade.hasDeadLetterJobs(PROCESS_ID));
+    }
+
+    @Test
+    void testExecuteJobQueriesOnlyProcessInstancesWithDeadLetterJobs() {
+        Job job = Mockito.mock(Job.class);
+        Mockito.when(job.getId())
+               .thenReturn(JOB_ID);
+        Execution subProcessInstance = mockProcessInstanceExecution(SUBPROCESS_ID);
+        Mockito.when(nativeExecutionQuery.list())
+               .thenReturn(List.of(subProcessInstance));
+        Mockito.when(deadLetterJobQuery.list())
+               .thenReturn(List.of(job));
+
+        flowableFacade.executeJob(PROCESS_ID);
+
+        Mockito.verify(deadLetterJobQuery)
+               .processInstanceId(SUBPROCESS_ID);
+        Mockito.verify(managementService)
+               .moveDeadLetterJobToExecutableJob(JOB_ID, 0);
+    }
+
+    private Execution mockProcessInstanceExecution(String processInstanceId) {
+        Execution execution = Mockito.mock(Execution.class);
+        Mockito.when(execution.getId())
+               .thenReturn(processInstanceId);
+        Mockito.when(execution.getProcessInstanceId())
+               .thenReturn(processInstanceId);
+        Mockito.when(execution.getRootProcessInstanceId())
+               .thenReturn(PROCESS_ID);
+        return execution;
+    }
+
 }
@@ -1,7 +1,5 @@
 package org.cloudfoundry.multiapps.controller.process.flowable;
 
-import static org.mockito.ArgumentMatchers.anyString;
-
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -9,11 +7,9 @@ import java.util.UUID;
 import java.util.function.Supplier;
 
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientProvider;
-import org.flowable.engine.HistoryService;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.runtime.Execution;
-import org.flowable.variable.api.history.HistoricVariableInstanceQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -36,8 +32,6 @@ abstract class ProcessActionTest {
     @Mock
     private ProcessEngine processEngine;
     @Mock
-    private HistoryService historyService;
-    @Mock
     private RuntimeService runtimeService;
 
     @BeforeEach
@@ -46,13 +40,12 @@ abstract class ProcessActionTest {
                           .close();
         prepareFlowableFacade();
         prepareProcessEngine();
-        prepareHistoryService();
         processAction = createProcessAction();
     }
 
     private void prepareFlowableFacade() {
         List<String> subprocessesIds = getSubprocessesIds();
-        Mockito.when(flowableFacade.getActiveHistoricSubProcessIds(PROCESS_GUID))
+        Mockito.when(flowableFacade.getActiveSubProcessIds(PROCESS_GUID))
                .thenReturn(subprocessesIds);
         List<Execution> mockedExecutions = getMockedExecutions();
         Mockito.when(flowableFacade.findExecutionsAtReceiveTask(PROCESS_GUID))
@@ -64,8 +57,6 @@ abstract class ProcessActionTest {
     }
 
     private void prepareProcessEngine() {
-        Mockito.when(processEngine.getHistoryService())
-               .thenReturn(historyService);
         Mockito.when(processEngine.getRuntimeService())
                .thenReturn(runtimeService);
     }
@@ -84,15 +75,5 @@ abstract class ProcessActionTest {
         return subprocesses;
     }
 
-    private void prepareHistoryService() {
-        HistoricVariableInstanceQuery historicVariableInstanceQuery = Mockito.mock(HistoricVariableInstanceQuery.class);
-        Mockito.when(historicVariableInstanceQuery.processInstanceId(anyString()))
-               .thenReturn(historicVariableInstanceQuery);
-        Mockito.when(historicVariableInstanceQuery.variableName(anyString()))
-               .thenReturn(historicVariableInstanceQuery);
-        Mockito.when(historyService.createHistoricVariableInstanceQuery())
-               .thenReturn(historicVariableInstanceQuery);
-    }
-
     protected abstract ProcessAction createProcessAction();
 }
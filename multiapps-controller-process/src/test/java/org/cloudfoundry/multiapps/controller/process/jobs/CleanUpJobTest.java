@@ -1,15 +1,27 @@
 package org.cloudfoundry.multiapps.controller.process.jobs;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.core.annotation.Order;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class CleanUpJobTest {
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Test
     void testExecutionResilience() {
         Cleaner cleaner1 = Mockito.mock(Cleaner.class);
@@ -32,11 +44,142 @@ class CleanUpJobTest {
                .execute(Mockito.any());
     }
 
+    @Test
+    void testCleanersAreExecutedInOrder() {
+        List<String> executedCleaners = new CopyOnWriteArrayList<>();
+        List<Cleaner> cleaners = Arrays.asList(new LateCleaner(executedCleaners), new EarlyCleaner(executedCleaners));
+
+        CleanUpJob cleanUpJob = createCleanUpJob(new ApplicationConfiguration(), cleaners);
+        cleanUpJob.execute(null);
+
+        assertEquals(Arrays.asList(EarlyCleaner.class.getSimpleName(), LateCleaner.class.getSimpleName()), executedCleaners);
+    }
+
+    @Test
+    void testMetricsArePublished() {
+        List<String> executedCleaners = new CopyOnWriteArrayList<>();
+        Cleaner failingCleaner = Mockito.mock(Cleaner.class);
+        Mockito.doThrow(new SLException("Will it work?"))
+               .when(failingCleaner)
+               .execute(Mockito.any());
+        List<Cleaner> cleaners = Arrays.asList(new EarlyCleaner(executedCleaners), failingCleaner);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(new ApplicationConfiguration(), cleaners);
+        cleanUpJob.execute(null);
+
+        String cleanerName = EarlyCleaner.class.getSimpleName();
+        String failingCleanerName = failingCleaner.getClass()
+                                                  .getSimpleName();
+        assertEquals(EarlyCleaner.DELETED_ITEMS, getCounterValue(CleanUpJob.DELETED_ITEMS_METRIC, cleanerName));
+        assertEquals(1, meterRegistry.get(CleanUpJob.DURATION_METRIC)
+                                     .tag(CleanUpJob.CLEANER_TAG, cleanerName)
+                                     .timer()
+                                     .count());
+        assertEquals(1, getCounterValue(CleanUpJob.FAILURES_METRIC, failingCleanerName));
+        assertEquals(Collections.emptyList(), meterRegistry.find(CleanUpJob.FAILURES_METRIC)
+                                                           .tag(CleanUpJob.CLEANER_TAG, cleanerName)
+                                                           .counters());
+    }
+
+    @Test
+    void testTimeBudgetStartsWhenCleanerStartsRunning() {
+        List<Cleaner> cleaners = Arrays.asList(new SlowCleaner(), new SlowCleaner());
+        ApplicationConfiguration singleThreadConfiguration = new ApplicationConfiguration() {
+            @Override
+            public Integer getCleanUpJobThreads() {
+                return 1;
+            }
+        };
+
+        CleanUpJob cleanUpJob = createCleanUpJob(singleThreadConfiguration, cleaners, SlowCleaner.DURATION.multipliedBy(3)
+                                                                                                         .dividedBy(2));
+        cleanUpJob.execute(null);
+
+        // The second cleaner is queued behind the first one, and would be cancelled if its time budget started along with the phase:
+        assertEquals(2.0, getCounterValue(CleanUpJob.DELETED_ITEMS_METRIC, SlowCleaner.class.getSimpleName()));
+        assertEquals(Collections.emptyList(), meterRegistry.find(CleanUpJob.FAILURES_METRIC)
+                                                           .counters());
+    }
+
+    private double getCounterValue(String name, String cleanerName) {
+        return meterRegistry.get(name)
+                            .tag(CleanUpJob.CLEANER_TAG, cleanerName)
+                            .counter()
+                            .count();
+    }
+
     private CleanUpJob createCleanUpJob(ApplicationConfiguration applicationConfiguration, List<Cleaner> cleaners) {
-        CleanUpJob cleanUpJob = new CleanUpJob();
+        return initCleanUpJob(new CleanUpJob(), applicationConfiguration, cleaners);
+    }
+
+    private CleanUpJob createCleanUpJob(ApplicationConfiguration applicationConfiguration, List<Cleaner> cleaners, Duration timeBudget) {
+        return initCleanUpJob(new CleanUpJob() {
+            @Override
+            Duration getTimeBudget() {
+                return timeBudget;
+            }
+        }, applicationConfiguration, cleaners);
+    }
+
+    private CleanUpJob initCleanUpJob(CleanUpJob cleanUpJob, ApplicationConfiguration applicationConfiguration, List<Cleaner> cleaners) {
         cleanUpJob.configuration = applicationConfiguration;
         cleanUpJob.cleaners = cleaners;
+        cleanUpJob.meterRegistry = meterRegistry;
         return cleanUpJob;
     }
 
+    @Order(10)
+    private static class EarlyCleaner implements Cleaner {
+
+        static final long DELETED_ITEMS = 3;
+
+        private final List<String> executedCleaners;
+
+        EarlyCleaner(List<String> executedCleaners) {
+            this.executedCleaners = executedCleaners;
+        }
+
+        @Override
+        public long execute(Date expirationTime) {
+            executedCleaners.add(getClass().getSimpleName());
+            return DELETED_ITEMS;
+        }
+
+    }
+
+    @Order(20)
+    private static class LateCleaner implements Cleaner {
+
+        private final List<String> executedCleaners;
+
+        LateCleaner(List<String> executedCleaners) {
+            this.executedCleaners = executedCleaners;
+        }
+
+        @Override
+        public long execute(Date expirationTime) {
+            executedCleaners.add(getClass().getSimpleName());
+            return 0;
+        }
+
+    }
+
+    private static class SlowCleaner implements Cleaner {
+
+        static final Duration DURATION = Duration.ofSeconds(1);
+
+        @Override
+        public long execute(Date expirationTime) {
+            try {
+                Thread.sleep(DURATION.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                return 0;
+            }
+            return 1;
+        }
+
+    }
+
 }
@@ -1,25 +1,35 @@
 package org.cloudfoundry.multiapps.controller.process.jobs;
 
-import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.engine.HistoryService;
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.history.NativeHistoricProcessInstanceQuery;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -29,68 +39,81 @@ class FlowableHistoricDataCleanerTest {
     private static final String OPERATION_ID_1 = "1";
     private static final String OPERATION_ID_2 = "2";
     private static final String OPERATION_ID_3 = "3";
-    private static final int PAGE_SIZE = 2;
+    private static final String SUBPROCESS_ID = "4";
+    private static final int BATCH_SIZE = 2;
 
     @Mock
     private HistoryService historyService;
+    @Mock
+    private ManagementService managementService;
+    @Mock
+    private ApplicationConfiguration configuration;
+    @Mock(answer = Answers.RETURNS_SELF)
+    private NativeHistoricProcessInstanceQuery nativeQuery;
+    @Mock(answer = Answers.RETURNS_SELF)
+    private HistoricProcessInstanceQuery query;
     private FlowableHistoricDataCleaner cleaner;
 
     @BeforeEach
     void initMocks() {
         MockitoAnnotations.initMocks(this);
-        this.cleaner = new FlowableHistoricDataCleaner(historyService, PAGE_SIZE);
+        when(configuration.getCleanUpJobBatchSize()).thenReturn(BATCH_SIZE);
+        when(managementService.getTableName(HistoricProcessInstanceEntity.class)).thenReturn("ACT_HI_PROCINST");
+        when(historyService.createNativeHistoricProcessInstanceQuery()).thenReturn(nativeQuery);
+        when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
+        when(nativeQuery.list()).thenReturn(Collections.emptyList());
+        this.cleaner = new FlowableHistoricDataCleaner(historyService, managementService, configuration);
     }
 
     @Test
-    void testExecuteWithMultiplePages() {
-        HistoricProcessInstance process1 = mockHistoricProcessInstanceWithId(OPERATION_ID_1);
-        HistoricProcessInstance process2 = mockHistoricProcessInstanceWithId(OPERATION_ID_2);
-        HistoricProcessInstance process3 = mockHistoricProcessInstanceWithId(OPERATION_ID_3);
-        List<HistoricProcessInstance> page1 = Arrays.asList(process1, process2);
-        List<HistoricProcessInstance> page2 = Collections.singletonList(process3);
-        List<HistoricProcessInstance> page3 = Collections.emptyList();
-
-        HistoricProcessInstanceQuery query = mockHistoricProcessInstanceQueryWithPages(Arrays.asList(page1, page2, page3));
-        when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
+    void testExecuteWithMultipleBatches() {
+        mockExpiredProcessBatches(Arrays.asList(mockHistoricProcessInstanceWithId(OPERATION_ID_1),
+                                                mockHistoricProcessInstanceWithId(OPERATION_ID_2)),
+                                  Collections.singletonList(mockHistoricProcessInstanceWithId(OPERATION_ID_3)));
 
         cleaner.execute(EXPIRATION_TIME);
-        verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_1);
-        verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_2);
-        verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_3);
+        verify(nativeQuery).parameter("lastProcessId", OPERATION_ID_2);
+        verify(query).processInstanceIds(Set.of(OPERATION_ID_1, OPERATION_ID_2));
+        verify(query).processInstanceIds(Set.of(OPERATION_ID_3));
+        verify(historyService).deleteTaskAndActivityDataOfRemovedHistoricProcessInstances();
+        verify(historyService).deleteRelatedDataOfRemovedHistoricProcessInstances();
+        verify(historyService, never()).deleteHistoricProcessInstance(anyString());
     }
 
-    private HistoricProcessInstance mockHistoricProcessInstanceWithId(String id) {
-        HistoricProcessInstance historicProcessInstance = mock(HistoricProcessInstance.class);
-        when(historicProcessInstance.getId()).thenReturn(id);
-        return historicProcessInstance;
-    }
+    @Test
+    void testExecuteDeletesSubProcesses() {
+        mockExpiredProcessBatches(Collections.singletonList(mockHistoricProcessInstanceWithId(OPERATION_ID_1)));
+        HistoricProcessInstance subProcess = mockHistoricProcessInstanceWithId(SUBPROCESS_ID);
+        when(nativeQuery.list()).thenReturn(Collections.singletonList(subProcess), Collections.emptyList());
 
-    private HistoricProcessInstanceQuery mockHistoricProcessInstanceQueryWithPages(List<List<HistoricProcessInstance>> pages) {
-        HistoricProcessInstanceQuery historicProcessInstanceQuery = mock(HistoricProcessInstanceQuery.class);
-        when(historicProcessInstanceQuery.startedBefore(EXPIRATION_TIME)).thenReturn(historicProcessInstanceQuery);
-        when(historicProcessInstanceQuery.finished()).thenReturn(historicProcessInstanceQuery);
-        when(historicProcessInstanceQuery.excludeSubprocesses(anyBoolean())).thenReturn(historicProcessInstanceQuery);
-        when(historicProcessInstanceQuery.listPage(anyInt(), anyInt())).thenAnswer(AdditionalAnswers.returnsElementsOf(pages));
-        long processesCount = getTotalProcessesCount(pages);
-        when(historicProcessInstanceQuery.count()).thenReturn(processesCount);
-        return historicProcessInstanceQuery;
+        cleaner.execute(EXPIRATION_TIME);
+        verify(nativeQuery).parameter("parentProcessId0", OPERATION_ID_1);
+        verify(nativeQuery).parameter("parentProcessId0", SUBPROCESS_ID);
+        verify(query).processInstanceIds(Set.of(OPERATION_ID_1, SUBPROCESS_ID));
     }
 
-    private long getTotalProcessesCount(List<List<HistoricProcessInstance>> pages) {
-        return pages.stream()
-                    .mapToLong(Collection::size)
-                    .sum();
+    @Test
+    void testExecuteQueriesSubProcessesInChunks() {
+        int processesCount = FlowableHistoricDataCleaner.MAX_PARENT_PROCESS_IDS_PER_QUERY + 1;
+        when(configuration.getCleanUpJobBatchSize()).thenReturn(processesCount + 1);
+        List<HistoricProcessInstance> processes = IntStream.range(0, processesCount)
+                                                           .mapToObj(i -> mockHistoricProcessInstanceWithId(Integer.toString(i)))
+                                                           .collect(Collectors.toList());
+        when(nativeQuery.listPage(0, processesCount + 1)).thenReturn(processes);
+
+        cleaner.execute(EXPIRATION_TIME);
+        verify(historyService, times(3)).createNativeHistoricProcessInstanceQuery();
+        verify(nativeQuery).parameter("parentProcessId0", "0");
+        verify(nativeQuery).parameter("parentProcessId0", Integer.toString(processesCount - 1));
     }
 
     @Test
     void testExecuteResilience() {
-        HistoricProcessInstance process1 = mockHistoricProcessInstanceWithId(OPERATION_ID_1);
-        HistoricProcessInstance process2 = mockHistoricProcessInstanceWithId(OPERATION_ID_2);
-        List<HistoricProcessInstance> page1 = Arrays.asList(process1, process2);
-        List<HistoricProcessInstance> page2 = Collections.emptyList();
-
-        HistoricProcessInstanceQuery query = mockHistoricProcessInstanceQueryWithPages(Arrays.asList(page1, page2));
-        when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
+        mockExpiredProcessBatches(Arrays.asList(mockHistoricProcessInstanceWithId(OPERATION_ID_1),
+                                                mockHistoricProcessInstanceWithId(OPERATION_ID_2)),
+                                  Collections.emptyList());
+        doThrow(new FlowableException("Bulk delete failed")).when(query)
+                                                            .delete();
         doThrow(new FlowableObjectNotFoundException("Oops! Someone was faster than you!")).when(historyService)
                                                                                           .deleteHistoricProcessInstance(OPERATION_ID_1);
 
@@ -99,4 +122,33 @@ class FlowableHistoricDataCleanerTest {
         verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_2);
     }
 
+    @Test
+    void testExecuteStopsWhenCancelled() {
+        mockExpiredProcessBatches(Arrays.asList(mockHistoricProcessInstanceWithId(OPERATION_ID_1),
+                                                mockHistoricProcessInstanceWithId(OPERATION_ID_2)),
+                                  Collections.singletonList(mockHistoricProcessInstanceWithId(OPERATION_ID_3)));
+        FlowableHistoricDataCleaner cancelledCleaner = new FlowableHistoricDataCleaner(historyService, managementService, configuration) {
+            @Override
+            protected boolean isCancelled() {
+                return true;
+            }
+        };
+
+        cancelledCleaner.execute(EXPIRATION_TIME);
+        verify(query).processInstanceIds(anySet());
+        verify(query).processInstanceIds(Set.of(OPERATION_ID_1, OPERATION_ID_2));
+        verify(historyService).deleteRelatedDataOfRemovedHistoricProcessInstances();
+    }
+
+    @SafeVarargs
+    private void mockExpiredProcessBatches(List<HistoricProcessInstance>... batches) {
+        when(nativeQuery.listPage(0, BATCH_SIZE)).thenAnswer(AdditionalAnswers.returnsElementsOf(Arrays.asList(batches)));
+    }
+
+    private HistoricProcessInstance mockHistoricProcessInstanceWithId(String id) {
+        HistoricProcessInstance historicProcessInstance = mock(HistoricProcessInstance.class);
+        when(historicProcessInstance.getId()).thenReturn(id);
+        return historicProcessInstance;
+    }
+
 }
@@ -24,6 +24,7 @@ import org.cloudfoundry.multiapps.controller.core.persistence.query.OperationQue
 import org.cloudfoundry.multiapps.controller.core.persistence.service.HistoricOperationEventService;
 import org.cloudfoundry.multiapps.controller.core.persistence.service.OperationService;
 import org.cloudfoundry.multiapps.controller.core.test.MockBuilder;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.process.flowable.AbortProcessAction;
 import org.cloudfoundry.multiapps.controller.process.flowable.Action;
 import org.cloudfoundry.multiapps.controller.process.flowable.AdditionalProcessAction;
@@ -61,13 +62,15 @@ class OperationsCleanerTest {
     private HistoricOperationEventService historicOperationEventService;
     @Mock
     private CloudControllerClientProvider cloudControllerClientProvider;
+    @Mock
+    private ApplicationConfiguration configuration;
     @InjectMocks
     private OperationsCleaner cleaner;
 
     @BeforeEach
     void initMocks() {
         MockitoAnnotations.initMocks(this);
-        cleaner.withPageSize(PAGE_SIZE);
+        when(configuration.getCleanUpJobBatchSize()).thenReturn(PAGE_SIZE);
 
         when(registry.getAction(Action.ABORT)).thenReturn(new AbortProcessActionMock(flowableFacade,
                                                                                      Collections.emptyList(),
@@ -88,7 +91,8 @@ class OperationsCleanerTest {
                                                  .build();
         List<Operation> operationsList = Arrays.asList(operation1, operation2);
         when(operationService.createQuery()).thenReturn(operationQuery);
-        initQueryMockForPage(0, operationsList);
+        initQueryMockForFirstPage(operationsList);
+        initQueryMockForPageAfter(OPERATION_ID_2, Collections.emptyList());
 
         cleaner.execute(EXPIRATION_TIME);
         verify(historicOperationEventService).add(ImmutableHistoricOperationEvent.of(OPERATION_ID_1,
@@ -112,7 +116,8 @@ class OperationsCleanerTest {
         List<Operation> operationsList = Arrays.asList(operation1, operation2);
 
         when(operationService.createQuery()).thenReturn(operationQuery);
-        initQueryMockForPage(0, operationsList);
+        initQueryMockForFirstPage(operationsList);
+        initQueryMockForPageAfter(OPERATION_ID_2, Collections.emptyList());
         doThrow(new FlowableOptimisticLockingException("I'm an exception")).when(flowableFacade)
                                                                            .deleteProcessInstance(eq(OPERATION_ID_1), any());
 
@@ -144,8 +149,8 @@ class OperationsCleanerTest {
         List<Operation> operationsPage2 = Collections.singletonList(operation3);
 
         when(operationService.createQuery()).thenReturn(operationQuery);
-        initQueryMockForPage(0, operationsPage1);
-        initQueryMockForPage(1, operationsPage2);
+        initQueryMockForFirstPage(operationsPage1);
+        initQueryMockForPageAfter(OPERATION_ID_2, operationsPage2);
 
         cleaner.execute(EXPIRATION_TIME);
         verify(historicOperationEventService).add(ImmutableHistoricOperationEvent.of(OPERATION_ID_1,
@@ -157,7 +162,7 @@ class OperationsCleanerTest {
     }
 
     @Test
-    void testPagingAllOperationsAreIterated() {
+    void testOperationsInFinalStateAreNotAborted() {
         Operation operation1 = ImmutableOperation.builder()
                                                  .processId(OPERATION_ID_1)
                                                  .startedAt(epochMillisToZonedDateTime(TIME_BEFORE_EXPIRATION_1))
@@ -173,12 +178,12 @@ class OperationsCleanerTest {
                                                  .startedAt(epochMillisToZonedDateTime(TIME_BEFORE_EXPIRATION_2))
                                                  .state(null)
                                                  .build();
-        List<Operation> operationsPage1 = Arrays.asList(operation1, operation2);
-        List<Operation> operationsPage2 = Collections.singletonList(operation3);
 
         when(operationService.createQuery()).thenReturn(operationQuery);
-        initQueryMockForPage(0, operationsPage1);
-        initQueryMockForPage(1, operationsPage2);
+        OperationQuery unfilteredQueryMock = new MockBuilder<>(operationQuery).on(query -> query.startedBefore(EXPIRATION_TIME))
+                                                                              .build();
+        when(unfilteredQueryMock.list()).thenReturn(Arrays.asList(operation1, operation2, operation3));
+        initQueryMockForFirstPage(Collections.singletonList(operation3));
 
         cleaner.execute(EXPIRATION_TIME);
         verify(historicOperationEventService, never()).add(ImmutableHistoricOperationEvent.of(OPERATION_ID_1,
@@ -189,17 +194,54 @@ class OperationsCleanerTest {
                                                                                      HistoricOperationEvent.EventType.ABORTED));
     }
 
-    private void initQueryMockForPage(int pageIndex, List<Operation> result) {
-        OperationQuery queryMock = createOperationQueryMock(pageIndex);
+    @Test
+    void testAbortingStopsWhenCancelled() {
+        Operation operation1 = ImmutableOperation.builder()
+                                                 .processId(OPERATION_ID_1)
+                                                 .startedAt(epochMillisToZonedDateTime(TIME_BEFORE_EXPIRATION_1))
+                                                 .build();
+        Operation operation2 = ImmutableOperation.builder()
+                                                 .processId(OPERATION_ID_2)
+                                                 .startedAt(epochMillisToZonedDateTime(TIME_BEFORE_EXPIRATION_2))
+                                                 .build();
+        Operation operation3 = ImmutableOperation.builder()
+                                                 .processId(OPERATION_ID_3)
+                                                 .startedAt(epochMillisToZonedDateTime(TIME_BEFORE_EXPIRATION_2))
+                                                 .build();
+        when(operationService.createQuery()).thenReturn(operationQuery);
+        initQueryMockForFirstPage(Arrays.asList(operation1, operation2));
+        initQueryMockForPageAfter(OPERATION_ID_2, Collections.singletonList(operation3));
+        OperationsCleaner cancelledCleaner = new OperationsCleaner(operationService, registry, configuration) {
+            @Override
+            protected boolean isCancelled() {
+                return true;
+            }
+        };
+
+        cancelledCleaner.execute(EXPIRATION_TIME);
+        verify(historicOperationEventService).add(ImmutableHistoricOperationEvent.of(OPERATION_ID_2,
+                                                                                     HistoricOperationEvent.EventType.ABORTED));
+        verify(historicOperationEventService, never()).add(ImmutableHistoricOperationEvent.of(OPERATION_ID_3,
+                                                                                              HistoricOperationEvent.EventType.ABORTED));
+    }
+
+    private void initQueryMockForFirstPage(List<Operation> result) {
+        OperationQuery queryMock = new MockBuilder<>(operationQuery).on(query -> query.startedBefore(EXPIRATION_TIME))
+                                                                    .on(OperationQuery::inNonFinalState)
+                                                                    .on(query -> query.limitOnSelect(PAGE_SIZE))
+                                                                    .on(query -> query.orderByProcessId(any()))
+                                                                    .build();
         when(queryMock.list()).thenReturn(result);
     }
 
-    private OperationQuery createOperationQueryMock(int pageIndex) {
-        return new MockBuilder<>(operationQuery).on(query -> query.startedBefore(EXPIRATION_TIME))
-                                                .on(query -> query.offsetOnSelect(pageIndex * PAGE_SIZE))
-                                                .on(query -> query.limitOnSelect(PAGE_SIZE))
-                                                .on(query -> query.orderByProcessId(any()))
-                                                .build();
+    private void initQueryMockForPageAfter(String lastProcessId, List<Operation> result) {
+        OperationQuery queryMock = new MockBuilder<>(operationQuery).on(query -> query.startedBefore(EXPIRATION_TIME))
+                                                                    .on(OperationQuery::inNonFinalState)
+                                                                    .on(query -> query.processIdGreaterThan(lastProcessId))
+                                                                    .on(query -> query.limitOnSelect(PAGE_SIZE))
+                                                                    .on(query -> query.orderByProcessId(any()))
+                                                                    .build();
+        when(queryMock.list()).thenReturn(result);
     }
 
     @Test
@@ -0,0 +1,35 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+
+import org.cloudfoundry.multiapps.controller.core.persistence.service.ProcessVariableContentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class SharedProcessVariablesCleanerTest {
+
+    private static final Date EXPIRATION_TIME = new Date(5000);
+
+    @Mock
+    private ProcessVariableContentService processVariableContentService;
+    private SharedProcessVariablesCleaner cleaner;
+
+    @BeforeEach
+    void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        cleaner = new SharedProcessVariablesCleaner(processVariableContentService);
+    }
+
+    @Test
+    void testExecute() {
+        when(processVariableContentService.deleteContentOfDeletedOperations(EXPIRATION_TIME)).thenReturn(3);
+
+        assertEquals(3, cleaner.execute(EXPIRATION_TIME));
+    }
+
+}
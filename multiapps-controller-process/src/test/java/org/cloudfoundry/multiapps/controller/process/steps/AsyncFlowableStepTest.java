@@ -0,0 +1,125 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AsyncFlowableStepTest extends SyncFlowableStepTest<AsyncFlowableStepTest.PollingStep> {
+
+    private static final int MIN_POLLING_INTERVAL = 5;
+    private static final int MAX_POLLING_INTERVAL = 20;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(configuration.getStepPollingIntervalInSeconds())
+               .thenReturn(MIN_POLLING_INTERVAL);
+        Mockito.when(configuration.getMaxStepPollingIntervalInSeconds())
+               .thenReturn(MAX_POLLING_INTERVAL);
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    void testPollingIntervalIsIncreasedWhileExecutionIsRunning() {
+        step.executionStates.addAll(Arrays.asList(AsyncExecutionState.RUNNING, AsyncExecutionState.RUNNING, AsyncExecutionState.RUNNING,
+                                                  AsyncExecutionState.RUNNING));
+
+        step.execute(execution);
+        assertEquals(MIN_POLLING_INTERVAL, getPollingInterval());
+        step.execute(execution);
+        assertEquals(8, getPollingInterval());
+        step.execute(execution);
+        assertEquals(12, getPollingInterval());
+        step.execute(execution);
+        assertEquals(18, getPollingInterval());
+        step.execute(execution);
+        assertEquals(MAX_POLLING_INTERVAL, getPollingInterval());
+        assertEquals(4, meterRegistry.get(AsyncFlowableStep.POLLING_METRIC)
+                                     .tag(AsyncFlowableStep.EXECUTION_TAG, TestExecution.class.getSimpleName())
+                                     .counter()
+                                     .count());
+    }
+
+    @Test
+    void testPollingIntervalIsResetForNextExecution() {
+        step.executionStates.addAll(Arrays.asList(AsyncExecutionState.RUNNING, AsyncExecutionState.RUNNING, AsyncExecutionState.FINISHED));
+
+        step.execute(execution);
+        step.execute(execution);
+        step.execute(execution);
+        assertEquals(12, getPollingInterval());
+        step.execute(execution);
+        assertEquals(StepPhase.POLL, context.getVariable(Variables.STEP_PHASE));
+        assertEquals(MIN_POLLING_INTERVAL, getPollingInterval());
+    }
+
+    private int getPollingInterval() {
+        return context.getVariable(Variables.STEP_POLLING_INTERVAL_IN_SECONDS);
+    }
+
+    @Override
+    protected PollingStep createStep() {
+        return new PollingStep();
+    }
+
+    static class PollingStep extends AsyncFlowableStep {
+
+        private final Queue<AsyncExecutionState> executionStates = new LinkedList<>();
+
+        @Override
+        protected StepPhase executeAsyncStep(ProcessContext context) {
+            return StepPhase.POLL;
+        }
+
+        @Override
+        protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
+            return Arrays.asList(new TestExecution(executionStates), new TestExecution(executionStates));
+        }
+
+        @Override
+        protected String getStepErrorMessage(ProcessContext context) {
+            return "Polling failed";
+        }
+
+    }
+
+    private static class TestExecution implements AsyncExecution {
+
+        private final Queue<AsyncExecutionState> executionStates;
+
+        TestExecution(Queue<AsyncExecutionState> executionStates) {
+            this.executionStates = executionStates;
+        }
+
+        @Override
+        public AsyncExecutionState execute(ProcessContext context) {
+            return executionStates.remove();
+        }
+
+        @Override
+        public String getPollingErrorMessage(ProcessContext context) {
+            return "Polling failed";
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.cloudfoundry.multiapps.controller.core.cf.clients.ApplicationsGetter;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.cloudfoundry.multiapps.mta.model.Module;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class ComputeNextModulesStepTest extends SyncFlowableStepTest<ComputeNextModulesStep> {
+
+    private static final Module DB = buildModule("db");
+    private static final Module SRV = buildModule("srv", "db", "external-app");
+    private static final Module WORKER = buildModule("worker", "srv", "db", "external-app");
+
+    @Mock
+    private ApplicationsGetter applicationsGetter;
+
+    @BeforeEach
+    void setUp() {
+        when(configuration.getMaxParallelModuleDeployments()).thenReturn(32);
+        context.setVariable(Variables.DEPLOYMENT_DESCRIPTOR, DeploymentDescriptor.createV3()
+                                                                                 .setModules(List.of(DB, SRV, WORKER)));
+        context.setVariable(Variables.MODULES_TO_DEPLOY, List.of(SRV, WORKER));
+        context.setVariable(Variables.ITERATED_MODULES_IN_PARALLEL, Collections.emptyList());
+    }
+
+    @Test
+    void testFoundApplicationsAreLookedUpOnce() {
+        when(applicationsGetter.getExistingApplicationNames(any(), any(), any())).thenReturn(Set.of("db"));
+
+        step.execute(execution);
+        assertStepFinishedSuccessfully();
+        assertEquals(List.of("srv"), getModulesToIterateInParallel());
+
+        step.execute(execution);
+        assertStepFinishedSuccessfully();
+        assertEquals(List.of("worker"), getModulesToIterateInParallel());
+
+        verify(applicationsGetter).getExistingApplicationNames(any(), eq(Set.of("db")), eq(SPACE_GUID));
+        assertEquals(Set.of("db"), context.getVariable(Variables.DEPENDENCY_APPLICATIONS_IN_SPACE));
+    }
+
+    @Test
+    void testMissingApplicationsAreLookedUpAgain() {
+        when(applicationsGetter.getExistingApplicationNames(any(), any(), any())).thenReturn(Collections.emptySet());
+
+        step.execute(execution);
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+        assertTrue(getModulesToIterateInParallel().isEmpty());
+        verify(applicationsGetter, times(2)).getExistingApplicationNames(any(), eq(Set.of("db")), eq(SPACE_GUID));
+    }
+
+    private List<String> getModulesToIterateInParallel() {
+        return context.getVariable(Variables.MODULES_TO_ITERATE_IN_PARALLEL)
+                      .stream()
+                      .map(Module::getName)
+                      .collect(Collectors.toList());
+    }
+
+    private static Module buildModule(String name, String... deployedAfter) {
+        return Module.createV3()
+                     .setName(name)
+                     .setDeployedAfter(List.of(deployedAfter));
+    }
+
+    @Override
+    protected ComputeNextModulesStep createStep() {
+        return new ComputeNextModulesStep();
+    }
+
+}
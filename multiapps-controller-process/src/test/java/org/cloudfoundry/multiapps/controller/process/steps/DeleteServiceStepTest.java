@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -39,6 +40,7 @@ import org.cloudfoundry.multiapps.controller.process.util.ServiceAction;
 import org.cloudfoundry.multiapps.controller.process.util.ServiceOperationGetter;
 import org.cloudfoundry.multiapps.controller.process.util.ServiceProgressReporter;
 import org.cloudfoundry.multiapps.controller.process.util.ServiceRemover;
+import org.cloudfoundry.multiapps.controller.process.util.ServiceStatusPoller;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -62,6 +64,8 @@ class DeleteServiceStepTest extends SyncFlowableStepTest<DeleteServiceStep> {
     @Mock
     private EventsGetter eventsGetter;
     @Mock
+    private ServiceStatusPoller serviceStatusPoller;
+    @Mock
     private ServiceRemover serviceRemover;
     @InjectMocks
     private ServiceOperationGetter serviceOperationGetter;
@@ -175,6 +179,8 @@ class DeleteServiceStepTest extends SyncFlowableStepTest<DeleteServiceStep> {
                    .thenReturn(events);
             Mockito.when(eventsGetter.getLastEvent(eq(serviceGuid), any(CloudControllerClient.class)))
                    .thenReturn(deleteEvent);
+            Mockito.when(eventsGetter.getDeletedServiceInstanceGuids(eq(List.of(serviceGuid)), any(CloudControllerClient.class)))
+                   .thenReturn(Set.of(serviceGuid));
 
         }
 
@@ -231,7 +237,7 @@ class DeleteServiceStepTest extends SyncFlowableStepTest<DeleteServiceStep> {
 
     @Override
     protected DeleteServiceStep createStep() {
-        serviceOperationGetter = new ServiceOperationGetter(serviceGetter, eventsGetter);
+        serviceOperationGetter = new ServiceOperationGetter(serviceGetter, eventsGetter, serviceStatusPoller, Runnable::run);
         return new DeleteServiceStep(serviceOperationGetter, serviceProgressReporter, serviceRemover);
     }
 
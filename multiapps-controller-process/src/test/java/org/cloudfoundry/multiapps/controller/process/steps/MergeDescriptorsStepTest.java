@@ -1,10 +1,18 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.SLException;
@@ -12,8 +20,11 @@ import org.cloudfoundry.multiapps.common.test.Tester.Expectation;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudHandlerFactory;
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaDescriptorMerger;
 import org.cloudfoundry.multiapps.controller.core.test.DescriptorTestUtil;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.controller.process.util.MtaArchiveCache;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.cloudfoundry.multiapps.mta.model.Module;
 import org.cloudfoundry.multiapps.mta.model.Platform;
 import org.junit.Before;
 import org.junit.Test;
@@ -26,8 +37,18 @@ public class MergeDescriptorsStepTest extends SyncFlowableStepTest<MergeDescript
     private static final DeploymentDescriptor DEPLOYMENT_DESCRIPTOR = DescriptorTestUtil.loadDeploymentDescriptor("node-hello-mtad.yaml",
                                                                                                                   MergeDescriptorsStepTest.class);
 
+    private static final String APP_ARCHIVE_ID = "archive";
+    private static final String EXTENSION_DESCRIPTOR_ID = "extension";
+    private static final int SPACES_COUNT = 30;
+    private static final int MODULES_COUNT = 80;
+    private static final int PROPERTIES_PER_MODULE_COUNT = 7;
+
     private class MergeDescriptorsStepMock extends MergeDescriptorsStep {
 
+        public MergeDescriptorsStepMock() {
+            mtaArchiveCache = new MtaArchiveCache();
+        }
+
         @Override
         protected MtaDescriptorMerger getMtaDescriptorMerger(CloudHandlerFactory factory, Platform platform) {
             return merger;
@@ -69,6 +90,58 @@ public class MergeDescriptorsStepTest extends SyncFlowableStepTest<MergeDescript
         step.execute(execution);
     }
 
+    @Test
+    public void testExecuteInManySpacesWithLargeDescriptor() throws Exception {
+        DeploymentDescriptor largeDescriptor = createLargeDescriptor();
+        context.setVariable(Variables.DEPLOYMENT_DESCRIPTOR, largeDescriptor);
+        context.setVariable(Variables.APP_ARCHIVE_ID, APP_ARCHIVE_ID);
+        context.setVariable(Variables.EXT_DESCRIPTOR_FILE_ID, EXTENSION_DESCRIPTOR_ID);
+        prepareFile(APP_ARCHIVE_ID, "0123456789ABCDEF");
+        prepareFile(EXTENSION_DESCRIPTOR_ID, "FEDCBA9876543210");
+        when(merger.merge(any(), eq(Collections.emptyList()))).thenReturn(largeDescriptor);
+        when(merger.validateParameters(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        for (int i = 0; i < SPACES_COUNT; i++) {
+            context.setVariable(Variables.SPACE_GUID, "space-" + i);
+            step.execute(execution);
+            assertStepFinishedSuccessfully();
+        }
+
+        verify(merger).merge(any(), any());
+        verify(merger, times(SPACES_COUNT - 1)).validateParameters(any());
+        assertEquals(MODULES_COUNT, context.getVariable(Variables.DEPLOYMENT_DESCRIPTOR)
+                                           .getModules()
+                                           .size());
+    }
+
+    private void prepareFile(String fileId, String digest) throws Exception {
+        when(fileService.getFile(any(), eq(fileId))).thenReturn(ImmutableFileEntry.builder()
+                                                                                  .id(fileId)
+                                                                                  .digest(digest)
+                                                                                  .digestAlgorithm("MD5")
+                                                                                  .build());
+    }
+
+    private static DeploymentDescriptor createLargeDescriptor() {
+        List<Module> modules = IntStream.range(0, MODULES_COUNT)
+                                        .mapToObj(MergeDescriptorsStepTest::createModule)
+                                        .collect(Collectors.toList());
+        return DeploymentDescriptor.createV2()
+                                   .setId("large-mta")
+                                   .setVersion("1.0.0")
+                                   .setModules(modules);
+    }
+
+    private static Module createModule(int index) {
+        Map<String, Object> properties = IntStream.range(0, PROPERTIES_PER_MODULE_COUNT)
+                                                  .mapToObj(i -> "property-" + i)
+                                                  .collect(Collectors.toMap(Function.identity(), name -> "value-of-" + name));
+        return Module.createV2()
+                     .setName("module-" + index)
+                     .setType("javascript.nodejs")
+                     .setProperties(properties);
+    }
+
     @Override
     protected MergeDescriptorsStep createStep() {
         return new MergeDescriptorsStepMock();
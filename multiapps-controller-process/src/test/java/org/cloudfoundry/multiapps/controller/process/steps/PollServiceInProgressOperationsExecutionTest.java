@@ -3,7 +3,6 @@ package org.cloudfoundry.multiapps.controller.process.steps;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -139,17 +138,16 @@ public class PollServiceInProgressOperationsExecutionTest extends AsyncStepOpera
     }
 
     private void prepareServiceOperationGetter(List<CloudServiceInstanceExtended> services) {
+        Map<String, ServiceOperation> lastServiceOperations = new HashMap<>();
         for (int i = 0; i < services.size(); i++) {
             CloudServiceInstanceExtended service = services.get(i);
             ServiceOperation.Type serviceOperationType = servicesOperationTypes.get(i);
             ServiceOperation.State serviceOperationState = servicesOperationStates.get(i);
             if (serviceOperationType != null && serviceOperationState != null) {
-                when(serviceOperationGetter.getLastServiceOperation(any(),
-                                                                    eq(service))).thenReturn(new ServiceOperation(serviceOperationType,
-                                                                                                                  "",
-                                                                                                                  serviceOperationState));
+                lastServiceOperations.put(service.getName(), new ServiceOperation(serviceOperationType, "", serviceOperationState));
             }
         }
+        when(serviceOperationGetter.getLastServiceOperations(any(), any())).thenReturn(lastServiceOperations);
     }
 
     private void prepareTriggeredServiceOperations() {
@@ -3,11 +3,11 @@ package org.cloudfoundry.multiapps.controller.process.steps;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -116,26 +116,16 @@ public class PollServiceOperationsStepTest extends AsyncStepOperationTest<Create
 
     @SuppressWarnings("unchecked")
     private void prepareServiceOperationGetter() {
+        Map<String, ServiceOperation> lastServiceOperations = new HashMap<>();
         for (Entry<String, Object> response : input.serviceInstanceResponse.entrySet()) {
             Map<String, Object> serviceInstanceResponse = (Map<String, Object>) response.getValue();
             if (serviceInstanceResponse == null) {
                 continue;
             }
             Map<String, Object> serviceOperationAsMap = (Map<String, Object>) serviceInstanceResponse.get(ServiceOperation.LAST_SERVICE_OPERATION);
-            CloudServiceInstanceExtended service = getCloudServiceExtended(response);
-
-            when(serviceOperationGetter.getLastServiceOperation(any(),
-                                                                eq(service))).thenReturn(ServiceOperation.fromMap(serviceOperationAsMap));
-
+            lastServiceOperations.put(response.getKey(), ServiceOperation.fromMap(serviceOperationAsMap));
         }
-    }
-
-    private CloudServiceInstanceExtended getCloudServiceExtended(Entry<String, Object> response) {
-        return input.services.stream()
-                             .filter(serviceToFind -> serviceToFind.getName()
-                                                                   .equals(response.getKey()))
-                             .findFirst()
-                             .get();
+        when(serviceOperationGetter.getLastServiceOperations(any(), any())).thenReturn(lastServiceOperations);
     }
 
     @Override
@@ -0,0 +1,117 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.process.util.MockDelegateExecution;
+import org.cloudfoundry.multiapps.controller.process.variables.ImmutableJsonBinaryListVariable;
+import org.cloudfoundry.multiapps.controller.process.variables.Serializer;
+import org.cloudfoundry.multiapps.controller.process.variables.Variable;
+import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProcessContextTest {
+
+    private static final List<String> MODULES = List.of("foo", "bar");
+
+    private final CountingVariable variable = new CountingVariable();
+    private DelegateExecution execution;
+    private ProcessContext context;
+
+    @BeforeEach
+    void setUp() {
+        execution = new MockDelegateExecution();
+        context = new ProcessContext(execution, null, null);
+    }
+
+    @Test
+    void testVariableIsDeserializedOnce() {
+        VariableHandling.set(execution, variable, MODULES);
+
+        List<String> modules = context.getVariable(variable);
+
+        assertEquals(MODULES, modules);
+        assertSame(modules, context.getVariable(variable));
+        assertEquals(1, variable.deserializationsCount);
+    }
+
+    @Test
+    void testSetVariableIsWrittenThrough() {
+        context.setVariable(variable, MODULES);
+
+        assertEquals(MODULES, VariableHandling.get(execution, variable));
+        assertSame(MODULES, context.getVariable(variable));
+        assertEquals(1, variable.deserializationsCount);
+    }
+
+    @Test
+    void testVariableSetThroughExecutionIsNotMissed() {
+        context.setVariable(variable, MODULES);
+        VariableHandling.set(execution, variable, List.of("baz"));
+
+        assertEquals(List.of("baz"), context.getVariable(variable));
+    }
+
+    @Test
+    void testRemoveVariable() {
+        context.setVariable(variable, MODULES);
+        context.removeVariable(variable);
+
+        assertEquals(List.of(), context.getVariable(variable));
+    }
+
+    @Test
+    void testSetVariableToNull() {
+        context.setVariable(variable, MODULES);
+        context.setVariable(variable, null);
+
+        assertNull(execution.getVariable(variable.getName()));
+        assertEquals(List.of(), context.getVariable(variable));
+    }
+
+    private static class CountingVariable implements Variable<List<String>> {
+
+        private final Variable<List<String>> delegate = ImmutableJsonBinaryListVariable.<String> builder()
+                                                                                       .name("modules")
+                                                                                       .type(Variable.typeReference(String.class))
+                                                                                       .defaultValue(List.of())
+                                                                                       .build();
+        private int deserializationsCount;
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public List<String> getDefaultValue() {
+            return delegate.getDefaultValue();
+        }
+
+        @Override
+        public Serializer<List<String>> getSerializer() {
+            Serializer<List<String>> serializer = delegate.getSerializer();
+            return new Serializer<>() {
+
+                @Override
+                public Object serialize(List<String> value) {
+                    return serializer.serialize(value);
+                }
+
+                @Override
+                public List<String> deserialize(Object serializedValue) {
+                    deserializationsCount++;
+                    return serializer.deserialize(serializedValue);
+                }
+
+            };
+        }
+
+    }
+
+}
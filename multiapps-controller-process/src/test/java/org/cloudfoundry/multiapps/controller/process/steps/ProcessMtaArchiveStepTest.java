@@ -5,6 +5,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -18,7 +20,9 @@ import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.core.helpers.DescriptorParserFacadeFactory;
 import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveHelper;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
+import org.cloudfoundry.multiapps.controller.process.util.MtaArchiveCache;
 import org.cloudfoundry.multiapps.controller.process.util.ProcessConflictPreventer;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.cloudfoundry.multiapps.mta.handlers.DescriptorParserFacade;
@@ -73,10 +77,7 @@ class ProcessMtaArchiveStepTest extends SyncFlowableStepTest<ProcessMtaArchiveSt
 
     @Test
     void testExecute() {
-        DescriptorParserFacadeFactory descriptorParserFactory = Mockito.mock(DescriptorParserFacadeFactory.class);
-        Mockito.when(descriptorParserFactory.getInstance())
-               .thenReturn(new DescriptorParserFacade());
-        step.descriptorParserFactory = descriptorParserFactory;
+        prepareDescriptorParserFactory();
         step.execute(execution);
 
         assertStepFinishedSuccessfully();
@@ -86,6 +87,33 @@ class ProcessMtaArchiveStepTest extends SyncFlowableStepTest<ProcessMtaArchiveSt
         testDependencies();
     }
 
+    @Test
+    void testExecuteWithPreviouslyProcessedArchive() throws Exception {
+        prepareDescriptorParserFactory();
+        when(fileService.getFile(SPACE_ID, FILE_ID)).thenReturn(ImmutableFileEntry.builder()
+                                                                                  .id(FILE_ID)
+                                                                                  .space(SPACE_ID)
+                                                                                  .digest("0123456789ABCDEF")
+                                                                                  .digestAlgorithm("MD5")
+                                                                                  .build());
+        step.execute(execution);
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+        verify(fileService, times(2)).consumeFileContent(any(), any(), any());
+
+        testModules();
+        testResources();
+        testDependencies();
+    }
+
+    private void prepareDescriptorParserFactory() {
+        DescriptorParserFacadeFactory descriptorParserFactory = Mockito.mock(DescriptorParserFacadeFactory.class);
+        Mockito.when(descriptorParserFactory.getInstance())
+               .thenReturn(new DescriptorParserFacade());
+        step.descriptorParserFactory = descriptorParserFactory;
+    }
+
     private void testModules() {
         Set<String> actualModules = context.getVariable(Variables.MTA_ARCHIVE_MODULES);
 
@@ -117,6 +145,10 @@ class ProcessMtaArchiveStepTest extends SyncFlowableStepTest<ProcessMtaArchiveSt
 
     private class ProcessMtaArchiveStepMock extends ProcessMtaArchiveStep {
 
+        public ProcessMtaArchiveStepMock() {
+            mtaArchiveCache = new MtaArchiveCache();
+        }
+
         @Override
         protected MtaArchiveHelper getHelper(Manifest manifest) {
             MtaArchiveHelper helper = Mockito.mock(MtaArchiveHelper.class);
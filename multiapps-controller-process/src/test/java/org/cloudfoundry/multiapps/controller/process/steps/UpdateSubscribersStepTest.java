@@ -30,10 +30,12 @@ import org.cloudfoundry.multiapps.controller.core.model.CloudTarget;
 import org.cloudfoundry.multiapps.controller.core.model.ConfigurationEntry;
 import org.cloudfoundry.multiapps.controller.core.model.ConfigurationFilter;
 import org.cloudfoundry.multiapps.controller.core.model.ConfigurationSubscription;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationEntryBatchQuery;
 import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationEntryQuery;
 import org.cloudfoundry.multiapps.controller.core.persistence.query.ConfigurationSubscriptionQuery;
 import org.cloudfoundry.multiapps.controller.core.persistence.service.ConfigurationEntryService;
 import org.cloudfoundry.multiapps.controller.core.persistence.service.ConfigurationSubscriptionService;
+import org.cloudfoundry.multiapps.controller.core.test.BatchQueryMock;
 import org.cloudfoundry.multiapps.controller.core.test.MockBuilder;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.flowable.variable.api.history.HistoricVariableInstance;
@@ -259,6 +261,9 @@ public class UpdateSubscribersStepTest extends SyncFlowableStepTest<UpdateSubscr
 
     private void prepareConfigurationServices() {
         when(configurationEntryService.createQuery()).thenReturn(configurationEntryQuery);
+        when(configurationEntryService.createBatchQuery()).thenAnswer(invocation -> BatchQueryMock.create(ConfigurationEntryBatchQuery.class,
+                                                                                                              configurationEntryQuery,
+                                                                                                              ConfigurationEntryQuery::list));
         when(configurationSubscriptionService.createQuery()).thenReturn(configurationSubscriptionQuery);
         doReturn(getSubscriptions()).when(configurationSubscriptionQuery)
                                     .list();
@@ -280,6 +285,7 @@ public class UpdateSubscribersStepTest extends SyncFlowableStepTest<UpdateSubscr
         }
     }
 
+
     private List<ConfigurationSubscription> getSubscriptions() {
         return input.subscribersToUpdate.stream()
                                         .map((subscriber) -> subscriber.subscription)
@@ -47,6 +47,7 @@ import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveCont
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveReader;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
 import org.cloudfoundry.multiapps.controller.process.util.CloudPackagesGetter;
+import org.cloudfoundry.multiapps.controller.process.util.MtaArchiveCache;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -269,6 +270,7 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
             applicationArchiveReader = getApplicationArchiveReader();
             applicationZipBuilder = getApplicationZipBuilder(applicationArchiveReader);
             cloudPackagesGetter = UploadAppStepGeneralTest.this.cloudPackagesGetter;
+            mtaArchiveCache = new MtaArchiveCache();
         }
 
         @Override
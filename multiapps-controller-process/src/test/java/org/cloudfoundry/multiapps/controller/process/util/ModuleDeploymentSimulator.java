@@ -0,0 +1,100 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.cloudfoundry.multiapps.mta.model.Module;
+
+/**
+ * Benchmark, which simulates the parallel deployment of modules with known deployment durations. It computes the total deployment time,
+ * when the modules are deployed in waves (as done by the ComputeNextModulesStep) and when each module is started as soon as its own
+ * dependencies are deployed. It is not part of the unit tests, and is run through its main method, e.g. from the IDE.
+ */
+class ModuleDeploymentSimulator {
+
+    private final List<Module> modules;
+    private final Map<String, Integer> durations;
+    private final int maxParallelDeployments;
+
+    ModuleDeploymentSimulator(List<Module> modules, Map<String, Integer> durations, int maxParallelDeployments) {
+        this.modules = modules;
+        this.durations = durations;
+        this.maxParallelDeployments = maxParallelDeployments;
+    }
+
+    public static void main(String[] args) {
+        // A slow, independent module holds back the whole chain of modules deployed after "db", when the modules are deployed in waves:
+        simulate("Independent slow module",
+                 List.of(buildModule("jobs"), buildModule("db"), buildModule("srv", "db"), buildModule("ui", "srv"),
+                         buildModule("approuter", "ui")),
+                 Map.of("jobs", 120, "db", 30, "srv", 60, "ui", 20, "approuter", 20), Integer.MAX_VALUE);
+        simulate("Services and applications",
+                 List.of(buildModule("db"), buildModule("uaa"), buildModule("srv-1", "db", "uaa"), buildModule("srv-2", "db"),
+                         buildModule("srv-3", "uaa"), buildModule("ui", "srv-1", "srv-2"), buildModule("approuter", "ui", "srv-3")),
+                 Map.of("db", 90, "uaa", 20, "srv-1", 60, "srv-2", 40, "srv-3", 120, "ui", 30, "approuter", 20), 4);
+    }
+
+    private static void simulate(String name, List<Module> modules, Map<String, Integer> durations, int maxParallelDeployments) {
+        ModuleDeploymentSimulator simulator = new ModuleDeploymentSimulator(modules, durations, maxParallelDeployments);
+        System.out.println(MessageFormat.format("{0}: {1} s in waves, {2} s by dependency graph", name, simulator.simulateWaves(),
+                                                simulator.simulateDependencyGraph()));
+    }
+
+    private static Module buildModule(String name, String... deployedAfter) {
+        return Module.createV3()
+                     .setName(name)
+                     .setDeployedAfter(List.of(deployedAfter));
+    }
+
+    int simulateWaves() {
+        Set<String> deployedModules = new HashSet<>();
+        int totalTime = 0;
+        while (deployedModules.size() < modules.size()) {
+            List<Module> wave = getReadyModules(deployedModules, Set.of(), maxParallelDeployments);
+            totalTime += wave.stream()
+                             .mapToInt(module -> durations.get(module.getName()))
+                             .max()
+                             .orElseThrow(() -> new IllegalStateException("Cyclic dependencies"));
+            wave.forEach(module -> deployedModules.add(module.getName()));
+        }
+        return totalTime;
+    }
+
+    int simulateDependencyGraph() {
+        Set<String> deployedModules = new HashSet<>();
+        Map<String, Integer> finishTimes = new HashMap<>();
+        int currentTime = 0;
+        while (deployedModules.size() < modules.size()) {
+            int freeSlots = maxParallelDeployments - finishTimes.size();
+            for (Module module : getReadyModules(deployedModules, finishTimes.keySet(), freeSlots)) {
+                finishTimes.put(module.getName(), currentTime + durations.get(module.getName()));
+            }
+            currentTime = finishTimes.values()
+                                     .stream()
+                                     .mapToInt(Integer::intValue)
+                                     .min()
+                                     .orElseThrow(() -> new IllegalStateException("Cyclic dependencies"));
+            for (String moduleName : List.copyOf(finishTimes.keySet())) {
+                if (finishTimes.get(moduleName) == currentTime) {
+                    finishTimes.remove(moduleName);
+                    deployedModules.add(moduleName);
+                }
+            }
+        }
+        return currentTime;
+    }
+
+    private List<Module> getReadyModules(Set<String> deployedModules, Set<String> runningModules, int maxModules) {
+        return modules.stream()
+                      .filter(module -> !deployedModules.contains(module.getName()) && !runningModules.contains(module.getName()))
+                      .filter(module -> deployedModules.containsAll(module.getDeployedAfter()))
+                      .limit(maxModules)
+                      .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,121 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.cloudfoundry.multiapps.controller.core.helpers.MtaArchiveElements;
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.junit.jupiter.api.Test;
+
+class MtaArchiveCacheTest {
+
+    private static final String SPACE = "space";
+    private static final String OTHER_SPACE = "other-space";
+    private static final String DIGEST = "0123456789ABCDEF";
+    private static final String MODULE_FILE_NAME = "web/";
+    private static final String MODULE_DIGEST = "FEDCBA9876543210";
+    private static final String EXTENSION_DIGEST = "00112233445566778899AABBCCDDEEFF";
+
+    private final MtaArchiveCache mtaArchiveCache = new MtaArchiveCache();
+
+    @Test
+    void testProcessedArchiveOfSameArchiveUploadedAgain() {
+        ProcessedMtaArchive processedArchive = createProcessedArchive();
+        mtaArchiveCache.putProcessedArchive(createArchive("1", SPACE, DIGEST), processedArchive);
+
+        assertEquals(processedArchive, mtaArchiveCache.getProcessedArchive(createArchive("2", SPACE, DIGEST)));
+    }
+
+    @Test
+    void testProcessedArchiveOfDifferentArchive() {
+        mtaArchiveCache.putProcessedArchive(createArchive("1", SPACE, DIGEST), createProcessedArchive());
+
+        assertNull(mtaArchiveCache.getProcessedArchive(createArchive("2", SPACE, MODULE_DIGEST)));
+    }
+
+    @Test
+    void testProcessedArchiveInDifferentSpace() {
+        mtaArchiveCache.putProcessedArchive(createArchive("1", SPACE, DIGEST), createProcessedArchive());
+
+        assertNull(mtaArchiveCache.getProcessedArchive(createArchive("2", OTHER_SPACE, DIGEST)));
+    }
+
+    @Test
+    void testArchiveWithoutDigestIsNotCached() {
+        mtaArchiveCache.putProcessedArchive(createArchive("1", SPACE, null), createProcessedArchive());
+
+        assertNull(mtaArchiveCache.getProcessedArchive(createArchive("1", SPACE, null)));
+    }
+
+    @Test
+    void testModuleDigest() {
+        mtaArchiveCache.putModuleDigest(createArchive("1", SPACE, DIGEST), MODULE_FILE_NAME, MODULE_DIGEST);
+
+        assertEquals(MODULE_DIGEST, mtaArchiveCache.getModuleDigest(createArchive("2", SPACE, DIGEST), MODULE_FILE_NAME));
+        assertNull(mtaArchiveCache.getModuleDigest(createArchive("2", SPACE, DIGEST), "db/"));
+    }
+
+    @Test
+    void testMergedDescriptor() {
+        DeploymentDescriptor mergedDescriptor = DeploymentDescriptor.createV3();
+        mtaArchiveCache.putMergedDescriptor(createArchive("1", SPACE, DIGEST), List.of(createArchive("2", SPACE, EXTENSION_DIGEST)),
+                                            mergedDescriptor);
+
+        assertSame(mergedDescriptor, mtaArchiveCache.getMergedDescriptor(createArchive("3", SPACE, DIGEST),
+                                                                         List.of(createArchive("4", SPACE, EXTENSION_DIGEST))));
+    }
+
+    @Test
+    void testMergedDescriptorInDifferentSpace() {
+        mtaArchiveCache.putMergedDescriptor(createArchive("1", SPACE, DIGEST), List.of(createArchive("2", SPACE, EXTENSION_DIGEST)),
+                                            DeploymentDescriptor.createV3());
+
+        assertNull(mtaArchiveCache.getMergedDescriptor(createArchive("3", OTHER_SPACE, DIGEST),
+                                                       List.of(createArchive("4", OTHER_SPACE, EXTENSION_DIGEST))));
+    }
+
+    @Test
+    void testMergedDescriptorWithDifferentExtensionDescriptors() {
+        mtaArchiveCache.putMergedDescriptor(createArchive("1", SPACE, DIGEST), List.of(createArchive("2", SPACE, EXTENSION_DIGEST)),
+                                            DeploymentDescriptor.createV3());
+
+        assertNull(mtaArchiveCache.getMergedDescriptor(createArchive("1", SPACE, DIGEST), Collections.emptyList()));
+        assertNull(mtaArchiveCache.getMergedDescriptor(createArchive("1", SPACE, DIGEST), List.of(createArchive("3", SPACE, MODULE_DIGEST))));
+    }
+
+    @Test
+    void testMergedDescriptorOfExtensionDescriptorWithoutDigestIsNotCached() {
+        List<FileEntry> extensionDescriptors = List.of(createArchive("2", SPACE, null));
+        mtaArchiveCache.putMergedDescriptor(createArchive("1", SPACE, DIGEST), extensionDescriptors, DeploymentDescriptor.createV3());
+
+        assertNull(mtaArchiveCache.getMergedDescriptor(createArchive("1", SPACE, DIGEST), extensionDescriptors));
+    }
+
+    private static FileEntry createArchive(String id, String space, String digest) {
+        return ImmutableFileEntry.builder()
+                                 .id(id)
+                                 .space(space)
+                                 .size(BigInteger.TEN)
+                                 .digest(digest)
+                                 .digestAlgorithm("MD5")
+                                 .build();
+    }
+
+    private static ProcessedMtaArchive createProcessedArchive() {
+        return ImmutableProcessedMtaArchive.builder()
+                                           .deploymentDescriptor(DeploymentDescriptor.createV3()
+                                                                                     .setId("mta"))
+                                           .mtaArchiveElements(new MtaArchiveElements())
+                                           .mtaArchiveModules(Set.of("web"))
+                                           .build();
+    }
+
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.never;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.cloudfoundry.multiapps.controller.api.model.ErrorType;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
@@ -215,6 +216,24 @@ class OperationsHelperTest {
 
     }
 
+    @Test
+    void testFindOperationsComputesStatesInBatch() {
+        String runningProcessId = "12af8e1e-4d96-11ea-b77f-2e728ce88178";
+        String errorProcessId = "13af8e1e-4d96-11ea-b77f-2e728ce88178";
+        List<Operation> operations = Arrays.asList(createMockedOperation(runningProcessId, ProcessType.DEPLOY, null),
+                                                   createMockedOperation(errorProcessId, ProcessType.DEPLOY, null),
+                                                   createMockedOperation("14af8e1e-4d96-11ea-b77f-2e728ce88178", ProcessType.DEPLOY,
+                                                                         Operation.State.FINISHED));
+        Mockito.when(processHelper.computeProcessStates(Arrays.asList(runningProcessId, errorProcessId)))
+               .thenReturn(Map.of(runningProcessId, State.RUNNING, errorProcessId, State.ERROR));
+        List<Operation> foundOperations = operationsHelper.findOperations(operations, Collections.singletonList(Operation.State.ERROR));
+        Assertions.assertEquals(1, foundOperations.size());
+        Assertions.assertEquals(errorProcessId, foundOperations.get(0)
+                                                               .getProcessId());
+        Mockito.verify(processHelper, never())
+               .computeProcessState(anyString());
+    }
+
     private Operation createMockedOperation(String processId, ProcessType processType, Operation.State state) {
         Operation operation = Mockito.mock(Operation.class);
         Mockito.when(operation.getProcessType())
@@ -1,6 +1,9 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.cloudfoundry.multiapps.controller.api.model.Operation.State;
 import org.cloudfoundry.multiapps.controller.core.model.HistoricOperationEvent.EventType;
@@ -70,6 +73,40 @@ class ProcessHelperTest {
         Assertions.assertEquals(State.FINISHED, processHelper.computeProcessState(PROCESS_ID));
     }
 
+    @Test
+    void testComputeProcessStates() {
+        String abortedProcessId = "aborted";
+        String errorProcessId = "error";
+        String actionRequiredProcessId = "action-required";
+        String runningProcessId = "running";
+        String finishedProcessId = "finished";
+        List<String> processIds = List.of(abortedProcessId, errorProcessId, actionRequiredProcessId, runningProcessId, finishedProcessId);
+        Set<String> activeProcessIds = Set.of(errorProcessId, actionRequiredProcessId, runningProcessId);
+        Mockito.when(historicOperationEventQuery.processIdAnyOf(processIds))
+               .thenReturn(historicOperationEventQuery);
+        Mockito.when(historicOperationEventQuery.type(EventType.ABORTED))
+               .thenReturn(historicOperationEventQuery);
+        Mockito.when(historicOperationEventQuery.list())
+               .thenReturn(List.of(ImmutableHistoricOperationEvent.builder()
+                                                                  .type(EventType.ABORTED)
+                                                                  .processId(abortedProcessId)
+                                                                  .build()));
+        Mockito.when(flowableFacade.findActiveProcessInstances(processIds))
+               .thenReturn(activeProcessIds);
+        Mockito.when(flowableFacade.findProcessInstancesWithDeadLetterJobs(activeProcessIds))
+               .thenReturn(Set.of(errorProcessId));
+        Mockito.when(flowableFacade.findProcessInstancesAtReceiveTask(activeProcessIds))
+               .thenReturn(Set.of(actionRequiredProcessId));
+
+        Map<String, State> processStates = processHelper.computeProcessStates(processIds);
+
+        Assertions.assertEquals(Map.of(abortedProcessId, State.ABORTED, errorProcessId, State.ERROR, actionRequiredProcessId,
+                                       State.ACTION_REQUIRED, runningProcessId, State.RUNNING, finishedProcessId, State.FINISHED),
+                                processStates);
+        Mockito.verify(flowableFacade, Mockito.never())
+               .hasDeadLetterJobs(Mockito.anyString());
+    }
+
     private void mockHistoricEventsWithTypes(EventType type) {
         Mockito.when(historicOperationEventQuery.list())
                .thenReturn(Arrays.asList(ImmutableHistoricOperationEvent.builder()
@@ -3,24 +3,35 @@ package org.cloudfoundry.multiapps.controller.process.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.cloudfoundry.client.lib.domain.CloudEvent;
 import org.cloudfoundry.client.lib.domain.ImmutableCloudMetadata;
 import org.cloudfoundry.multiapps.controller.client.lib.domain.CloudServiceInstanceExtended;
+import org.cloudfoundry.multiapps.controller.client.lib.domain.ImmutableCloudServiceInstanceExtended;
 import org.cloudfoundry.multiapps.controller.core.cf.clients.EventsGetter;
 import org.cloudfoundry.multiapps.controller.core.cf.clients.ServiceGetter;
 import org.cloudfoundry.multiapps.controller.core.model.ServiceOperation;
 import org.cloudfoundry.multiapps.controller.process.steps.ProcessContext;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -34,6 +45,8 @@ class ServiceOperationGetterTest {
     @Mock
     private EventsGetter eventsGetter;
     @Mock
+    private ServiceStatusPoller serviceStatusPoller;
+    @Mock
     private ProcessContext context;
     @Mock
     private CloudServiceInstanceExtended service;
@@ -43,7 +56,7 @@ class ServiceOperationGetterTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.initMocks(this);
-        serviceOperationGetter = new ServiceOperationGetter(serviceGetter, eventsGetter);
+        serviceOperationGetter = new ServiceOperationGetter(serviceGetter, eventsGetter, serviceStatusPoller, Runnable::run);
     }
 
     static Stream<Arguments> testGetLastServiceOperation() {
@@ -84,6 +97,73 @@ class ServiceOperationGetterTest {
         assertServiceOperation(expectedServiceOperation, serviceOperation);
     }
 
+    @Test
+    void testGetLastServiceOperations() {
+        CloudServiceInstanceExtended existingService = buildService("existing-service");
+        CloudServiceInstanceExtended deletedService = buildService("deleted-service");
+        Map<String, Object> serviceInstanceEntity = generateServiceInstanceEntity(ServiceOperation.Type.UPDATE,
+                                                                                  ServiceOperation.State.IN_PROGRESS, "updating");
+        when(serviceStatusPoller.getServiceInstanceEntities(any(), any(), any(),
+                                                            eq(List.of("existing-service",
+                                                                       "deleted-service")))).thenReturn(Map.of("existing-service",
+                                                                                                               serviceInstanceEntity));
+        when(eventsGetter.getDeletedServiceInstanceGuids(eq(List.of(deletedService.getMetadata()
+                                                                                   .getGuid())),
+                                                         any())).thenReturn(Set.of(deletedService.getMetadata()
+                                                                                                 .getGuid()));
+
+        Map<String, ServiceOperation> lastServiceOperations = serviceOperationGetter.getLastServiceOperations(context,
+                                                                                                             List.of(existingService,
+                                                                                                                     deletedService));
+
+        assertServiceOperation(new ServiceOperation(ServiceOperation.Type.UPDATE, "updating", ServiceOperation.State.IN_PROGRESS),
+                               lastServiceOperations.get("existing-service"));
+        assertServiceOperation(new ServiceOperation(ServiceOperation.Type.DELETE,
+                                                    ServiceOperation.Type.DELETE.name(),
+                                                    ServiceOperation.State.SUCCEEDED),
+                               lastServiceOperations.get("deleted-service"));
+        verify(serviceGetter, never()).getServiceInstanceEntity(any(), any(), any());
+        verify(eventsGetter, never()).getEvents(any(), any());
+    }
+
+    @Test
+    void testGetLastServiceOperationsInBatches() {
+        testGetLastServiceOperationsInBatches(120, 3);
+    }
+
+    @Test
+    void testGetLastServiceOperationsInSingleBatch() {
+        testGetLastServiceOperationsInBatches(50, 1);
+    }
+
+    private void testGetLastServiceOperationsInBatches(int servicesCount, int expectedBatchesCount) {
+        List<CloudServiceInstanceExtended> services = IntStream.range(0, servicesCount)
+                                                               .mapToObj(index -> buildService("service-" + index))
+                                                               .collect(Collectors.toList());
+        Map<String, Object> serviceInstanceEntity = generateServiceInstanceEntity(ServiceOperation.Type.CREATE,
+                                                                                  ServiceOperation.State.SUCCEEDED, "created");
+        when(serviceStatusPoller.getServiceInstanceEntities(any(), any(), any(), any())).thenAnswer(invocation -> {
+            List<String> serviceNames = invocation.getArgument(3);
+            return serviceNames.stream()
+                               .collect(Collectors.toMap(Function.identity(), serviceName -> serviceInstanceEntity));
+        });
+
+        Map<String, ServiceOperation> lastServiceOperations = serviceOperationGetter.getLastServiceOperations(context, services);
+
+        assertEquals(services.size(), lastServiceOperations.size());
+        verify(serviceStatusPoller, times(expectedBatchesCount)).getServiceInstanceEntities(any(), any(), any(), any());
+        verify(eventsGetter, never()).getDeletedServiceInstanceGuids(any(), any());
+    }
+
+    private CloudServiceInstanceExtended buildService(String name) {
+        return ImmutableCloudServiceInstanceExtended.builder()
+                                                    .name(name)
+                                                    .metadata(ImmutableCloudMetadata.builder()
+                                                                                    .guid(UUID.randomUUID())
+                                                                                    .build())
+                                                    .build();
+    }
+
     private Map<String, Object> generateServiceInstanceEntity(ServiceOperation.Type serviceOperationType,
                                                               ServiceOperation.State serviceOperationState, String description) {
         if (serviceOperationType != null && serviceOperationState != null) {
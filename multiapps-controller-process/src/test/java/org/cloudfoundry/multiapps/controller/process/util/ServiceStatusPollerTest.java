@@ -0,0 +1,89 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.cloudfoundry.client.lib.CloudControllerClient;
+import org.cloudfoundry.multiapps.controller.core.cf.clients.ServiceGetter;
+import org.cloudfoundry.multiapps.controller.core.model.ServiceOperation;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ServiceStatusPollerTest {
+
+    private static final String USER = "admin";
+    private static final String SPACE_GUID = "test-space-guid";
+    private static final String SERVICE_IN_PROGRESS = "service-in-progress";
+    private static final String SERVICE_SUCCEEDED = "service-succeeded";
+
+    @Mock
+    private ServiceGetter serviceGetter;
+    @Mock
+    private ApplicationConfiguration configuration;
+    @Mock
+    private CloudControllerClient client;
+
+    private ServiceStatusPoller serviceStatusPoller;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.initMocks(this);
+        serviceStatusPoller = new ServiceStatusPoller(serviceGetter, configuration);
+        when(serviceGetter.getServiceInstanceEntities(any(), any(),
+                                                      any())).thenReturn(Map.of(SERVICE_IN_PROGRESS,
+                                                                                buildEntity(ServiceOperation.State.IN_PROGRESS),
+                                                                                SERVICE_SUCCEEDED,
+                                                                                buildEntity(ServiceOperation.State.SUCCEEDED)));
+    }
+
+    @Test
+    void testOperationsInProgressAreShared() {
+        when(configuration.getStepPollingIntervalInSeconds()).thenReturn(60);
+
+        serviceStatusPoller.getServiceInstanceEntities(client, USER, SPACE_GUID, List.of(SERVICE_IN_PROGRESS, SERVICE_SUCCEEDED));
+        Map<String, Map<String, Object>> serviceInstances = serviceStatusPoller.getServiceInstanceEntities(client, USER, SPACE_GUID,
+                                                                                                           List.of(SERVICE_IN_PROGRESS,
+                                                                                                                   SERVICE_SUCCEEDED));
+
+        assertEquals(buildEntity(ServiceOperation.State.IN_PROGRESS), serviceInstances.get(SERVICE_IN_PROGRESS));
+        assertEquals(buildEntity(ServiceOperation.State.SUCCEEDED), serviceInstances.get(SERVICE_SUCCEEDED));
+        verify(serviceGetter).getServiceInstanceEntities(client, List.of(SERVICE_IN_PROGRESS, SERVICE_SUCCEEDED), SPACE_GUID);
+        verify(serviceGetter).getServiceInstanceEntities(client, List.of(SERVICE_SUCCEEDED), SPACE_GUID);
+    }
+
+    @Test
+    void testOperationsAreNotSharedBetweenUsers() {
+        when(configuration.getStepPollingIntervalInSeconds()).thenReturn(60);
+
+        serviceStatusPoller.getServiceInstanceEntities(client, USER, SPACE_GUID, List.of(SERVICE_IN_PROGRESS));
+        serviceStatusPoller.getServiceInstanceEntities(client, "another-user", SPACE_GUID, List.of(SERVICE_IN_PROGRESS));
+
+        verify(serviceGetter, times(2)).getServiceInstanceEntities(client, List.of(SERVICE_IN_PROGRESS), SPACE_GUID);
+    }
+
+    @Test
+    void testSharedOperationsExpire() {
+        when(configuration.getStepPollingIntervalInSeconds()).thenReturn(0);
+
+        serviceStatusPoller.getServiceInstanceEntities(client, USER, SPACE_GUID, List.of(SERVICE_IN_PROGRESS));
+        serviceStatusPoller.getServiceInstanceEntities(client, USER, SPACE_GUID, List.of(SERVICE_IN_PROGRESS));
+
+        verify(serviceGetter, times(2)).getServiceInstanceEntities(client, List.of(SERVICE_IN_PROGRESS), SPACE_GUID);
+    }
+
+    private Map<String, Object> buildEntity(ServiceOperation.State state) {
+        return Map.of(ServiceOperation.LAST_SERVICE_OPERATION, Map.of(ServiceOperation.SERVICE_OPERATION_TYPE,
+                                                                      ServiceOperation.Type.UPDATE.toString(),
+                                                                      ServiceOperation.SERVICE_OPERATION_STATE, state.toString()));
+    }
+
+}
@@ -0,0 +1,129 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.cloudfoundry.multiapps.common.ParsingException;
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+import org.cloudfoundry.multiapps.controller.process.variables.BinaryVariableCodec.Format;
+import org.cloudfoundry.multiapps.mta.model.DeploymentDescriptor;
+import org.cloudfoundry.multiapps.mta.model.Module;
+import org.cloudfoundry.multiapps.mta.model.RequiredDependency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+class BinaryVariableCodecTest {
+
+    private static final TypeReference<DeploymentDescriptor> DESCRIPTOR_TYPE = Variable.typeReference(DeploymentDescriptor.class);
+    private static final int MODULES_COUNT = 80;
+    private static final int PROPERTIES_PER_MODULE_COUNT = 7;
+    private static final DeploymentDescriptor LARGE_DESCRIPTOR = createLargeDescriptor();
+
+    @ParameterizedTest
+    @MethodSource
+    void testEncodeAndDecode(Format format, boolean compress) {
+        BinaryVariableCodec codec = new BinaryVariableCodec(format, compress);
+
+        byte[] encodedDescriptor = codec.encode(LARGE_DESCRIPTOR);
+
+        assertEquals(JsonUtil.toJson(LARGE_DESCRIPTOR), JsonUtil.toJson(codec.decode(encodedDescriptor, DESCRIPTOR_TYPE)));
+    }
+
+    static Stream<Arguments> testEncodeAndDecode() {
+        return Stream.of(Arguments.of(Format.JSON, false), Arguments.of(Format.JSON, true), Arguments.of(Format.SMILE, false),
+                         Arguments.of(Format.SMILE, true));
+    }
+
+    @Test
+    void testPlainJsonIsReadableByPreviousVersions() {
+        assertArrayEquals(JsonUtil.toJsonBinary(LARGE_DESCRIPTOR), BinaryVariableCodec.PLAIN_JSON.encode(LARGE_DESCRIPTOR));
+    }
+
+    @Test
+    void testDecodeValueWrittenByPreviousVersions() {
+        BinaryVariableCodec codec = new BinaryVariableCodec(Format.SMILE, true);
+
+        DeploymentDescriptor descriptor = codec.decode(JsonUtil.toJsonBinary(LARGE_DESCRIPTOR), DESCRIPTOR_TYPE);
+
+        assertEquals(JsonUtil.toJson(LARGE_DESCRIPTOR), JsonUtil.toJson(descriptor));
+    }
+
+    @Test
+    void testDecodeValueWrittenWithAnotherConfiguration() {
+        byte[] encodedDescriptor = new BinaryVariableCodec(Format.SMILE, true).encode(LARGE_DESCRIPTOR);
+
+        DeploymentDescriptor descriptor = BinaryVariableCodec.PLAIN_JSON.decode(encodedDescriptor, DESCRIPTOR_TYPE);
+
+        assertEquals(JsonUtil.toJson(LARGE_DESCRIPTOR), JsonUtil.toJson(descriptor));
+    }
+
+    @Test
+    void testSizeOfLargeDescriptor() {
+        int jsonSize = BinaryVariableCodec.PLAIN_JSON.encode(LARGE_DESCRIPTOR).length;
+        int smileSize = new BinaryVariableCodec(Format.SMILE, false).encode(LARGE_DESCRIPTOR).length;
+        int compressedJsonSize = new BinaryVariableCodec(Format.JSON, true).encode(LARGE_DESCRIPTOR).length;
+        int compressedSmileSize = new BinaryVariableCodec(Format.SMILE, true).encode(LARGE_DESCRIPTOR).length;
+
+        assertTrue(smileSize < jsonSize, () -> "Smile: " + smileSize + ", JSON: " + jsonSize);
+        assertTrue(compressedJsonSize < jsonSize / 4, () -> "Compressed JSON: " + compressedJsonSize + ", JSON: " + jsonSize);
+        assertTrue(compressedSmileSize < jsonSize / 4, () -> "Compressed Smile: " + compressedSmileSize + ", JSON: " + jsonSize);
+    }
+
+    @Test
+    void testSmallValuesAreNotCompressed() {
+        List<String> value = List.of("foo", "bar");
+        BinaryVariableCodec codec = new BinaryVariableCodec(Format.JSON, true);
+
+        byte[] encodedValue = codec.encode(value);
+
+        assertEquals(JsonUtil.toJsonBinary(value).length + 6, encodedValue.length);
+        assertEquals(value, codec.decode(encodedValue, new TypeReference<List<String>>() {
+        }));
+    }
+
+    @Test
+    void testDecodeUnsupportedVersion() {
+        byte[] encodedValue = new BinaryVariableCodec(Format.SMILE, false).encode(List.of("foo"));
+        encodedValue[3] = 2;
+
+        assertThrows(ParsingException.class, () -> BinaryVariableCodec.PLAIN_JSON.decode(encodedValue, new TypeReference<List<String>>() {
+        }));
+    }
+
+    private static DeploymentDescriptor createLargeDescriptor() {
+        List<Module> modules = IntStream.range(0, MODULES_COUNT)
+                                        .mapToObj(BinaryVariableCodecTest::createModule)
+                                        .collect(Collectors.toList());
+        return DeploymentDescriptor.createV3()
+                                   .setId("large-mta")
+                                   .setVersion("1.0.0")
+                                   .setModules(modules);
+    }
+
+    private static Module createModule(int index) {
+        Map<String, Object> properties = IntStream.range(0, PROPERTIES_PER_MODULE_COUNT)
+                                                  .mapToObj(i -> "property-" + i)
+                                                  .collect(Collectors.toMap(Function.identity(), name -> "~{backend/url}/" + name));
+        return Module.createV3()
+                     .setName("module-" + index)
+                     .setType("javascript.nodejs")
+                     .setProperties(properties)
+                     .setParameters(Map.of("memory", "256M", "disk-quota", "512M", "instances", 2))
+                     .setRequiredDependencies(List.of(RequiredDependency.createV3()
+                                                                        .setName("backend")));
+    }
+
+}
@@ -0,0 +1,182 @@
+package org.cloudfoundry.multiapps.controller.process.variables;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.controller.core.persistence.service.ProcessVariableContentService;
+import org.flowable.variable.api.types.ValueFields;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class SharedVariableTypeTest {
+
+    private static final int THRESHOLD_IN_BYTES = 16;
+    private static final String LARGE_STRING = "{\"modules\":[\"foo\",\"bar\"]}";
+    private static final String PROCESS_ID = "1";
+    private static final String OTHER_PROCESS_ID = "2";
+
+    private final Map<String, byte[]> storedContents = new HashMap<>();
+    private final List<String> storedContentKeys = new ArrayList<>();
+    private final List<String> loadedDigests = new ArrayList<>();
+    private final ProcessVariableContentService processVariableContentService = new ProcessVariableContentService(null) {
+
+        @Override
+        public void store(Connection connection, String digest, String processId, byte[] content) {
+            storedContents.put(digest, content);
+            storedContentKeys.add(processId + ":" + digest);
+        }
+
+        @Override
+        public byte[] find(String digest) {
+            loadedDigests.add(digest);
+            return storedContents.get(digest);
+        }
+
+    };
+    private final List<Runnable> actionsAfterCommit = new ArrayList<>();
+    private ValueFields valueFields;
+    private SharedVariableStore store;
+
+    @BeforeEach
+    void setUp() {
+        valueFields = createValueFields(PROCESS_ID);
+        store = createStore();
+    }
+
+    @Test
+    void testIsAbleToStore() {
+        SharedVariableType stringType = SharedVariableType.forStrings(store, THRESHOLD_IN_BYTES);
+        SharedVariableType bytesType = SharedVariableType.forBytes(store, THRESHOLD_IN_BYTES);
+
+        assertTrue(stringType.isAbleToStore(LARGE_STRING));
+        assertFalse(stringType.isAbleToStore("{}"));
+        assertFalse(stringType.isAbleToStore(LARGE_STRING.getBytes(StandardCharsets.UTF_8)));
+        assertFalse(stringType.isAbleToStore(null));
+        assertTrue(bytesType.isAbleToStore(LARGE_STRING.getBytes(StandardCharsets.UTF_8)));
+        assertFalse(bytesType.isAbleToStore(new byte[2]));
+        assertFalse(bytesType.isAbleToStore(LARGE_STRING));
+    }
+
+    @Test
+    void testIsNotAbleToStoreWhenDisabled() {
+        assertFalse(SharedVariableType.forStrings(store, 0)
+                                      .isAbleToStore(LARGE_STRING));
+    }
+
+    @Test
+    void testSetAndGetValue() {
+        SharedVariableType stringType = SharedVariableType.forStrings(store, THRESHOLD_IN_BYTES);
+
+        stringType.setValue(LARGE_STRING, valueFields);
+
+        assertEquals(64, valueFields.getTextValue()
+                                    .length());
+        assertEquals(LARGE_STRING, stringType.getValue(valueFields));
+    }
+
+    @Test
+    void testSameContentIsStoredOncePerProcess() {
+        SharedVariableType bytesType = SharedVariableType.forBytes(store, THRESHOLD_IN_BYTES);
+        ValueFields otherValueFields = createValueFields(PROCESS_ID);
+        ValueFields otherProcessValueFields = createValueFields(OTHER_PROCESS_ID);
+
+        bytesType.setValue(LARGE_STRING.getBytes(StandardCharsets.UTF_8), valueFields);
+        commit();
+        bytesType.setValue(LARGE_STRING.getBytes(StandardCharsets.UTF_8), otherValueFields);
+        bytesType.setValue(LARGE_STRING.getBytes(StandardCharsets.UTF_8), otherProcessValueFields);
+
+        assertEquals(valueFields.getTextValue(), otherValueFields.getTextValue());
+        assertEquals(valueFields.getTextValue(), otherProcessValueFields.getTextValue());
+        assertEquals(List.of(PROCESS_ID + ":" + valueFields.getTextValue(), OTHER_PROCESS_ID + ":" + valueFields.getTextValue()),
+                     storedContentKeys);
+        assertArrayEquals(LARGE_STRING.getBytes(StandardCharsets.UTF_8), (byte[]) bytesType.getValue(otherValueFields));
+    }
+
+    @Test
+    void testContentIsStoredAgainUntilCommitted() {
+        SharedVariableType stringType = SharedVariableType.forStrings(store, THRESHOLD_IN_BYTES);
+
+        stringType.setValue(LARGE_STRING, valueFields);
+        // The transaction that stored the content may still be rolled back:
+        stringType.setValue(LARGE_STRING, createValueFields(PROCESS_ID));
+        commit();
+        stringType.setValue(LARGE_STRING, createValueFields(PROCESS_ID));
+
+        assertEquals(2, storedContentKeys.size());
+    }
+
+    @Test
+    void testSetValueOutsideOfProcess() {
+        SharedVariableType stringType = SharedVariableType.forStrings(store, THRESHOLD_IN_BYTES);
+
+        assertThrows(IllegalStateException.class, () -> stringType.setValue(LARGE_STRING, createValueFields(null)));
+    }
+
+    @Test
+    void testGetValueStoredByAnotherInstance() {
+        SharedVariableType.forStrings(store, THRESHOLD_IN_BYTES)
+                          .setValue(LARGE_STRING, valueFields);
+        SharedVariableStore otherStore = createStore();
+
+        assertEquals(LARGE_STRING, SharedVariableType.forStrings(otherStore, 0)
+                                                     .getValue(valueFields));
+        assertEquals(LARGE_STRING, SharedVariableType.forStrings(otherStore, 0)
+                                                     .getValue(valueFields));
+        assertEquals(List.of(valueFields.getTextValue()), loadedDigests);
+    }
+
+    @Test
+    void testGetValueWithDeletedContent() {
+        valueFields.setTextValue("0A1B");
+
+        assertNull(SharedVariableType.forStrings(store, THRESHOLD_IN_BYTES)
+                                     .getValue(valueFields));
+    }
+
+    private SharedVariableStore createStore() {
+        return new SharedVariableStore(processVariableContentService) {
+
+            @Override
+            Connection getEngineConnection() {
+                return null;
+            }
+
+            @Override
+            void afterCommit(Runnable action) {
+                actionsAfterCommit.add(action);
+            }
+
+        };
+    }
+
+    private void commit() {
+        actionsAfterCommit.forEach(Runnable::run);
+        actionsAfterCommit.clear();
+    }
+
+    private static ValueFields createValueFields(String processId) {
+        ValueFields valueFields = Mockito.mock(ValueFields.class);
+        Mockito.when(valueFields.getProcessInstanceId())
+               .thenReturn(processId);
+        String[] textValue = new String[1];
+        Mockito.doAnswer(invocation -> textValue[0] = invocation.getArgument(0))
+               .when(valueFields)
+               .setTextValue(Mockito.any());
+        Mockito.when(valueFields.getTextValue())
+               .thenAnswer(invocation -> textValue[0]);
+        return valueFields;
+    }
+
+}
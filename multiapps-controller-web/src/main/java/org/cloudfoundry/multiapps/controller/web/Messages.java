@@ -13,6 +13,7 @@ public final class Messages {
     public static final String ACTION_0_CANNOT_BE_EXECUTED_OVER_OPERATION_1_IN_STATE_2 = "Action \"{0}\" cannot be executed over operation \"{1}\" in state \"{2}\".";
     public static final String OPERATION_0_NOT_FOUND = "Operation \"{0}\" was not found.";
     public static final String TEMPORARY_PROBLEM_WITH_PERSISTENCE_LAYER = "Temporary problem with persistence layer of the service";
+    public static final String COULD_NOT_READ_BPMN_RESOURCE = "Could not read BPMN resource \"{0}\"";
 
     // Audit log messages
 
@@ -26,8 +27,12 @@ public final class Messages {
     public static final String NOT_AUTHORIZED_TO_OPERATE_IN_ORGANIZATION_0_AND_SPACE_1 = "You are not authorized to perform operations in organization \"{0}\", space \"{0}\". You need the SpaceDeveloper role to operate in that space.";
     public static final String NOT_AUTHORIZED_TO_OPERATE_IN_SPACE_WITH_GUID_0 = "You are not authorized to perform operations in space with GUID \"{0}\". You need the SpaceDeveloper role to operate in that space.";
     public static final String FILE_SERVICE_CLEANUP_FAILED = "FileService: Failed to delete files without content. Reason: \"{0}\"";
+    public static final String ERROR_SCALING_FLOWABLE_JOB_EXECUTOR = "Error scaling Flowable job executor: {0}";
+    public static final String ERROR_RELEASING_QUEUED_OPERATIONS = "Error releasing queued operations: {0}";
+    public static final String ERROR_STARTING_QUEUED_OPERATION_0 = "Error starting queued operation \"{0}\"";
 
     // WARN log messages
+    public static final String COULD_NOT_REFRESH_EVENT_SUBSCRIPTIONS_FOR_OPERATION_0 = "Could not refresh event subscriptions for operation \"{0}\"";
 
     // INFO log messages
     public static final String OAUTH_TOKEN_STORE = "Using OAuth token store \"{0}\"";
@@ -37,8 +42,15 @@ public final class Messages {
     public static final String STORING_TOKEN_FOR_USER_0_WITH_EXPIRATION_TIME_1 = "Storing token for user \"{0}\" with expiration time: {1} seconds";
     public static final String REGISTERED_0_AS_LIQUIBASE_LOCK_SERVICE = "Registered {0} as a Liquibase lock service.";
     public static final String FILE_SERVICE_DELETED_FILES = "FileService: Deleted {0} files without content.";
+    public static final String QUEUED_OPERATION_0 = "Operation \"{0}\" is queued, because the maximum number of active operations is reached";
+    public static final String STARTED_QUEUED_OPERATION_0 = "Started queued operation \"{0}\"";
+    public static final String FLOWABLE_JOB_EXECUTOR_SCALED = "Flowable job executor scaled ({0}): {1} threads, {2} jobs per acquisition, {3} ms acquire wait time";
+    public static final String COULD_NOT_CHECK_FLOWABLE_SCHEMA_AND_DEPLOYMENT = "Could not check Flowable schema and deployment, they will be updated: {0}";
+    public static final String FLOWABLE_SCHEMA_AND_DEPLOYMENT_ARE_UP_TO_DATE = "Flowable schema and deployment \"{0}\" are up to date, their update is skipped";
+    public static final String FLOWABLE_PROCESS_ENGINE_STARTED = "Flowable process engine started in {0} ms ({1} startup)";
 
     // DEBUG log messages
+    public static final String COULD_NOT_SEND_EVENT_FOR_OPERATION_0 = "Could not send event for operation \"{0}\", the subscription is cancelled";
     public static final String ERROR_STORING_TOKEN_DUE_TO_INTEGRITY_VIOLATION = "Cannot store access token due to data integrity violation. The exception is ignored as the token and authentication are persisted by another client";
 
     private Messages() {
@@ -23,7 +23,6 @@ import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
 import org.cloudfoundry.multiapps.controller.api.OperationsApiService;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableLog;
-import org.cloudfoundry.multiapps.controller.api.model.ImmutableMessage;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Log;
 import org.cloudfoundry.multiapps.controller.api.model.Message;
@@ -40,24 +39,24 @@ import org.cloudfoundry.multiapps.controller.core.persistence.service.ProgressMe
 import org.cloudfoundry.multiapps.controller.core.util.UserInfo;
 import org.cloudfoundry.multiapps.controller.persistence.Constants;
 import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage;
-import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage.ProgressMessageType;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogsPersistenceService;
 import org.cloudfoundry.multiapps.controller.process.flowable.Action;
-import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
 import org.cloudfoundry.multiapps.controller.process.flowable.ProcessAction;
 import org.cloudfoundry.multiapps.controller.process.flowable.ProcessActionRegistry;
 import org.cloudfoundry.multiapps.controller.process.metadata.ProcessTypeToOperationMetadataMapper;
 import org.cloudfoundry.multiapps.controller.process.util.OperationsHelper;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.cloudfoundry.multiapps.controller.web.Messages;
+import org.cloudfoundry.multiapps.controller.web.util.OperationAdmissionController;
+import org.cloudfoundry.multiapps.controller.web.util.OperationEventsPublisher;
 import org.cloudfoundry.multiapps.controller.web.util.SecurityContextUtil;
-import org.flowable.engine.runtime.ProcessInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Named
 public class OperationsApiServiceImpl implements OperationsApiService {
@@ -71,13 +70,15 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     @Inject
     private ProcessLogsPersistenceService logsService;
     @Inject
-    private FlowableFacade flowableFacade;
-    @Inject
     private OperationsHelper operationsHelper;
     @Inject
     private ProgressMessageService progressMessageService;
     @Inject
     private ProcessActionRegistry processActionRegistry;
+    @Inject
+    private OperationEventsPublisher operationEventsPublisher;
+    @Inject
+    private OperationAdmissionController operationAdmissionController;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OperationsApiServiceImpl.class);
 
@@ -98,7 +99,11 @@ public class OperationsApiServiceImpl implements OperationsApiService {
                                                                     actionId, operationId, operation.getState()));
         }
         ProcessAction action = processActionRegistry.getAction(Action.fromString(actionId));
-        action.execute(getAuthenticatedUser(request), operationId);
+        String user = getAuthenticatedUser(request);
+        // Queued operations have no process yet, unless it was started in the meantime:
+        if (!isAbortOfQueuedOperation(operation, actionId) || !operationAdmissionController.abortQueuedOperation(operationId)) {
+            action.execute(user, operationId);
+        }
         AuditLoggingProvider.getFacade()
                             .logAboutToStart(MessageFormat.format("{0} over operation with id {1}", action, operation.getProcessId()));
         return ResponseEntity.accepted()
@@ -106,6 +111,11 @@ public class OperationsApiServiceImpl implements OperationsApiService {
                              .build();
     }
 
+    private boolean isAbortOfQueuedOperation(Operation operation, String actionId) {
+        return operation.getState() == Operation.State.QUEUED && Action.ABORT.getActionId()
+                                                                             .equals(actionId);
+    }
+
     @Override
     public ResponseEntity<List<Log>> getOperationLogs(String spaceGuid, String operationId) {
         try {
@@ -141,25 +151,22 @@ public class OperationsApiServiceImpl implements OperationsApiService {
         Set<ParameterMetadata> predefinedParameters = operationMetadataMapper.getOperationMetadata(operation.getProcessType())
                                                                              .getParameters();
         operation = addServiceParameters(operation, spaceGuid, user);
-        operation = addParameterValues(operation, predefinedParameters);
-        ensureRequiredParametersSet(operation, predefinedParameters);
-        ProcessInstance processInstance = flowableFacade.startProcess(processDefinitionKey, operation.getParameters());
+        // The parameters are converted only to be validated, since they are persisted as requested when the operation is queued:
+        ensureRequiredParametersSet(addParameterValues(operation, predefinedParameters), predefinedParameters);
+        operation = ImmutableOperation.copyOf(operation)
+                                      .withSpaceId(spaceGuid)
+                                      .withUser(user);
+        String processId = operationAdmissionController.startOperation(operation, processDefinitionKey);
         AuditLoggingProvider.getFacade()
                             .logConfigCreate(operation);
         return ResponseEntity.accepted()
-                             .header("Location", getLocationHeader(processInstance.getProcessInstanceId(), spaceGuid))
+                             .header("Location", getLocationHeader(processId, spaceGuid))
                              .build();
     }
 
     @Override
     public ResponseEntity<Operation> getOperation(String spaceGuid, String operationId, String embed) {
-        Operation operation = getOperation(operationId);
-        if (!operation.getSpaceId()
-                      .equals(spaceGuid)) {
-            LOGGER.info(MessageFormat.format(org.cloudfoundry.multiapps.controller.core.Messages.OPERATION_SPACE_MISMATCH, operationId,
-                                             operation.getSpaceId(), spaceGuid));
-            throw new NotFoundException(org.cloudfoundry.multiapps.controller.core.Messages.OPERATION_NOT_FOUND, operationId);
-        }
+        Operation operation = getOperationInSpace(spaceGuid, operationId);
         if ("messages".equals(embed)) {
             operation = ImmutableOperation.copyOf(operation)
                                           .withMessages(getOperationMessages(operation));
@@ -171,6 +178,23 @@ public class OperationsApiServiceImpl implements OperationsApiService {
                              .body(operation);
     }
 
+    @Override
+    public SseEmitter getOperationEvents(String spaceGuid, String operationId, Long lastEventId) {
+        Operation operation = getOperationInSpace(spaceGuid, operationId);
+        return operationEventsPublisher.subscribe(operation, lastEventId);
+    }
+
+    private Operation getOperationInSpace(String spaceGuid, String operationId) {
+        Operation operation = getOperation(operationId);
+        if (!operation.getSpaceId()
+                      .equals(spaceGuid)) {
+            LOGGER.info(MessageFormat.format(org.cloudfoundry.multiapps.controller.core.Messages.OPERATION_SPACE_MISMATCH, operationId,
+                                             operation.getSpaceId(), spaceGuid));
+            throw new NotFoundException(org.cloudfoundry.multiapps.controller.core.Messages.OPERATION_NOT_FOUND, operationId);
+        }
+        return operation;
+    }
+
     private List<Operation.State> getStates(List<String> statusList) {
         return ListUtils.emptyIfNull(statusList)
                         .stream()
@@ -194,7 +218,8 @@ public class OperationsApiServiceImpl implements OperationsApiService {
             operationQuery.withStateAnyOf(states);
         }
         List<Operation> operations = operationQuery.list();
-        return operationsHelper.findOperations(operations, states);
+        operations = operationsHelper.findOperations(operations, states);
+        return operationAdmissionController.addQueuePositions(operations);
     }
 
     private boolean containsOnlyFinishedStates(List<Operation.State> statusList) {
@@ -215,7 +240,7 @@ public class OperationsApiServiceImpl implements OperationsApiService {
                                                   .singleResult();
             operation = operationsHelper.addState(operation);
             operation = operationsHelper.addErrorType(operation);
-            return operation;
+            return operationAdmissionController.addQueuePosition(operation);
         } catch (NoResultException e) {
             throw new NotFoundException(e, Messages.OPERATION_0_NOT_FOUND, operationId);
         }
@@ -229,6 +254,7 @@ public class OperationsApiServiceImpl implements OperationsApiService {
             case ERROR:
                 return Arrays.asList(Action.ABORT.getActionId(), Action.RETRY.getActionId());
             case RUNNING:
+            case QUEUED:
                 return Collections.singletonList(Action.ABORT.getActionId());
             case ACTION_REQUIRED:
                 return Arrays.asList(Action.ABORT.getActionId(), Action.RESUME.getActionId());
@@ -317,23 +343,10 @@ public class OperationsApiServiceImpl implements OperationsApiService {
                                                                        .orderById(OrderDirection.ASCENDING)
                                                                        .list();
         return progressMessages.stream()
-                               .map(this::getMessage)
+                               .map(OperationEventsPublisher::toMessage)
                                .collect(Collectors.toList());
     }
 
-    private Message getMessage(ProgressMessage progressMessage) {
-        return ImmutableMessage.builder()
-                               .id(progressMessage.getId())
-                               .text(progressMessage.getText())
-                               .type(getMessageType(progressMessage.getType()))
-                               .build();
-
-    }
-
-    private MessageType getMessageType(ProgressMessageType type) {
-        return MessageType.fromValue(type.toString());
-    }
-
     private boolean hasErrorMessage(Operation operation) {
         return operation.getMessages()
                         .stream()
@@ -3,6 +3,7 @@ package org.cloudfoundry.multiapps.controller.web.configuration;
 import java.util.concurrent.Executor;
 
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.core.util.VirtualThreadsUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -12,10 +13,19 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
 public class AsyncProcessLoggerConfiguration {
 
+    private static final String ASYNC_EXECUTOR_THREAD_NAME_PREFIX = "asyncExecutor-";
+
     final ApplicationConfiguration configuration = new ApplicationConfiguration();
 
-    @Bean("asyncExecutor")
+    // The process logs are persisted by the tasks of this executor, so the number of tasks running at the same time is limited by the
+    // size of the thread pool, even on virtual threads, in order to leave database connections to the rest of the application:
+    @Bean(name = "asyncExecutor", destroyMethod = "shutdown")
     public Executor getAsyncExecutor() {
+        if (configuration.shouldUseVirtualThreads()) {
+            return VirtualThreadsUtil.newThreadPerTaskExecutor(ASYNC_EXECUTOR_THREAD_NAME_PREFIX,
+                                                               configuration.getFlowableJobExecutorMaxThreads(),
+                                                               configuration.getFlowableJobExecutorQueueCapacity());
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(configuration.getFlowableJobExecutorCoreThreads());
         executor.setMaxPoolSize(configuration.getFlowableJobExecutorMaxThreads());
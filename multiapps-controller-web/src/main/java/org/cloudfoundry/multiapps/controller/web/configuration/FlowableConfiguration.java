@@ -1,16 +1,40 @@
 package org.cloudfoundry.multiapps.controller.web.configuration;
 
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.sql.DataSource;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.core.util.VirtualThreadsUtil;
+import org.cloudfoundry.multiapps.controller.process.variables.BinaryVariableCodec;
+import org.cloudfoundry.multiapps.controller.process.variables.SharedVariableStore;
+import org.cloudfoundry.multiapps.controller.process.variables.SharedVariableType;
+import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
+import org.cloudfoundry.multiapps.controller.web.Messages;
+import org.cloudfoundry.multiapps.controller.web.monitoring.FairAsyncJobExecutor;
+import org.cloudfoundry.multiapps.controller.web.monitoring.FairJobQueue;
+import org.cloudfoundry.multiapps.controller.web.monitoring.InstrumentedThreadPoolExecutor;
+import org.cloudfoundry.multiapps.controller.web.monitoring.JobSpaceListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.engine.HistoryService;
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.RuntimeService;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
@@ -18,6 +42,9 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.spring.ProcessEngineFactoryBean;
 import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.variable.api.types.VariableType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -27,18 +54,32 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.core.io.Resource;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
 @Configuration
 public class FlowableConfiguration {
 
+    public static final String STARTUP_METRICS_PREFIX = "multiapps.startup";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlowableConfiguration.class);
+
     private static final String DATABASE_SCHEMA_UPDATE = "true";
+    private static final String ENGINE_STARTUP_TIME_METRIC = STARTUP_METRICS_PREFIX + ".flowable.engine.time";
+    private static final String FAST_STARTUP = "fast";
+    private static final String FULL_STARTUP = "full";
 
     private static final int ASYNC_JOB_ACQUIRE_WAIT_TIME_IN_MILLIS = (int) TimeUnit.SECONDS.toMillis(3);
+    private static final int ASYNC_JOB_QUEUE_FULL_WAIT_TIME_IN_MILLIS = (int) TimeUnit.SECONDS.toMillis(1);
     private static final int JOB_EXECUTOR_LOCK_TIME_IN_MILLIS = (int) TimeUnit.MINUTES.toMillis(30);
     private static final long JOB_EXECUTOR_SHUTDOWN_AWAIT_TIME_IN_SECONDS = TimeUnit.MINUTES.toSeconds(8);
     private static final String JOB_EXECUTOR_ID_TEMPLATE = "ds-%s/%d/%s";
+    private static final String JOB_EXECUTOR_THREAD_NAME_PREFIX = "flowable-async-job-executor-thread-";
 
     @Value("classpath*:/org/cloudfoundry/multiapps/controller/process/*.bpmn")
     private Resource[] flowableResources;
+    // Gauges reference their values weakly:
+    private final AtomicLong engineStartupTimeInMillis = new AtomicLong();
     protected Supplier<String> randomIdGenerator = () -> UUID.randomUUID()
                                                              .toString();
 
@@ -50,37 +91,99 @@ public class FlowableConfiguration {
         ProcessEngineFactoryBean processEngineFactoryBean = new ProcessEngineFactoryBean();
         processEngineFactoryBean.setApplicationContext(applicationContext);
         processEngineFactoryBean.setProcessEngineConfiguration(processEngineConfiguration);
-        return processEngineFactoryBean.getObject();
+        long startTime = System.currentTimeMillis();
+        ProcessEngine processEngine = processEngineFactoryBean.getObject();
+        engineStartupTimeInMillis.set(System.currentTimeMillis() - startTime);
+        String startup = AbstractEngineConfiguration.DB_SCHEMA_UPDATE_FALSE.equals(processEngineConfiguration.getDatabaseSchemaUpdate())
+            ? FAST_STARTUP
+            : FULL_STARTUP;
+        LOGGER.info(MessageFormat.format(Messages.FLOWABLE_PROCESS_ENGINE_STARTED, engineStartupTimeInMillis.get(), startup));
+        Metrics.gauge(ENGINE_STARTUP_TIME_METRIC, Tags.of("startup", startup), engineStartupTimeInMillis);
+        return processEngine;
     }
 
     @Inject
     @Bean
     @DependsOn("coreChangelog")
-    public SpringProcessEngineConfiguration processEngineConfiguration(DataSource dataSource, PlatformTransactionManager transactionManager,
-                                                                       AsyncExecutor jobExecutor, @Lazy FailedJobCommandFactory abortFailedProcessCommandFactory) {
+    public SpringProcessEngineConfiguration processEngineConfiguration(ApplicationConfiguration configuration, DataSource dataSource,
+                                                                       PlatformTransactionManager transactionManager, AsyncExecutor jobExecutor,
+                                                                       @Lazy FailedJobCommandFactory abortFailedProcessCommandFactory,
+                                                                       SharedVariableStore sharedVariableStore) {
         SpringProcessEngineConfiguration processEngineConfiguration = new SpringProcessEngineConfiguration();
-        processEngineConfiguration.setDatabaseSchemaUpdate(DATABASE_SCHEMA_UPDATE);
+        configureStartup(configuration, dataSource, processEngineConfiguration);
+        VariableHandling.setCodec(createVariableCodec(configuration));
+        processEngineConfiguration.setCustomPreVariableTypes(createSharedVariableTypes(configuration, sharedVariableStore));
+        processEngineConfiguration.setHistory(configuration.getFlowableHistoryLevel());
+        // Process definitions may lower the history level with a historyLevel extension element:
+        processEngineConfiguration.setEnableProcessDefinitionHistoryLevel(true);
         processEngineConfiguration.setDataSource(dataSource);
         processEngineConfiguration.setTransactionManager(transactionManager);
-        processEngineConfiguration.setDeploymentResources(flowableResources);
         processEngineConfiguration.setFailedJobCommandFactory(abortFailedProcessCommandFactory);
         processEngineConfiguration.setAsyncExecutor(jobExecutor);
         // By default Flowable will retry failed jobs and we don't want that.
         processEngineConfiguration.setAsyncExecutorNumberOfRetries(0);
         processEngineConfiguration.setIdGenerator(new StrongUuidGenerator());
+        if (jobExecutor instanceof FairAsyncJobExecutor) {
+            processEngineConfiguration.setTypedEventListeners(createJobSpaceListeners((FairAsyncJobExecutor) jobExecutor));
+        }
         return processEngineConfiguration;
     }
 
+    private Map<String, List<FlowableEventListener>> createJobSpaceListeners(FairAsyncJobExecutor jobExecutor) {
+        List<FlowableEventListener> jobSpaceListener = List.of(new JobSpaceListener(jobExecutor));
+        return Stream.of(FlowableEngineEventType.ENTITY_CREATED, FlowableEngineEventType.PROCESS_COMPLETED,
+                         FlowableEngineEventType.PROCESS_COMPLETED_WITH_TERMINATE_END_EVENT,
+                         FlowableEngineEventType.PROCESS_COMPLETED_WITH_ERROR_END_EVENT, FlowableEngineEventType.PROCESS_CANCELLED)
+                     .collect(Collectors.toMap(FlowableEngineEventType::name, eventType -> jobSpaceListener));
+    }
+
+    private BinaryVariableCodec createVariableCodec(ApplicationConfiguration configuration) {
+        BinaryVariableCodec.Format format = BinaryVariableCodec.Format.valueOf(configuration.getProcessVariableFormat()
+                                                                                            .toUpperCase());
+        return new BinaryVariableCodec(format, configuration.shouldCompressProcessVariables());
+    }
+
+    // Registered before the default types, so that they take precedence over the string and byte array types for large values:
+    private List<VariableType> createSharedVariableTypes(ApplicationConfiguration configuration, SharedVariableStore sharedVariableStore) {
+        int thresholdInBytes = configuration.getSharedProcessVariableThresholdInBytes();
+        return List.of(SharedVariableType.forStrings(sharedVariableStore, thresholdInBytes),
+                       SharedVariableType.forBytes(sharedVariableStore, thresholdInBytes));
+    }
+
+    // The deployment name contains the checksum of the resources, so unchanged resources are not even compared with the deployed ones:
+    private void configureStartup(ApplicationConfiguration configuration, DataSource dataSource,
+                                  SpringProcessEngineConfiguration processEngineConfiguration) {
+        FlowableStartupCheck startupCheck = new FlowableStartupCheck(dataSource, flowableResources);
+        processEngineConfiguration.setDeploymentName(startupCheck.getDeploymentName());
+        if (configuration.isFlowableStartupFastPathEnabled() && startupCheck.isSchemaAndDeploymentUpToDate()) {
+            LOGGER.info(MessageFormat.format(Messages.FLOWABLE_SCHEMA_AND_DEPLOYMENT_ARE_UP_TO_DATE, startupCheck.getDeploymentName()));
+            // The schema version is still validated by the engine:
+            processEngineConfiguration.setDatabaseSchemaUpdate(AbstractEngineConfiguration.DB_SCHEMA_UPDATE_FALSE);
+            return;
+        }
+        processEngineConfiguration.setDatabaseSchemaUpdate(DATABASE_SCHEMA_UPDATE);
+        processEngineConfiguration.setDeploymentResources(flowableResources);
+    }
+
+    // Declared with its concrete type, so that it can be injected as such (e.g. in the FlowableJobExecutorScaler) regardless of the order
+    // in which the beans are created:
     @Inject
     @Bean
-    public AsyncExecutor jobExecutor(ApplicationConfiguration configuration, String jobExecutorId) {
-        DefaultAsyncJobExecutor jobExecutor = new DefaultAsyncJobExecutor();
+    public DefaultAsyncJobExecutor jobExecutor(ApplicationConfiguration configuration, String jobExecutorId) {
+        DefaultAsyncJobExecutor jobExecutor = new FairAsyncJobExecutor();
         scale(configuration, jobExecutor);
+        if (configuration.shouldUseVirtualThreads()) {
+            useVirtualThreads(configuration, jobExecutor);
+        } else {
+            useInstrumentedThreadPool(configuration, jobExecutor);
+        }
         jobExecutor.setAsyncJobLockTimeInMillis(JOB_EXECUTOR_LOCK_TIME_IN_MILLIS);
         jobExecutor.setLockOwner(jobExecutorId);
         jobExecutor.setUnlockOwnedJobs(true);
         jobExecutor.setTenantId(AbstractEngineConfiguration.NO_TENANT_ID);
         jobExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(ASYNC_JOB_ACQUIRE_WAIT_TIME_IN_MILLIS);
+        // Rejected jobs are returned to the database, from which they would be acquired again right away:
+        jobExecutor.setDefaultQueueSizeFullWaitTimeInMillis(ASYNC_JOB_QUEUE_FULL_WAIT_TIME_IN_MILLIS);
         jobExecutor.setSecondsToWaitOnShutdown(JOB_EXECUTOR_SHUTDOWN_AWAIT_TIME_IN_SECONDS);
         return jobExecutor;
     }
@@ -91,6 +194,32 @@ public class FlowableConfiguration {
         jobExecutor.setMaxPoolSize(configuration.getFlowableJobExecutorMaxThreads());
     }
 
+    // The same thread pool that Flowable would create, but with measured queue wait times, on which the FlowableJobExecutorScaler relies,
+    // and with a queue that shares the threads between the spaces:
+    private void useInstrumentedThreadPool(ApplicationConfiguration configuration, DefaultAsyncJobExecutor jobExecutor) {
+        double maxSpaceShare = configuration.getFlowableJobExecutorMaxSpaceShare() / 100.0;
+        IntSupplier threadsSupplier = () -> ((ThreadPoolExecutor) jobExecutor.getExecutorService()).getCorePoolSize();
+        BlockingQueue<Runnable> threadPoolQueue = new FairJobQueue(jobExecutor.getQueueSize(), maxSpaceShare, threadsSupplier,
+                                                                   Metrics.globalRegistry);
+        BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern(jobExecutor.getThreadPoolNamingPattern())
+                                                                           .build();
+        jobExecutor.setThreadPoolQueue(threadPoolQueue);
+        jobExecutor.setExecutorService(new InstrumentedThreadPoolExecutor(jobExecutor.getCorePoolSize(),
+                                                                          jobExecutor.getMaxPoolSize(),
+                                                                          jobExecutor.getKeepAliveTime(),
+                                                                          TimeUnit.MILLISECONDS,
+                                                                          threadPoolQueue,
+                                                                          threadFactory));
+    }
+
+    // Each job gets its own virtual thread, so the queue stays empty. The jobs hold database connections while they run, so no more of
+    // them run at once than on the largest platform thread pool. Jobs above that limit are rejected and acquired again later:
+    private void useVirtualThreads(ApplicationConfiguration configuration, DefaultAsyncJobExecutor jobExecutor) {
+        jobExecutor.setThreadPoolQueue(new ArrayBlockingQueue<>(jobExecutor.getQueueSize()));
+        jobExecutor.setExecutorService(VirtualThreadsUtil.newThreadPerTaskExecutor(JOB_EXECUTOR_THREAD_NAME_PREFIX,
+                                                                                   configuration.getFlowableJobExecutorMaxThreads()));
+    }
+
     @Inject
     @Bean
     public String jobExecutorId(ApplicationConfiguration applicationConfiguration) {
@@ -118,4 +247,10 @@ public class FlowableConfiguration {
         return processEngine.getHistoryService();
     }
 
+    @Inject
+    @Bean
+    public ManagementService managementService(ProcessEngine processEngine) {
+        return processEngine.getManagementService();
+    }
+
 }
@@ -0,0 +1,94 @@
+package org.cloudfoundry.multiapps.controller.web.configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import javax.sql.DataSource;
+import javax.xml.bind.DatatypeConverter;
+
+import org.cloudfoundry.multiapps.controller.web.Messages;
+import org.flowable.engine.ProcessEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+
+/**
+ * Checks at startup whether the Flowable schema update and the deployment of the BPMN resources can be skipped. Both are needed only when
+ * the schema version differs from the version of the Flowable library, or when the resources have not been deployed with their current
+ * checksum, which is part of the deployment name. The check is done with a single query.
+ */
+public class FlowableStartupCheck {
+
+    static final String DEPLOYMENT_NAME_PREFIX = "SpringAutoDeployment-";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlowableStartupCheck.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String SELECT_SCHEMA_VERSION_AND_DEPLOYMENT_COUNT = "SELECT P.VALUE_, (SELECT COUNT(*) FROM ACT_RE_DEPLOYMENT D WHERE D.NAME_ = ?) FROM ACT_GE_PROPERTY P WHERE P.NAME_ = 'schema.version'";
+
+    private final DataSource dataSource;
+    private final String deploymentName;
+
+    public FlowableStartupCheck(DataSource dataSource, Resource[] resources) {
+        this.dataSource = dataSource;
+        this.deploymentName = DEPLOYMENT_NAME_PREFIX + computeChecksum(resources);
+    }
+
+    public String getDeploymentName() {
+        return deploymentName;
+    }
+
+    public boolean isSchemaAndDeploymentUpToDate() {
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement(SELECT_SCHEMA_VERSION_AND_DEPLOYMENT_COUNT)) {
+            statement.setString(1, deploymentName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && ProcessEngine.VERSION.equals(resultSet.getString(1)) && resultSet.getLong(2) > 0;
+            }
+        } catch (SQLException e) {
+            // The Flowable tables do not exist before the first start:
+            LOGGER.info(MessageFormat.format(Messages.COULD_NOT_CHECK_FLOWABLE_SCHEMA_AND_DEPLOYMENT, e.getMessage()));
+            return false;
+        }
+    }
+
+    private static String computeChecksum(Resource[] resources) {
+        MessageDigest digest = createDigest();
+        digest.update(ProcessEngine.VERSION.getBytes(StandardCharsets.UTF_8));
+        Resource[] sortedResources = resources.clone();
+        Arrays.sort(sortedResources, Comparator.comparing(Resource::getFilename));
+        for (Resource resource : sortedResources) {
+            digest.update(resource.getFilename()
+                                  .getBytes(StandardCharsets.UTF_8));
+            update(digest, resource);
+        }
+        return DatatypeConverter.printHexBinary(digest.digest());
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static void update(MessageDigest digest, Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            digest.update(inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new IllegalStateException(MessageFormat.format(Messages.COULD_NOT_READ_BPMN_RESOURCE, resource.getFilename()), e);
+        }
+    }
+
+}
@@ -6,6 +6,9 @@ import java.time.Duration;
 import javax.inject.Inject;
 
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.process.jobs.CleanUpJob;
+import org.cloudfoundry.multiapps.controller.process.steps.AsyncFlowableStep;
+import org.cloudfoundry.multiapps.controller.web.monitoring.FlowableJobExecutorScaler;
 import org.cloudfoundry.multiapps.controller.web.util.EnvironmentServicesFinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +56,10 @@ public class MicrometerConfiguration {
         JmxMeterRegistry registry = new JmxMeterRegistry(jmxConfig, Clock.SYSTEM);
         registry.config()
                 .meterFilter(MeterFilter.acceptNameStartsWith(CLIENT_CONNECTIONS_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(CleanUpJob.METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(AsyncFlowableStep.POLLING_METRIC))
+                .meterFilter(MeterFilter.acceptNameStartsWith(FlowableJobExecutorScaler.METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(FlowableConfiguration.STARTUP_METRICS_PREFIX))
                 .meterFilter(MeterFilter.deny());
         Metrics.globalRegistry.add(registry);
         return registry;
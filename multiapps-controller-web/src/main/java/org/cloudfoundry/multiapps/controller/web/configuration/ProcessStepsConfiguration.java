@@ -2,10 +2,13 @@ package org.cloudfoundry.multiapps.controller.web.configuration;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import javax.inject.Inject;
 import javax.sql.DataSource;
 
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.core.util.VirtualThreadsUtil;
 import org.cloudfoundry.multiapps.controller.process.steps.ProcessMtaArchiveStep;
 import org.cloudfoundry.multiapps.controller.process.util.ModuleDeployProcessGetter;
 import org.cloudfoundry.multiapps.controller.web.monitoring.Metrics;
@@ -15,12 +18,14 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.jdbc.datasource.DelegatingDataSource;
 import org.springframework.jmx.export.MBeanExporter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class ProcessStepsConfiguration {
 
     private static final String METRICS_BEAN = "org.cloudfoundry.multiapps.controller.web.monitoring:type=Metrics,name=MetricsMBean";
     private static final String DATASOURCE_BEAN = "org.cloudfoundry.multiapps.controller.web.monitoring:type=DataSource,name=DataSourceMBean";
+    private static final String SERVICE_POLLING_THREAD_NAME_PREFIX = "service-polling-";
 
     @Bean("processMtaArchiveStep")
     @Scope(BeanDefinition.SCOPE_PROTOTYPE)
@@ -46,4 +51,20 @@ public class ProcessStepsConfiguration {
     public ModuleDeployProcessGetter moduleDeployProcessGetter() {
         return new ModuleDeployProcessGetter();
     }
+
+    @Inject
+    @Bean(name = "servicePollingExecutor", destroyMethod = "shutdown")
+    public Executor servicePollingExecutor(ApplicationConfiguration configuration) {
+        // The services are polled by as many tasks at a time as by the thread pool, and the other tasks wait in an unbounded queue:
+        if (configuration.shouldUseVirtualThreads()) {
+            return VirtualThreadsUtil.newThreadPerTaskExecutor(SERVICE_POLLING_THREAD_NAME_PREFIX, configuration.getServicePollingThreads(),
+                                                               Integer.MAX_VALUE);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(configuration.getServicePollingThreads());
+        executor.setMaxPoolSize(configuration.getServicePollingThreads());
+        executor.setThreadNamePrefix(SERVICE_POLLING_THREAD_NAME_PREFIX);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,75 @@
+package org.cloudfoundry.multiapps.controller.web.monitoring;
+
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.engine.impl.cmd.GetExecutionVariableCmd;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * A job executor, which hands its jobs to a {@link FairJobQueue} together with the space of their process. Jobs of spaces that already
+ * occupy their share of the queue are rejected, which releases their lock and returns them to the database. Flowable inserts a rejected
+ * job anew, behind the jobs of the other spaces, so the next acquisitions reach those jobs first and any instance may pick it up again.
+ */
+public class FairAsyncJobExecutor extends DefaultAsyncJobExecutor {
+
+    // The spaces are forgotten when the processes end. Processes that end on other instances are forgotten when memory runs low:
+    private final Map<String, String> spacesByProcessInstanceId = new ConcurrentReferenceHashMap<>();
+
+    public void registerSpace(String processInstanceId, String space) {
+        spacesByProcessInstanceId.put(processInstanceId, space);
+    }
+
+    public void unregisterSpace(String processInstanceId) {
+        spacesByProcessInstanceId.remove(processInstanceId);
+    }
+
+    @Override
+    protected boolean executeAsyncJob(JobInfo job, Runnable runnable) {
+        if (!(threadPoolQueue instanceof FairJobQueue)) {
+            return super.executeAsyncJob(job, runnable);
+        }
+        FairJobQueue queue = (FairJobQueue) threadPoolQueue;
+        String space = getSpace(job);
+        if (!queue.hasRoomFor(space)) {
+            unacquireJobAfterRejection(job);
+            return false;
+        }
+        return super.executeAsyncJob(job, queue.wrap(space, runnable));
+    }
+
+    private String getSpace(JobInfo job) {
+        if (!(job instanceof Job) || ((Job) job).getProcessInstanceId() == null) {
+            return FairJobQueue.UNKNOWN_SPACE;
+        }
+        String processInstanceId = ((Job) job).getProcessInstanceId();
+        String space = spacesByProcessInstanceId.get(processInstanceId);
+        // Jobs created by this instance are executed while the command that created them completes, so a new command cannot be started:
+        if (space == null && Context.getCommandContext() == null) {
+            space = findSpace(processInstanceId);
+        }
+        return space == null ? FairJobQueue.UNKNOWN_SPACE : space;
+    }
+
+    private String findSpace(String processInstanceId) {
+        try {
+            Object space = jobServiceConfiguration.getCommandExecutor()
+                                                  .execute(new GetExecutionVariableCmd(processInstanceId,
+                                                                                       Variables.SPACE_GUID.getName(),
+                                                                                       true));
+            if (space == null) {
+                return null;
+            }
+            registerSpace(processInstanceId, (String) space);
+            return (String) space;
+        } catch (FlowableException e) {
+            return null;
+        }
+    }
+
+}
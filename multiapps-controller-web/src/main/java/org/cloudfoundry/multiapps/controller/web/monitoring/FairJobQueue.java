@@ -0,0 +1,396 @@
+package org.cloudfoundry.multiapps.controller.web.monitoring;
+
+import java.time.Duration;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A thread pool queue, which hands out the jobs of different spaces in turns, instead of in the order in which they were acquired. While
+ * the jobs of other spaces are waiting, a single space may occupy at most a share of the threads that take jobs from the queue, so a big
+ * deployment in one space cannot delay the deployments in other spaces until it completes. A space, which runs alone, may use all threads.
+ * The job executor does not hand the queue more jobs of a space than its share of the queue (see {@link #hasRoomFor(String)}).
+ */
+public class FairJobQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    public static final String UNKNOWN_SPACE = "unknown";
+    static final String QUEUE_WAIT_TIME_METRIC = FlowableJobExecutorScaler.METRICS_PREFIX + ".space.queue.wait.time";
+    static final String SPACE_TAG = "space";
+
+    private final int capacity;
+    private final double maxSpaceShare;
+    private final IntSupplier threadsSupplier;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition jobAvailable = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+    // The iteration order of the map is the order in which the spaces get their turns:
+    private final Map<String, Deque<SpaceJob>> queuedJobs = new LinkedHashMap<>();
+    private final Map<String, Integer> runningJobs = new HashMap<>();
+    private int size;
+
+    public FairJobQueue(int capacity, double maxSpaceShare, IntSupplier threadsSupplier, MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.maxSpaceShare = maxSpaceShare;
+        this.threadsSupplier = threadsSupplier;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Runnable wrap(String space, Runnable job) {
+        return new SpaceJob(space, job);
+    }
+
+    public boolean hasRoomFor(String space) {
+        lock.lock();
+        try {
+            Deque<SpaceJob> jobs = queuedJobs.get(space);
+            return jobs == null || jobs.size() < getMaxJobsPerSpace(capacity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable runnable) {
+        SpaceJob job = toSpaceJob(runnable);
+        lock.lock();
+        try {
+            if (size >= capacity) {
+                return false;
+            }
+            enqueue(job);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable runnable, long timeout, TimeUnit unit) throws InterruptedException {
+        SpaceJob job = toSpaceJob(runnable);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size >= capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = spaceAvailable.awaitNanos(nanos);
+            }
+            enqueue(job);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable runnable) throws InterruptedException {
+        SpaceJob job = toSpaceJob(runnable);
+        lock.lockInterruptibly();
+        try {
+            while (size >= capacity) {
+                spaceAvailable.await();
+            }
+            enqueue(job);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            SpaceJob job;
+            while ((job = dequeue()) == null) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = jobAvailable.awaitNanos(nanos);
+            }
+            return job;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            SpaceJob job;
+            while ((job = dequeue()) == null) {
+                jobAvailable.await();
+            }
+            return job;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            return queuedJobs.values()
+                             .stream()
+                             .map(Deque::peekFirst)
+                             .findFirst()
+                             .orElse(null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return Math.max(0, capacity - size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        lock.lock();
+        try {
+            for (Iterator<Deque<SpaceJob>> iterator = queuedJobs.values()
+                                                                .iterator(); iterator.hasNext();) {
+                Deque<SpaceJob> jobs = iterator.next();
+                if (jobs.remove(object)) {
+                    if (jobs.isEmpty()) {
+                        iterator.remove();
+                    }
+                    size--;
+                    spaceAvailable.signal();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> collection, int maxElements) {
+        lock.lock();
+        try {
+            int drained = 0;
+            for (Iterator<Deque<SpaceJob>> iterator = queuedJobs.values()
+                                                                .iterator(); iterator.hasNext() && drained < maxElements;) {
+                Deque<SpaceJob> jobs = iterator.next();
+                while (!jobs.isEmpty() && drained < maxElements) {
+                    collection.add(jobs.pollFirst());
+                    drained++;
+                }
+                if (jobs.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+            size -= drained;
+            spaceAvailable.signalAll();
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Iterator<Runnable> iterator() {
+        List<Runnable> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(size);
+            queuedJobs.values()
+                      .forEach(snapshot::addAll);
+        } finally {
+            lock.unlock();
+        }
+        Iterator<Runnable> snapshotIterator = snapshot.iterator();
+        return new Iterator<Runnable>() {
+
+            private Runnable current;
+
+            @Override
+            public boolean hasNext() {
+                return snapshotIterator.hasNext();
+            }
+
+            @Override
+            public Runnable next() {
+                current = snapshotIterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                FairJobQueue.this.remove(current);
+            }
+        };
+    }
+
+    private SpaceJob toSpaceJob(Runnable runnable) {
+        if (runnable instanceof SpaceJob) {
+            return (SpaceJob) runnable;
+        }
+        return new SpaceJob(UNKNOWN_SPACE, runnable);
+    }
+
+    private void enqueue(SpaceJob job) {
+        job.queueingTime = System.nanoTime();
+        queuedJobs.computeIfAbsent(job.space, space -> new ArrayDeque<>())
+                  .addLast(job);
+        size++;
+        jobAvailable.signal();
+    }
+
+    private SpaceJob dequeue() {
+        String space = getNextSpace();
+        if (space == null) {
+            return null;
+        }
+        Deque<SpaceJob> jobs = queuedJobs.remove(space);
+        SpaceJob job = jobs.pollFirst();
+        if (!jobs.isEmpty()) {
+            queuedJobs.put(space, jobs);
+        }
+        size--;
+        start(job);
+        meterRegistry.timer(QUEUE_WAIT_TIME_METRIC, SPACE_TAG, space)
+                     .record(Duration.ofNanos(System.nanoTime() - job.queueingTime));
+        spaceAvailable.signal();
+        return job;
+    }
+
+    // A space, which occupies its share of the threads, is skipped in favour of the other spaces. It still gets a job when none of them can
+    // take one, so that no thread stays idle while there are queued jobs:
+    private String getNextSpace() {
+        String nextSpace = null;
+        for (String space : queuedJobs.keySet()) {
+            if (!occupiesItsShareOfThreads(space)) {
+                return space;
+            }
+            if (nextSpace == null) {
+                nextSpace = space;
+            }
+        }
+        return nextSpace;
+    }
+
+    private boolean occupiesItsShareOfThreads(String space) {
+        return runningJobs.getOrDefault(space, 0) >= getMaxJobsPerSpace(threadsSupplier.getAsInt());
+    }
+
+    private boolean hasQueuedJobsOfOtherSpaces(String space) {
+        return queuedJobs.size() > (queuedJobs.containsKey(space) ? 1 : 0);
+    }
+
+    private int getMaxJobsPerSpace(int total) {
+        return Math.max(1, (int) (total * maxSpaceShare));
+    }
+
+    private void start(SpaceJob job) {
+        job.started = true;
+        runningJobs.merge(job.space, 1, Integer::sum);
+    }
+
+    // Jobs are run without being queued, when the thread pool has fewer threads than its core size, or when the queue is full. Such jobs
+    // are queued after all, if their space already occupies its share of the threads while the jobs of other spaces are waiting:
+    private boolean startIfNotDequeued(SpaceJob job) {
+        lock.lock();
+        try {
+            if (job.started) {
+                return true;
+            }
+            if (occupiesItsShareOfThreads(job.space) && hasQueuedJobsOfOtherSpaces(job.space)) {
+                // The job is already accepted by the thread pool, so it is queued even if the queue is full:
+                enqueue(job);
+                return false;
+            }
+            start(job);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void complete(SpaceJob job) {
+        lock.lock();
+        try {
+            runningJobs.computeIfPresent(job.space, (space, jobs) -> jobs == 1 ? null : jobs - 1);
+            jobAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private class SpaceJob implements Runnable {
+
+        private final String space;
+        private final Runnable job;
+        private long queueingTime;
+        private boolean started;
+
+        private SpaceJob(String space, Runnable job) {
+            this.space = space;
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            if (!startIfNotDequeued(this)) {
+                return;
+            }
+            try {
+                job.run();
+            } finally {
+                complete(this);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,194 @@
+package org.cloudfoundry.multiapps.controller.web.monitoring;
+
+import java.text.MessageFormat;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.sql.DataSource;
+
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.web.Messages;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Periodically adapts the Flowable job executor to its load. The number of threads grows while jobs pile up in the queue or wait too long
+ * to be started, and shrinks back to the configured core threads when the executor is idle. Idle executors also poll the database for new
+ * jobs less often. The growth stops and fewer jobs are acquired at once, when threads already wait for database connections, since more
+ * threads would only make them wait longer.
+ */
+@Named
+public class FlowableJobExecutorScaler {
+
+    public static final String METRICS_PREFIX = "multiapps.job.executor";
+    static final String THREADS_METRIC = METRICS_PREFIX + ".threads";
+    static final String ACTIVE_THREADS_METRIC = METRICS_PREFIX + ".active.threads";
+    static final String QUEUE_SIZE_METRIC = METRICS_PREFIX + ".queue.size";
+    static final String QUEUE_WAIT_TIME_METRIC = METRICS_PREFIX + ".queue.wait.time";
+    static final String JOBS_PER_ACQUISITION_METRIC = METRICS_PREFIX + ".acquisition.jobs";
+    static final String ACQUIRE_WAIT_TIME_METRIC = METRICS_PREFIX + ".acquisition.wait.time";
+    static final String DECISIONS_METRIC = METRICS_PREFIX + ".decisions";
+    static final String DECISION_TAG = "decision";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlowableJobExecutorScaler.class);
+
+    private static final long SCALING_INTERVAL_IN_SECONDS = 10;
+    private static final long HIGH_QUEUE_WAIT_TIME_IN_MILLIS = TimeUnit.SECONDS.toMillis(1);
+    private static final int MAX_ACQUIRE_WAIT_TIME_IN_MILLIS = (int) TimeUnit.SECONDS.toMillis(30);
+
+    enum Decision {
+        SCALE_UP, SCALE_DOWN, DATABASE_SATURATED, KEEP
+    }
+
+    private final ApplicationConfiguration configuration;
+    private final DefaultAsyncJobExecutor jobExecutor;
+    private final DataSource dataSource;
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong queueWaitTimeInMillis = new AtomicLong();
+    private int minThreads;
+    private int maxThreads;
+    private int baseAcquireWaitTimeInMillis;
+
+    @Inject
+    public FlowableJobExecutorScaler(ApplicationConfiguration configuration, DefaultAsyncJobExecutor jobExecutor, DataSource dataSource) {
+        this(configuration, jobExecutor, dataSource, Executors.newSingleThreadScheduledExecutor(), Metrics.globalRegistry);
+    }
+
+    FlowableJobExecutorScaler(ApplicationConfiguration configuration, DefaultAsyncJobExecutor jobExecutor, DataSource dataSource,
+                              ScheduledExecutorService scheduler, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.jobExecutor = jobExecutor;
+        this.dataSource = dataSource;
+        this.scheduler = scheduler;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!configuration.isFlowableJobExecutorAutoScalingEnabled()
+            || !(jobExecutor.getExecutorService() instanceof InstrumentedThreadPoolExecutor)) {
+            return;
+        }
+        minThreads = configuration.getFlowableJobExecutorCoreThreads();
+        maxThreads = configuration.getFlowableJobExecutorMaxThreads();
+        baseAcquireWaitTimeInMillis = jobExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        InstrumentedThreadPoolExecutor executorService = getExecutorService();
+        // Lets the threads added during a burst terminate, once the number of threads is scaled down again:
+        executorService.allowCoreThreadTimeOut(true);
+        registerGauges(executorService);
+        scheduler.scheduleWithFixedDelay(this::scaleSafely, SCALING_INTERVAL_IN_SECONDS, SCALING_INTERVAL_IN_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void registerGauges(InstrumentedThreadPoolExecutor executorService) {
+        meterRegistry.gauge(THREADS_METRIC, executorService, InstrumentedThreadPoolExecutor::getCorePoolSize);
+        meterRegistry.gauge(ACTIVE_THREADS_METRIC, executorService, InstrumentedThreadPoolExecutor::getActiveCount);
+        meterRegistry.gauge(QUEUE_SIZE_METRIC, jobExecutor, executor -> executor.getThreadPoolQueue()
+                                                                              .size());
+        meterRegistry.gauge(QUEUE_WAIT_TIME_METRIC, queueWaitTimeInMillis);
+        meterRegistry.gauge(JOBS_PER_ACQUISITION_METRIC, jobExecutor, DefaultAsyncJobExecutor::getMaxAsyncJobsDuePerAcquisition);
+        meterRegistry.gauge(ACQUIRE_WAIT_TIME_METRIC, jobExecutor, DefaultAsyncJobExecutor::getDefaultAsyncJobAcquireWaitTimeInMillis);
+    }
+
+    private void scaleSafely() {
+        try {
+            scale();
+        } catch (Exception e) {
+            LOGGER.error(MessageFormat.format(Messages.ERROR_SCALING_FLOWABLE_JOB_EXECUTOR, e.getMessage()), e);
+        }
+    }
+
+    void scale() {
+        InstrumentedThreadPoolExecutor executorService = getExecutorService();
+        BlockingQueue<Runnable> queue = jobExecutor.getThreadPoolQueue();
+        int queueSize = queue.size();
+        int queueCapacity = queueSize + queue.remainingCapacity();
+        long submittedJobs = executorService.getAndResetSubmittedTasks();
+        queueWaitTimeInMillis.set(executorService.getAndResetAverageQueueWaitTimeInMillis());
+        int threads = executorService.getCorePoolSize();
+        int activeThreads = executorService.getActiveCount();
+
+        Decision decision = decide(queueSize, queueCapacity, threads, activeThreads);
+        int newThreads = computeThreads(decision, threads);
+        int jobsPerAcquisition = decision == Decision.DATABASE_SATURATED ? 1
+            : Math.max(1, Math.min(queue.remainingCapacity(), newThreads - activeThreads));
+        int acquireWaitTimeInMillis = computeAcquireWaitTime(submittedJobs, queueSize);
+
+        executorService.setCorePoolSize(newThreads);
+        jobExecutor.setMaxAsyncJobsDuePerAcquisition(jobsPerAcquisition);
+        jobExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(acquireWaitTimeInMillis);
+        meterRegistry.counter(DECISIONS_METRIC, DECISION_TAG, decision.name()
+                                                                      .toLowerCase())
+                     .increment();
+        if (newThreads != threads) {
+            LOGGER.info(MessageFormat.format(Messages.FLOWABLE_JOB_EXECUTOR_SCALED, decision, newThreads, jobsPerAcquisition,
+                                             acquireWaitTimeInMillis));
+        }
+    }
+
+    private Decision decide(int queueSize, int queueCapacity, int threads, int activeThreads) {
+        if (getThreadsAwaitingConnection() > 0) {
+            return Decision.DATABASE_SATURATED;
+        }
+        if (queueSize * 2 >= queueCapacity || queueWaitTimeInMillis.get() >= HIGH_QUEUE_WAIT_TIME_IN_MILLIS) {
+            return Decision.SCALE_UP;
+        }
+        if (queueSize == 0 && activeThreads * 2 < threads) {
+            return Decision.SCALE_DOWN;
+        }
+        return Decision.KEEP;
+    }
+
+    private int computeThreads(Decision decision, int threads) {
+        int step = Math.max(1, (maxThreads - minThreads) / 4);
+        switch (decision) {
+            case SCALE_UP:
+                return Math.min(maxThreads, threads + step);
+            case SCALE_DOWN:
+            case DATABASE_SATURATED:
+                return Math.max(minThreads, threads - step);
+            default:
+                return threads;
+        }
+    }
+
+    // Jobs created by this instance are handed to the executor directly, so a longer wait only delays the jobs created by other instances:
+    private int computeAcquireWaitTime(long submittedJobs, int queueSize) {
+        if (submittedJobs > 0 || queueSize > 0) {
+            return baseAcquireWaitTimeInMillis;
+        }
+        return Math.min(MAX_ACQUIRE_WAIT_TIME_IN_MILLIS, jobExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis() * 2);
+    }
+
+    private int getThreadsAwaitingConnection() {
+        if (!(dataSource instanceof HikariDataSource)) {
+            return 0;
+        }
+        HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+    }
+
+    private InstrumentedThreadPoolExecutor getExecutorService() {
+        return (InstrumentedThreadPoolExecutor) jobExecutor.getExecutorService();
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.cloudfoundry.multiapps.controller.web.monitoring;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread pool executor, which measures how long the submitted tasks wait in its queue before they are started.
+ */
+public class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final Map<Runnable, Long> submissionTimes = new ConcurrentHashMap<>();
+    private final LongAdder submittedTasks = new LongAdder();
+    private final LongAdder startedTasks = new LongAdder();
+    private final LongAdder queueWaitTimeInMillis = new LongAdder();
+
+    public InstrumentedThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                          BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submissionTimes.put(command, System.currentTimeMillis());
+        try {
+            super.execute(command);
+        } catch (RejectedExecutionException e) {
+            submissionTimes.remove(command);
+            throw e;
+        }
+        submittedTasks.increment();
+    }
+
+    // The tasks are not wrapped, so that the queue can still tell them apart (see FairJobQueue):
+    @Override
+    protected void beforeExecute(Thread thread, Runnable task) {
+        Long submissionTime = submissionTimes.remove(task);
+        if (submissionTime != null) {
+            startedTasks.increment();
+            queueWaitTimeInMillis.add(System.currentTimeMillis() - submissionTime);
+        }
+        super.beforeExecute(thread, task);
+    }
+
+    // Tasks, which leave the queue without being started, are forgotten as well:
+    @Override
+    public boolean remove(Runnable task) {
+        boolean removed = super.remove(task);
+        if (removed) {
+            submissionTimes.remove(task);
+        }
+        return removed;
+    }
+
+    @Override
+    public void purge() {
+        for (Runnable task : getQueue()) {
+            if (task instanceof Future && ((Future<?>) task).isCancelled()) {
+                submissionTimes.remove(task);
+            }
+        }
+        super.purge();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = super.shutdownNow();
+        tasks.forEach(submissionTimes::remove);
+        return tasks;
+    }
+
+    int getQueuedTasksCount() {
+        return submissionTimes.size();
+    }
+
+    public long getAndResetSubmittedTasks() {
+        return submittedTasks.sumThenReset();
+    }
+
+    public long getAndResetAverageQueueWaitTimeInMillis() {
+        long tasks = startedTasks.sumThenReset();
+        long waitTime = queueWaitTimeInMillis.sumThenReset();
+        return tasks == 0 ? 0 : waitTime / tasks;
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.cloudfoundry.multiapps.controller.web.monitoring;
+
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.engine.delegate.event.AbstractFlowableEngineEventListener;
+import org.flowable.engine.delegate.event.FlowableCancelledEvent;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+
+/**
+ * Tells the {@link FairAsyncJobExecutor} the space of each new job, while the process instance of the job is still loaded, and when the
+ * process instance ends, after which it has no more jobs.
+ */
+public class JobSpaceListener extends AbstractFlowableEngineEventListener {
+
+    private final FairAsyncJobExecutor jobExecutor;
+
+    public JobSpaceListener(FairAsyncJobExecutor jobExecutor) {
+        this.jobExecutor = jobExecutor;
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+    @Override
+    protected void entityCreated(FlowableEngineEntityEvent event) {
+        if (!(event.getEntity() instanceof JobEntity)) {
+            return;
+        }
+        String processInstanceId = ((JobEntity) event.getEntity()).getProcessInstanceId();
+        if (processInstanceId == null) {
+            return;
+        }
+        ExecutionEntity processInstance = CommandContextUtil.getExecutionEntityManager()
+                                                            .findById(processInstanceId);
+        if (processInstance == null) {
+            return;
+        }
+        Object space = processInstance.getVariableLocal(Variables.SPACE_GUID.getName());
+        if (space != null) {
+            jobExecutor.registerSpace(processInstanceId, (String) space);
+        }
+    }
+
+    @Override
+    protected void processCompleted(FlowableEngineEntityEvent event) {
+        jobExecutor.unregisterSpace(event.getProcessInstanceId());
+    }
+
+    @Override
+    protected void processCompletedWithTerminateEnd(FlowableEngineEntityEvent event) {
+        jobExecutor.unregisterSpace(event.getProcessInstanceId());
+    }
+
+    @Override
+    protected void processCompletedWithErrorEnd(FlowableEngineEntityEvent event) {
+        jobExecutor.unregisterSpace(event.getProcessInstanceId());
+    }
+
+    @Override
+    protected void processCancelled(FlowableCancelledEvent event) {
+        jobExecutor.unregisterSpace(event.getProcessInstanceId());
+    }
+
+}
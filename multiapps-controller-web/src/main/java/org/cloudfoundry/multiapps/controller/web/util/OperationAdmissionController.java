@@ -0,0 +1,278 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import java.text.MessageFormat;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
+import org.cloudfoundry.multiapps.controller.api.model.Operation;
+import org.cloudfoundry.multiapps.controller.api.model.ParameterMetadata;
+import org.cloudfoundry.multiapps.controller.api.model.parameters.ParameterConversion;
+import org.cloudfoundry.multiapps.controller.core.persistence.OrderDirection;
+import org.cloudfoundry.multiapps.controller.core.persistence.service.OperationService;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
+import org.cloudfoundry.multiapps.controller.process.metadata.ProcessTypeToOperationMetadataMapper;
+import org.cloudfoundry.multiapps.controller.process.util.OperationsHelper;
+import org.cloudfoundry.multiapps.controller.web.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of active MTA operations, globally and per space, if limits are configured. Active are the operations, which are not
+ * in a final state, including those that wait for a user action or a retry, since they are resumed without being admitted again.
+ * Operations started above the limits are persisted as {@link Operation.State#QUEUED}, together with the parameters of their processes.
+ * They are started in the order in which they were queued, when active operations reach a final state. Queued operations are released by
+ * all instances, so they survive restarts, and the limits, which are checked against the database, apply to all instances. The limits are
+ * checked without locking, so operations submitted at the same time may exceed them slightly.
+ * <p>
+ * The parameters are persisted as they were requested, and are converted to process variables only when the process is started, since
+ * some of the converted values cannot be restored from their JSON representation.
+ */
+@Named
+public class OperationAdmissionController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OperationAdmissionController.class);
+
+    private static final long RELEASE_INTERVAL_IN_SECONDS = 10;
+
+    // All releases are executed on the single thread of this executor, so they do not compete with each other:
+    private final ScheduledExecutorService executor;
+    private final ApplicationConfiguration configuration;
+    private final OperationService operationService;
+    private final OperationsHelper operationsHelper;
+    private final ProcessTypeToOperationMetadataMapper operationMetadataMapper;
+    private final FlowableFacade flowableFacade;
+
+    @Inject
+    public OperationAdmissionController(ApplicationConfiguration configuration, OperationService operationService,
+                                        OperationsHelper operationsHelper, ProcessTypeToOperationMetadataMapper operationMetadataMapper,
+                                        FlowableFacade flowableFacade) {
+        this(configuration,
+             operationService,
+             operationsHelper,
+             operationMetadataMapper,
+             flowableFacade,
+             Executors.newSingleThreadScheduledExecutor());
+    }
+
+    OperationAdmissionController(ApplicationConfiguration configuration, OperationService operationService,
+                                 OperationsHelper operationsHelper, ProcessTypeToOperationMetadataMapper operationMetadataMapper,
+                                 FlowableFacade flowableFacade, ScheduledExecutorService executor) {
+        this.configuration = configuration;
+        this.operationService = operationService;
+        this.operationsHelper = operationsHelper;
+        this.operationMetadataMapper = operationMetadataMapper;
+        this.flowableFacade = flowableFacade;
+        this.executor = executor;
+    }
+
+    @PostConstruct
+    public void start() {
+        executor.scheduleWithFixedDelay(this::releaseQueuedOperations, RELEASE_INTERVAL_IN_SECONDS, RELEASE_INTERVAL_IN_SECONDS,
+                                        TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts the process of an operation, or queues it if the limits of active operations are reached, or if other operations are
+     * already queued. The parameters of the operation are the requested ones, which are not yet converted to process variables.
+     *
+     * @return the ID of the process, which is known before the process is started
+     */
+    public String startOperation(Operation operation, String processDefinitionKey) {
+        String processId = UUID.randomUUID()
+                               .toString();
+        if (!areOperationsLimited() || (!hasQueuedOperations() && canStart(operation.getSpaceId(), countActiveOperationsPerSpace()))) {
+            flowableFacade.startProcess(processId, processDefinitionKey, toProcessVariables(operation));
+            return processId;
+        }
+        operationService.add(toQueuedOperation(processId, operation));
+        LOGGER.info(MessageFormat.format(Messages.QUEUED_OPERATION_0, processId));
+        executor.execute(this::releaseQueuedOperations);
+        return processId;
+    }
+
+    /**
+     * Aborts a queued operation, before its process is started.
+     *
+     * @return whether the operation was still queued
+     */
+    public boolean abortQueuedOperation(String processId) {
+        return operationService.createQuery()
+                               .processId(processId)
+                               .queued(true)
+                               .markAsAborted(new Date()) > 0;
+    }
+
+    /**
+     * Adds the positions in the queue to the queued operations among the given ones. The positions are counted among the queued
+     * operations of all spaces.
+     */
+    public List<Operation> addQueuePositions(List<Operation> operations) {
+        if (operations.stream()
+                      .noneMatch(this::isQueued)) {
+            return operations;
+        }
+        Map<String, Integer> queuePositions = getQueuePositions();
+        return operations.stream()
+                         .map(operation -> isQueued(operation) ? addQueuePosition(operation, queuePositions) : operation)
+                         .collect(Collectors.toList());
+    }
+
+    public Operation addQueuePosition(Operation operation) {
+        return addQueuePositions(Collections.singletonList(operation)).get(0);
+    }
+
+    void releaseQueuedOperations() {
+        try {
+            release();
+        } catch (RuntimeException e) {
+            LOGGER.error(MessageFormat.format(Messages.ERROR_RELEASING_QUEUED_OPERATIONS, e.getMessage()), e);
+        }
+    }
+
+    private void release() {
+        List<Operation> queuedOperations = getQueuedOperations();
+        if (queuedOperations.isEmpty()) {
+            return;
+        }
+        Map<String, Long> activeOperationsPerSpace = countActiveOperationsPerSpace();
+        for (Operation queuedOperation : queuedOperations) {
+            String spaceId = queuedOperation.getSpaceId();
+            // Operations in other spaces are not held back by a space that has reached its limit:
+            if (!canStart(spaceId, activeOperationsPerSpace) || !markAsStarted(queuedOperation)) {
+                continue;
+            }
+            if (startQueuedOperation(queuedOperation)) {
+                activeOperationsPerSpace.merge(spaceId, 1L, Long::sum);
+            }
+        }
+    }
+
+    // Fails if the operation was started by another instance, or aborted in the meantime:
+    private boolean markAsStarted(Operation queuedOperation) {
+        return operationService.createQuery()
+                               .processId(queuedOperation.getProcessId())
+                               .queued(true)
+                               .markAsStarted() > 0;
+    }
+
+    private boolean startQueuedOperation(Operation queuedOperation) {
+        String processId = queuedOperation.getProcessId();
+        try {
+            flowableFacade.startProcess(processId, operationsHelper.getProcessDefinitionKey(queuedOperation),
+                                        toProcessVariables(queuedOperation));
+        } catch (RuntimeException e) {
+            LOGGER.error(MessageFormat.format(Messages.ERROR_STARTING_QUEUED_OPERATION_0, processId), e);
+            operationService.createQuery()
+                            .processId(processId)
+                            .markAsAborted(new Date());
+            return false;
+        }
+        LOGGER.info(MessageFormat.format(Messages.STARTED_QUEUED_OPERATION_0, processId));
+        return true;
+    }
+
+    private Map<String, Object> toProcessVariables(Operation operation) {
+        Set<ParameterMetadata> predefinedParameters = operationMetadataMapper.getOperationMetadata(operation.getProcessType())
+                                                                             .getParameters();
+        Map<String, Object> variables = new HashMap<>(operation.getParameters());
+        variables.putAll(ParameterConversion.toFlowableVariables(predefinedParameters, variables));
+        return variables;
+    }
+
+    private boolean areOperationsLimited() {
+        return configuration.getMaxActiveOperations() < Integer.MAX_VALUE
+            || configuration.getMaxActiveOperationsPerSpace() < Integer.MAX_VALUE;
+    }
+
+    private boolean canStart(String spaceId, Map<String, Long> activeOperationsPerSpace) {
+        return countActiveOperations(activeOperationsPerSpace) < configuration.getMaxActiveOperations()
+            && activeOperationsPerSpace.getOrDefault(spaceId, 0L) < configuration.getMaxActiveOperationsPerSpace();
+    }
+
+    private long countActiveOperations(Map<String, Long> activeOperationsPerSpace) {
+        return activeOperationsPerSpace.values()
+                                       .stream()
+                                       .mapToLong(Long::longValue)
+                                       .sum();
+    }
+
+    private Map<String, Long> countActiveOperationsPerSpace() {
+        return new HashMap<>(operationService.createQuery()
+                                             .inNonFinalState()
+                                             .countPerSpace());
+    }
+
+    private boolean hasQueuedOperations() {
+        return !operationService.createQuery()
+                                .queued(true)
+                                .limitOnSelect(1)
+                                .list()
+                                .isEmpty();
+    }
+
+    private List<Operation> getQueuedOperations() {
+        return operationService.createQuery()
+                               .queued(true)
+                               .orderByStartTime(OrderDirection.ASCENDING)
+                               .list();
+    }
+
+    private Map<String, Integer> getQueuePositions() {
+        List<Operation> queuedOperations = getQueuedOperations();
+        Map<String, Integer> queuePositions = new HashMap<>();
+        for (int i = 0; i < queuedOperations.size(); i++) {
+            queuePositions.put(queuedOperations.get(i)
+                                               .getProcessId(),
+                               i + 1);
+        }
+        return queuePositions;
+    }
+
+    private boolean isQueued(Operation operation) {
+        return operation.getState() == Operation.State.QUEUED;
+    }
+
+    // The parameters of the processes are not returned for started operations either:
+    private Operation addQueuePosition(Operation queuedOperation, Map<String, Integer> queuePositions) {
+        return ImmutableOperation.copyOf(queuedOperation)
+                                 .withQueuePosition(queuePositions.get(queuedOperation.getProcessId()))
+                                 .withParameters(Collections.emptyMap());
+    }
+
+    private Operation toQueuedOperation(String processId, Operation operation) {
+        return ImmutableOperation.builder()
+                                 .processId(processId)
+                                 .processType(operation.getProcessType())
+                                 .startedAt(ZonedDateTime.now())
+                                 .spaceId(operation.getSpaceId())
+                                 .namespace(operation.getNamespace())
+                                 .user(operation.getUser())
+                                 .hasAcquiredLock(false)
+                                 .state(Operation.State.QUEUED)
+                                 .parameters(operation.getParameters())
+                                 .build();
+    }
+
+}
@@ -0,0 +1,242 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.persistence.NoResultException;
+
+import org.cloudfoundry.multiapps.controller.api.model.ImmutableMessage;
+import org.cloudfoundry.multiapps.controller.api.model.Message;
+import org.cloudfoundry.multiapps.controller.api.model.MessageType;
+import org.cloudfoundry.multiapps.controller.api.model.Operation;
+import org.cloudfoundry.multiapps.controller.core.persistence.OrderDirection;
+import org.cloudfoundry.multiapps.controller.core.persistence.service.OperationService;
+import org.cloudfoundry.multiapps.controller.core.persistence.service.ProgressMessageService;
+import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage;
+import org.cloudfoundry.multiapps.controller.process.util.OperationsHelper;
+import org.cloudfoundry.multiapps.controller.web.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes the progress messages and state transitions of MTA operations to subscribed clients as server-sent events. Messages persisted by
+ * this instance are delivered as soon as they are written. A periodic refresh, shared by all subscribers of an operation, picks up
+ * messages written by other instances and detects state transitions.
+ */
+@Named
+public class OperationEventsPublisher {
+
+    public static final String MESSAGE_EVENT = "message";
+    public static final String STATE_EVENT = "state";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OperationEventsPublisher.class);
+
+    private static final long EMITTER_TIMEOUT_IN_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long REFRESH_INTERVAL_IN_SECONDS = 5;
+
+    // All subscription updates are executed on the single thread of this executor, so subscriptions need no additional synchronization.
+    private final ScheduledExecutorService executor;
+    private final Consumer<ProgressMessage> progressMessageListener = this::onProgressMessage;
+    private final Map<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ProgressMessageService progressMessageService;
+    private final OperationService operationService;
+    private final OperationsHelper operationsHelper;
+
+    @Inject
+    public OperationEventsPublisher(ProgressMessageService progressMessageService, OperationService operationService,
+                                    OperationsHelper operationsHelper) {
+        this(progressMessageService, operationService, operationsHelper, Executors.newSingleThreadScheduledExecutor());
+    }
+
+    OperationEventsPublisher(ProgressMessageService progressMessageService, OperationService operationService,
+                             OperationsHelper operationsHelper, ScheduledExecutorService executor) {
+        this.progressMessageService = progressMessageService;
+        this.operationService = operationService;
+        this.operationsHelper = operationsHelper;
+        this.executor = executor;
+    }
+
+    @PostConstruct
+    public void start() {
+        progressMessageService.addListener(progressMessageListener);
+        executor.scheduleWithFixedDelay(this::refreshSubscriptions, REFRESH_INTERVAL_IN_SECONDS, REFRESH_INTERVAL_IN_SECONDS,
+                                        TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        progressMessageService.removeListener(progressMessageListener);
+        executor.shutdownNow();
+        subscriptions.values()
+                     .forEach(processSubscriptions -> processSubscriptions.forEach(subscription -> subscription.emitter.complete()));
+        subscriptions.clear();
+    }
+
+    public SseEmitter subscribe(Operation operation, Long lastEventId) {
+        SseEmitter emitter = createEmitter();
+        Subscription subscription = new Subscription(operation.getProcessId(), emitter, lastEventId == null ? 0 : lastEventId);
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(e -> unsubscribe(subscription));
+        subscriptions.computeIfAbsent(subscription.processId, processId -> ConcurrentHashMap.newKeySet())
+                     .add(subscription);
+        executor.execute(() -> catchUp(subscription, operation.getState()));
+        return emitter;
+    }
+
+    protected SseEmitter createEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_IN_MILLIS);
+    }
+
+    public static Message toMessage(ProgressMessage progressMessage) {
+        return ImmutableMessage.builder()
+                               .id(progressMessage.getId())
+                               .text(progressMessage.getText())
+                               .type(MessageType.fromValue(progressMessage.getType()
+                                                                          .toString()))
+                               .build();
+    }
+
+    private void onProgressMessage(ProgressMessage progressMessage) {
+        if (subscriptions.containsKey(progressMessage.getProcessId())) {
+            executor.execute(() -> publish(progressMessage));
+        }
+    }
+
+    private void publish(ProgressMessage progressMessage) {
+        for (Subscription subscription : getSubscriptions(progressMessage.getProcessId())) {
+            // Subscriptions which are not caught up yet will read the message from the database:
+            if (subscription.caughtUp) {
+                sendMessage(subscription, progressMessage);
+            }
+        }
+    }
+
+    private void catchUp(Subscription subscription, Operation.State state) {
+        getMessagesAfter(subscription.processId, subscription.lastMessageId).forEach(message -> sendMessage(subscription, message));
+        subscription.caughtUp = true;
+        sendState(subscription, state);
+    }
+
+    private void refreshSubscriptions() {
+        for (String processId : subscriptions.keySet()) {
+            try {
+                refreshSubscriptions(processId);
+            } catch (RuntimeException e) {
+                LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_REFRESH_EVENT_SUBSCRIPTIONS_FOR_OPERATION_0, processId), e);
+            }
+        }
+    }
+
+    private void refreshSubscriptions(String processId) {
+        Set<Subscription> processSubscriptions = getSubscriptions(processId);
+        long oldestSeenMessageId = processSubscriptions.stream()
+                                                       .mapToLong(subscription -> subscription.lastMessageId)
+                                                       .min()
+                                                       .orElse(Long.MAX_VALUE);
+        List<ProgressMessage> messages = getMessagesAfter(processId, oldestSeenMessageId);
+        Operation.State state = computeState(processId);
+        for (Subscription subscription : processSubscriptions) {
+            messages.forEach(message -> sendMessage(subscription, message));
+            sendState(subscription, state);
+        }
+    }
+
+    private Operation.State computeState(String processId) {
+        try {
+            Operation operation = operationService.createQuery()
+                                                  .processId(processId)
+                                                  .singleResult();
+            return operationsHelper.addState(operation)
+                                   .getState();
+        } catch (NoResultException e) {
+            return Operation.State.ABORTED;
+        }
+    }
+
+    private List<ProgressMessage> getMessagesAfter(String processId, long messageId) {
+        return progressMessageService.createQuery()
+                                     .processId(processId)
+                                     .idGreaterThan(messageId)
+                                     .orderById(OrderDirection.ASCENDING)
+                                     .list();
+    }
+
+    private void sendMessage(Subscription subscription, ProgressMessage progressMessage) {
+        if (progressMessage.getId() <= subscription.lastMessageId) {
+            return;
+        }
+        send(subscription, SseEmitter.event()
+                                     .id(Long.toString(progressMessage.getId()))
+                                     .name(MESSAGE_EVENT)
+                                     .data(toMessage(progressMessage), MediaType.APPLICATION_JSON));
+        subscription.lastMessageId = progressMessage.getId();
+    }
+
+    private void sendState(Subscription subscription, Operation.State state) {
+        if (state == null || state == subscription.lastState) {
+            return;
+        }
+        send(subscription, SseEmitter.event()
+                                     .name(STATE_EVENT)
+                                     .data(state.name()));
+        subscription.lastState = state;
+        if (Operation.State.getFinalStates()
+                           .contains(state)) {
+            subscription.emitter.complete();
+            unsubscribe(subscription);
+        }
+    }
+
+    private void send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            subscription.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.debug(MessageFormat.format(Messages.COULD_NOT_SEND_EVENT_FOR_OPERATION_0, subscription.processId), e);
+            subscription.emitter.completeWithError(e);
+            unsubscribe(subscription);
+        }
+    }
+
+    private Set<Subscription> getSubscriptions(String processId) {
+        return subscriptions.getOrDefault(processId, Set.of());
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.processId, (processId, processSubscriptions) -> {
+            processSubscriptions.remove(subscription);
+            return processSubscriptions.isEmpty() ? null : processSubscriptions;
+        });
+    }
+
+    private static class Subscription {
+
+        private final String processId;
+        private final SseEmitter emitter;
+        private long lastMessageId;
+        private Operation.State lastState;
+        private boolean caughtUp;
+
+        Subscription(String processId, SseEmitter emitter, long lastMessageId) {
+            this.processId = processId;
+            this.emitter = emitter;
+            this.lastMessageId = lastMessageId;
+        }
+
+    }
+
+}
@@ -36,13 +36,12 @@ import org.cloudfoundry.multiapps.controller.core.test.MockBuilder;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogsPersistenceService;
 import org.cloudfoundry.multiapps.controller.process.flowable.Action;
-import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
 import org.cloudfoundry.multiapps.controller.process.flowable.ProcessAction;
 import org.cloudfoundry.multiapps.controller.process.flowable.ProcessActionRegistry;
 import org.cloudfoundry.multiapps.controller.process.metadata.ProcessTypeToOperationMetadataMapper;
 import org.cloudfoundry.multiapps.controller.process.util.OperationsHelper;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
-import org.flowable.engine.runtime.ProcessInstance;
+import org.cloudfoundry.multiapps.controller.web.util.OperationAdmissionController;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.jupiter.api.Assertions;
@@ -71,7 +70,7 @@ public class OperationsApiServiceImplTest {
     @Mock
     private ProcessLogsPersistenceService logsService;
     @Mock
-    private FlowableFacade flowableFacade;
+    private OperationAdmissionController operationAdmissionController;
     @Mock
     private OperationsHelper operationsHelper;
     @Mock
@@ -97,6 +96,7 @@ public class OperationsApiServiceImplTest {
     private static final String RUNNING_PROCESS = "2";
     private static final String ERROR_PROCESS = "3";
     private static final String ABORTED_PROCESS = "4";
+    private static final String QUEUED_PROCESS = "5";
 
     private List<Operation> operations;
     private String processId;
@@ -109,12 +109,13 @@ public class OperationsApiServiceImplTest {
         operations.add(createOperation(RUNNING_PROCESS, Operation.State.RUNNING, Collections.emptyMap()));
         operations.add(createOperation(ERROR_PROCESS, Operation.State.ERROR, Collections.emptyMap()));
         operations.add(createOperation(ABORTED_PROCESS, Operation.State.ABORTED, Collections.emptyMap()));
+        operations.add(createOperation(QUEUED_PROCESS, Operation.State.QUEUED, Collections.emptyMap()));
 
         AuditLoggingProvider.setFacade(Mockito.mock(AuditLoggingFacade.class));
         setupOperationServiceMock();
         setupOperationsHelperMock();
         mockProcessActionRegistry();
-        mockFlowableFacade();
+        mockOperationAdmissionController();
         mockClientProvider(EXAMPLE_USER);
     }
 
@@ -195,8 +196,39 @@ public class OperationsApiServiceImplTest {
         Mockito.when(operationsHelper.getProcessDefinitionKey(operation))
                .thenReturn("deploy");
         testedClass.startOperation(mockHttpServletRequest(EXAMPLE_USER), SPACE_GUID, operation);
-        Mockito.verify(flowableFacade)
-               .startProcess(Mockito.any(), Mockito.anyMap());
+        Mockito.verify(operationAdmissionController)
+               .startOperation(Mockito.any(), Mockito.eq("deploy"));
+    }
+
+    @Test
+    public void testGetQueuedOperation() {
+        ResponseEntity<Operation> response = testedClass.getOperation(SPACE_GUID, QUEUED_PROCESS, null);
+
+        assertEquals(Operation.State.QUEUED, response.getBody()
+                                                     .getState());
+        Mockito.verify(operationAdmissionController)
+               .addQueuePosition(response.getBody());
+        assertEquals(Collections.singletonList(Action.ABORT.getActionId()), testedClass.getOperationActions(SPACE_GUID, QUEUED_PROCESS)
+                                                                                       .getBody());
+    }
+
+    @Test
+    public void testExecuteAbortOverQueuedOperation() {
+        Mockito.when(operationAdmissionController.abortQueuedOperation(QUEUED_PROCESS))
+               .thenReturn(true);
+
+        testedClass.executeOperationAction(mockHttpServletRequest(EXAMPLE_USER), SPACE_GUID, QUEUED_PROCESS, Action.ABORT.getActionId());
+
+        Mockito.verify(processAction, Mockito.never())
+               .execute(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testExecuteAbortOverQueuedOperationStartedInTheMeantime() {
+        testedClass.executeOperationAction(mockHttpServletRequest(EXAMPLE_USER), SPACE_GUID, QUEUED_PROCESS, Action.ABORT.getActionId());
+
+        Mockito.verify(processAction)
+               .execute(EXAMPLE_USER, QUEUED_PROCESS);
     }
 
     @Test
@@ -281,9 +313,13 @@ public class OperationsApiServiceImplTest {
         assertEquals(Collections.singletonList(Action.ABORT.getActionId()), actions);
     }
 
-    private void mockFlowableFacade() {
-        Mockito.when(flowableFacade.startProcess(Mockito.any(), Mockito.anyMap()))
-               .thenReturn(Mockito.mock(ProcessInstance.class));
+    private void mockOperationAdmissionController() {
+        Mockito.when(operationAdmissionController.startOperation(Mockito.any(), Mockito.any()))
+               .thenReturn(RUNNING_PROCESS);
+        Mockito.when(operationAdmissionController.addQueuePosition(Mockito.any()))
+               .thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(operationAdmissionController.addQueuePositions(Mockito.any()))
+               .thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     private void mockClientProvider(String user) {
@@ -0,0 +1,118 @@
+package org.cloudfoundry.multiapps.controller.web.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.flowable.engine.ProcessEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+class FlowableStartupCheckTest {
+
+    private static final Resource DEPLOY_RESOURCE = createResource("xs2-deploy.bpmn", "<deploy/>");
+    private static final Resource UNDEPLOY_RESOURCE = createResource("xs2-undeploy.bpmn", "<undeploy/>");
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+    @Mock
+    private ResultSet resultSet;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        MockitoAnnotations.initMocks(this);
+        Mockito.when(dataSource.getConnection())
+               .thenReturn(connection);
+        Mockito.when(connection.prepareStatement(Mockito.anyString()))
+               .thenReturn(statement);
+        Mockito.when(statement.executeQuery())
+               .thenReturn(resultSet);
+        Mockito.when(resultSet.next())
+               .thenReturn(true);
+    }
+
+    @Test
+    void testUpToDate() throws SQLException {
+        FlowableStartupCheck startupCheck = createStartupCheck(DEPLOY_RESOURCE, UNDEPLOY_RESOURCE);
+        prepareResult(ProcessEngine.VERSION, 1);
+
+        assertTrue(startupCheck.isSchemaAndDeploymentUpToDate());
+        Mockito.verify(statement)
+               .setString(1, startupCheck.getDeploymentName());
+    }
+
+    @Test
+    void testSchemaVersionChanged() throws SQLException {
+        prepareResult("6.4.2.3", 1);
+
+        assertFalse(createStartupCheck(DEPLOY_RESOURCE, UNDEPLOY_RESOURCE).isSchemaAndDeploymentUpToDate());
+    }
+
+    @Test
+    void testResourcesNotDeployed() throws SQLException {
+        prepareResult(ProcessEngine.VERSION, 0);
+
+        assertFalse(createStartupCheck(DEPLOY_RESOURCE, UNDEPLOY_RESOURCE).isSchemaAndDeploymentUpToDate());
+    }
+
+    @Test
+    void testSchemaNotCreated() throws SQLException {
+        Mockito.when(connection.prepareStatement(Mockito.anyString()))
+               .thenThrow(new SQLException("Table \"ACT_GE_PROPERTY\" does not exist"));
+
+        assertFalse(createStartupCheck(DEPLOY_RESOURCE, UNDEPLOY_RESOURCE).isSchemaAndDeploymentUpToDate());
+    }
+
+    @Test
+    void testDeploymentNameDoesNotDependOnResourceOrder() {
+        assertEquals(createStartupCheck(DEPLOY_RESOURCE, UNDEPLOY_RESOURCE).getDeploymentName(),
+                     createStartupCheck(UNDEPLOY_RESOURCE, DEPLOY_RESOURCE).getDeploymentName());
+    }
+
+    @Test
+    void testDeploymentNameChangesWithResources() {
+        Resource changedDeployResource = createResource("xs2-deploy.bpmn", "<deploy changed=\"true\"/>");
+
+        assertNotEquals(createStartupCheck(DEPLOY_RESOURCE, UNDEPLOY_RESOURCE).getDeploymentName(),
+                        createStartupCheck(changedDeployResource, UNDEPLOY_RESOURCE).getDeploymentName());
+    }
+
+    private FlowableStartupCheck createStartupCheck(Resource... resources) {
+        return new FlowableStartupCheck(dataSource, resources);
+    }
+
+    private void prepareResult(String schemaVersion, long deploymentCount) throws SQLException {
+        Mockito.when(resultSet.getString(1))
+               .thenReturn(schemaVersion);
+        Mockito.when(resultSet.getLong(2))
+               .thenReturn(deploymentCount);
+    }
+
+    private static Resource createResource(String filename, String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        };
+    }
+
+}
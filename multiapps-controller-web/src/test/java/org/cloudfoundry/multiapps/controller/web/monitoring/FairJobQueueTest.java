@@ -0,0 +1,177 @@
+package org.cloudfoundry.multiapps.controller.web.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FairJobQueueTest {
+
+    private static final int CAPACITY = 8;
+    private static final int THREADS = 4;
+    private static final double MAX_SPACE_SHARE = 0.5;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FairJobQueue queue = new FairJobQueue(CAPACITY, MAX_SPACE_SHARE, () -> THREADS, meterRegistry);
+    private final List<String> executedJobs = new ArrayList<>();
+
+    @Test
+    void testJobsOfDifferentSpacesTakeTurns() {
+        offerJobs("big", 3);
+        offerJobs("small", 2);
+
+        List<String> order = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Runnable job = queue.poll();
+            job.run();
+            order.add(executedJobs.get(executedJobs.size() - 1));
+        }
+
+        assertEquals(List.of("big-0", "small-0", "big-1", "small-1"), order);
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void testSpaceAtItsShareOfThreadsGivesWayToOtherSpaces() {
+        offerJobs("big", 3);
+        Runnable firstBigJob = queue.poll();
+        Runnable secondBigJob = queue.poll();
+        offerJobs("small", 1);
+
+        // Both threads of the big space's share are taken, so the small space gets its turn first:
+        queue.poll()
+             .run();
+        assertEquals(List.of("small-0"), executedJobs);
+        // No other space is waiting, so the big space may take another thread:
+        queue.poll()
+             .run();
+        firstBigJob.run();
+        secondBigJob.run();
+        assertEquals(List.of("small-0", "big-2", "big-0", "big-1"), executedJobs);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testSpaceRunningAloneUsesEveryThread() {
+        offerJobs("big", THREADS + 1);
+
+        for (int i = 0; i < THREADS; i++) {
+            assertNotNull(queue.poll());
+        }
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void testSpaceHasNoRoomAboveItsShareOfTheQueue() {
+        offerJobs("big", 4);
+
+        assertFalse(queue.hasRoomFor("big"));
+        assertTrue(queue.hasRoomFor("small"));
+        queue.poll();
+        assertTrue(queue.hasRoomFor("big"));
+    }
+
+    @Test
+    void testJobsRunWithoutBeingQueuedRespectTheShareOfThreads() {
+        Runnable firstJob = queue.wrap("big", () -> executedJobs.add("big-0"));
+        Runnable secondJob = queue.wrap("big", () -> executedJobs.add("big-1"));
+        Runnable thirdJob = queue.wrap("big", () -> executedJobs.add("big-2"));
+        CountDownLatch jobsStarted = new CountDownLatch(2);
+        CountDownLatch jobsReleased = new CountDownLatch(1);
+        List<Thread> threads = List.of(new Thread(() -> queue.wrap("big", () -> awaitRelease(jobsStarted, jobsReleased))
+                                                             .run()),
+                                       new Thread(() -> queue.wrap("big", () -> awaitRelease(jobsStarted, jobsReleased))
+                                                             .run()));
+        threads.forEach(Thread::start);
+        awaitQuietly(jobsStarted);
+        offerJobs("small", 1);
+
+        // Both threads of the big space's share are taken while a small job is waiting, so the job is queued instead:
+        firstJob.run();
+        assertEquals(List.of(), executedJobs);
+        assertEquals(2, queue.size());
+
+        jobsReleased.countDown();
+        threads.forEach(FairJobQueueTest::joinQuietly);
+        queue.poll()
+             .run();
+        queue.poll()
+             .run();
+        // No other space is waiting, so the jobs run right away:
+        secondJob.run();
+        thirdJob.run();
+        assertEquals(List.of("small-0", "big-0", "big-1", "big-2"), executedJobs);
+    }
+
+    @Test
+    void testQueueWaitTimeIsRecordedPerSpace() {
+        offerJobs("big", 2);
+        offerJobs("small", 1);
+
+        queue.poll();
+        queue.poll();
+        queue.poll();
+
+        assertEquals(2, getQueueWaitTimer("big"));
+        assertEquals(1, getQueueWaitTimer("small"));
+    }
+
+    @Test
+    void testOfferWhenFull() {
+        offerJobs("a", 4);
+        offerJobs("b", 4);
+
+        assertFalse(queue.offer(() -> {
+        }));
+        assertEquals(0, queue.remainingCapacity());
+        List<Runnable> drainedJobs = new ArrayList<>();
+        assertEquals(CAPACITY, queue.drainTo(drainedJobs));
+        assertTrue(queue.isEmpty());
+    }
+
+    private void offerJobs(String space, int count) {
+        for (int i = 0; i < count; i++) {
+            String name = space + "-" + i;
+            assertTrue(queue.offer(queue.wrap(space, () -> executedJobs.add(name))));
+        }
+    }
+
+    private static void awaitRelease(CountDownLatch jobsStarted, CountDownLatch jobsReleased) {
+        jobsStarted.countDown();
+        awaitQuietly(jobsReleased);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private static void joinQuietly(Thread thread) {
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private long getQueueWaitTimer(String space) {
+        return meterRegistry.timer(FairJobQueue.QUEUE_WAIT_TIME_METRIC, FairJobQueue.SPACE_TAG, space)
+                            .count();
+    }
+
+}
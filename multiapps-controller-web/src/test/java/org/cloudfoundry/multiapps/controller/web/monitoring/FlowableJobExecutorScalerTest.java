@@ -0,0 +1,158 @@
+package org.cloudfoundry.multiapps.controller.web.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FlowableJobExecutorScalerTest {
+
+    private static final int MIN_THREADS = 2;
+    private static final int MAX_THREADS = 10;
+    private static final int QUEUE_CAPACITY = 4;
+    private static final int ACQUIRE_WAIT_TIME_IN_MILLIS = 3000;
+
+    @Mock
+    private ApplicationConfiguration configuration;
+    @Mock
+    private ScheduledExecutorService scheduler;
+    @Mock
+    private HikariDataSource hikariDataSource;
+    @Mock
+    private HikariPoolMXBean hikariPool;
+    @Mock
+    private DataSource dataSource;
+
+    private final DefaultAsyncJobExecutor jobExecutor = new DefaultAsyncJobExecutor();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch jobsLatch = new CountDownLatch(1);
+    private InstrumentedThreadPoolExecutor executorService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(configuration.isFlowableJobExecutorAutoScalingEnabled()).thenReturn(true);
+        when(configuration.getFlowableJobExecutorCoreThreads()).thenReturn(MIN_THREADS);
+        when(configuration.getFlowableJobExecutorMaxThreads()).thenReturn(MAX_THREADS);
+        BlockingQueue<Runnable> threadPoolQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        executorService = new InstrumentedThreadPoolExecutor(MIN_THREADS, MAX_THREADS, 5000, TimeUnit.MILLISECONDS, threadPoolQueue,
+                                                             Executors.defaultThreadFactory());
+        jobExecutor.setThreadPoolQueue(threadPoolQueue);
+        jobExecutor.setExecutorService(executorService);
+        jobExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(ACQUIRE_WAIT_TIME_IN_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobsLatch.countDown();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testScaleUpWhenQueueIsFull() {
+        FlowableJobExecutorScaler scaler = startScaler(dataSource);
+        submitJobs(MIN_THREADS + QUEUE_CAPACITY);
+
+        scaler.scale();
+
+        assertEquals(4, executorService.getCorePoolSize());
+        assertEquals(1, jobExecutor.getMaxAsyncJobsDuePerAcquisition());
+        assertEquals(ACQUIRE_WAIT_TIME_IN_MILLIS, jobExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+        assertEquals(1, getDecisions("scale_up"));
+        verify(scheduler).scheduleWithFixedDelay(any(), anyLong(), anyLong(), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testScaleDownWhenIdle() {
+        FlowableJobExecutorScaler scaler = startScaler(dataSource);
+        executorService.setCorePoolSize(6);
+
+        scaler.scale();
+        assertEquals(4, executorService.getCorePoolSize());
+        assertEquals(4, jobExecutor.getMaxAsyncJobsDuePerAcquisition());
+        assertEquals(2 * ACQUIRE_WAIT_TIME_IN_MILLIS, jobExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+
+        scaler.scale();
+        scaler.scale();
+        assertEquals(MIN_THREADS, executorService.getCorePoolSize());
+        assertEquals(8 * ACQUIRE_WAIT_TIME_IN_MILLIS, jobExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+        assertEquals(3, getDecisions("scale_down"));
+    }
+
+    @Test
+    void testBackOffWhenDatabaseIsSaturated() {
+        when(hikariDataSource.getHikariPoolMXBean()).thenReturn(hikariPool);
+        when(hikariPool.getThreadsAwaitingConnection()).thenReturn(3);
+        FlowableJobExecutorScaler scaler = startScaler(hikariDataSource);
+        executorService.setCorePoolSize(6);
+        submitJobs(6 + QUEUE_CAPACITY);
+
+        scaler.scale();
+
+        assertEquals(4, executorService.getCorePoolSize());
+        assertEquals(1, jobExecutor.getMaxAsyncJobsDuePerAcquisition());
+        assertEquals(1, getDecisions("database_saturated"));
+    }
+
+    @Test
+    void testDisabledScaling() {
+        when(configuration.isFlowableJobExecutorAutoScalingEnabled()).thenReturn(false);
+
+        startScaler(dataSource);
+
+        verify(scheduler, never()).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    private FlowableJobExecutorScaler startScaler(DataSource dataSource) {
+        FlowableJobExecutorScaler scaler = new FlowableJobExecutorScaler(configuration, jobExecutor, dataSource, scheduler, meterRegistry);
+        scaler.start();
+        return scaler;
+    }
+
+    private void submitJobs(int count) {
+        for (int i = 0; i < count; i++) {
+            executorService.execute(this::awaitLatch);
+        }
+    }
+
+    private void awaitLatch() {
+        try {
+            jobsLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private double getDecisions(String decision) {
+        return meterRegistry.counter(FlowableJobExecutorScaler.DECISIONS_METRIC, FlowableJobExecutorScaler.DECISION_TAG, decision)
+                            .count();
+    }
+
+}
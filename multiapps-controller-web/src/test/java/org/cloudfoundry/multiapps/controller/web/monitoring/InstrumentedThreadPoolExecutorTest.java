@@ -0,0 +1,80 @@
+package org.cloudfoundry.multiapps.controller.web.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedThreadPoolExecutorTest {
+
+    private final InstrumentedThreadPoolExecutor executor = new InstrumentedThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                                                                                               new LinkedBlockingQueue<>(),
+                                                                                               Executors.defaultThreadFactory());
+    private final CountDownLatch blockingTaskStarted = new CountDownLatch(1);
+    private final CountDownLatch blockingTaskReleased = new CountDownLatch(1);
+
+    @BeforeEach
+    void blockThread() throws InterruptedException {
+        executor.execute(() -> {
+            blockingTaskStarted.countDown();
+            awaitQuietly(blockingTaskReleased);
+        });
+        blockingTaskStarted.await();
+    }
+
+    @AfterEach
+    void releaseThread() {
+        blockingTaskReleased.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testRemovedTaskIsForgotten() {
+        Runnable task = () -> {
+        };
+        executor.execute(task);
+
+        assertTrue(executor.remove(task));
+        assertEquals(0, executor.getQueuedTasksCount());
+    }
+
+    @Test
+    void testPurgedTaskIsForgotten() {
+        Future<?> future = executor.submit(() -> {
+        });
+        future.cancel(false);
+
+        executor.purge();
+        assertEquals(0, executor.getQueuedTasksCount());
+    }
+
+    @Test
+    void testTasksDrainedOnShutdownAreForgotten() {
+        executor.execute(() -> {
+        });
+        executor.execute(() -> {
+        });
+
+        assertEquals(2, executor.shutdownNow()
+                                .size());
+        assertEquals(0, executor.getQueuedTasksCount());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+}
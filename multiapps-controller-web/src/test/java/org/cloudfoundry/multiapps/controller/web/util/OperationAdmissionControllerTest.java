@@ -0,0 +1,304 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+
+import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
+import org.cloudfoundry.multiapps.controller.api.model.Operation;
+import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.OperationQuery;
+import org.cloudfoundry.multiapps.controller.core.persistence.service.OperationService;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
+import org.cloudfoundry.multiapps.controller.process.metadata.ProcessTypeToOperationMetadataMapper;
+import org.cloudfoundry.multiapps.controller.process.util.OperationsHelper;
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+class OperationAdmissionControllerTest {
+
+    private static final String PROCESS_DEFINITION_KEY = "xs2-deploy";
+    private static final String SPACE_1 = "space-1";
+    private static final String SPACE_2 = "space-2";
+
+    @Mock
+    private ApplicationConfiguration configuration;
+    @Mock
+    private OperationService operationService;
+    @Mock(answer = Answers.RETURNS_SELF)
+    private OperationQuery operationQuery;
+    @Mock
+    private OperationsHelper operationsHelper;
+    @Mock
+    private FlowableFacade flowableFacade;
+    @Mock
+    private ScheduledExecutorService executor;
+
+    private final List<Operation> activeOperations = new ArrayList<>();
+    private final List<Operation> queuedOperations = new ArrayList<>();
+    private OperationAdmissionController operationAdmissionController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.initMocks(this);
+        Mockito.when(configuration.getMaxActiveOperations())
+               .thenReturn(3);
+        Mockito.when(configuration.getMaxActiveOperationsPerSpace())
+               .thenReturn(2);
+        Mockito.when(operationService.createQuery())
+               .thenReturn(operationQuery);
+        Mockito.when(operationQuery.list())
+               .thenReturn(queuedOperations);
+        Mockito.when(operationQuery.markAsStarted())
+               .thenReturn(1);
+        Mockito.when(operationQuery.countPerSpace())
+               .thenAnswer(invocation -> countActiveOperationsPerSpace());
+        Mockito.when(operationsHelper.getProcessDefinitionKey(Mockito.any()))
+               .thenReturn(PROCESS_DEFINITION_KEY);
+        Mockito.when(flowableFacade.startProcess(Mockito.any(), Mockito.any(), Mockito.any()))
+               .thenAnswer(invocation -> {
+                   activeOperations.add(createOperation(findSpace(invocation.getArgument(2))));
+                   return null;
+               });
+        Mockito.when(operationService.add(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   queuedOperations.add(invocation.getArgument(0));
+                   return invocation.getArgument(0);
+               });
+        operationAdmissionController = new OperationAdmissionController(configuration,
+                                                                        operationService,
+                                                                        operationsHelper,
+                                                                        new ProcessTypeToOperationMetadataMapper(),
+                                                                        flowableFacade,
+                                                                        executor);
+    }
+
+    @Test
+    void testOperationsAreStartedBelowLimits() {
+        String processId = operationAdmissionController.startOperation(createOperation(SPACE_1), PROCESS_DEFINITION_KEY);
+
+        Mockito.verify(flowableFacade)
+               .startProcess(Mockito.eq(processId), Mockito.eq(PROCESS_DEFINITION_KEY), Mockito.any());
+        Mockito.verify(operationService, Mockito.never())
+               .add(Mockito.any());
+    }
+
+    @Test
+    void testOperationsAreStartedDirectlyWithoutLimits() {
+        Mockito.when(configuration.getMaxActiveOperations())
+               .thenReturn(Integer.MAX_VALUE);
+        Mockito.when(configuration.getMaxActiveOperationsPerSpace())
+               .thenReturn(Integer.MAX_VALUE);
+        queuedOperations.add(createQueuedOperation("1", SPACE_1));
+
+        String processId = operationAdmissionController.startOperation(createOperation(SPACE_1), PROCESS_DEFINITION_KEY);
+
+        Mockito.verify(flowableFacade)
+               .startProcess(Mockito.eq(processId), Mockito.eq(PROCESS_DEFINITION_KEY), Mockito.any());
+        Mockito.verify(operationService, Mockito.never())
+               .createQuery();
+    }
+
+    @Test
+    void testParametersAreConvertedWhenProcessIsStarted() {
+        activeOperations.add(createOperation(SPACE_1));
+        activeOperations.add(createOperation(SPACE_1));
+        Operation operation = ImmutableOperation.copyOf(createOperation(SPACE_1))
+                                                .withParameters(Map.of("space", SPACE_1, Variables.START_TIMEOUT.getName(), "3600"));
+
+        operationAdmissionController.startOperation(operation, PROCESS_DEFINITION_KEY);
+        Operation queuedOperation = getPersistedOperation();
+        activeOperations.clear();
+        operationAdmissionController.releaseQueuedOperations();
+
+        assertEquals(operation.getParameters(), queuedOperation.getParameters());
+        ArgumentCaptor<Map<String, Object>> variablesCaptor = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(flowableFacade)
+               .startProcess(Mockito.eq(queuedOperation.getProcessId()), Mockito.eq(PROCESS_DEFINITION_KEY), variablesCaptor.capture());
+        assertEquals(3600, variablesCaptor.getValue()
+                                          .get(Variables.START_TIMEOUT.getName()));
+    }
+
+    @Test
+    void testOperationsAreQueuedAboveLimitPerSpace() {
+        activeOperations.add(createOperation(SPACE_1));
+        activeOperations.add(createOperation(SPACE_1));
+
+        String queuedProcessId = operationAdmissionController.startOperation(createOperation(SPACE_1), PROCESS_DEFINITION_KEY);
+
+        Operation queuedOperation = getPersistedOperation();
+        assertEquals(queuedProcessId, queuedOperation.getProcessId());
+        assertEquals(Operation.State.QUEUED, queuedOperation.getState());
+        assertEquals(SPACE_1, queuedOperation.getSpaceId());
+        assertEquals(Map.of("space", SPACE_1), queuedOperation.getParameters());
+        assertFalse(queuedOperation.hasAcquiredLock());
+        Mockito.verify(flowableFacade, Mockito.never())
+               .startProcess(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(executor)
+               .execute(Mockito.any());
+    }
+
+    @Test
+    void testOperationsAreQueuedAboveGlobalLimit() {
+        activeOperations.add(createOperation(SPACE_1));
+        activeOperations.add(createOperation(SPACE_1));
+        activeOperations.add(createOperation(SPACE_2));
+
+        String queuedProcessId = operationAdmissionController.startOperation(createOperation(SPACE_2), PROCESS_DEFINITION_KEY);
+
+        assertEquals(queuedProcessId, getPersistedOperation().getProcessId());
+        Mockito.verify(flowableFacade, Mockito.never())
+               .startProcess(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testOperationsAreQueuedBehindOtherQueuedOperations() {
+        queuedOperations.add(createQueuedOperation("1", SPACE_2));
+
+        operationAdmissionController.startOperation(createOperation(SPACE_1), PROCESS_DEFINITION_KEY);
+
+        Mockito.verify(operationService)
+               .add(Mockito.any());
+        Mockito.verify(flowableFacade, Mockito.never())
+               .startProcess(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testQueuedOperationsAreReleasedInOrder() {
+        activeOperations.add(createOperation(SPACE_1));
+        activeOperations.add(createOperation(SPACE_2));
+        queuedOperations.add(createQueuedOperation("1", SPACE_1));
+        queuedOperations.add(createQueuedOperation("2", SPACE_1));
+        queuedOperations.add(createQueuedOperation("3", SPACE_2));
+
+        operationAdmissionController.releaseQueuedOperations();
+
+        // The second operation is held back by the limit per space, and the third one by the global limit:
+        Mockito.verify(flowableFacade)
+               .startProcess(Mockito.eq("1"), Mockito.eq(PROCESS_DEFINITION_KEY), Mockito.any());
+        Mockito.verify(flowableFacade, Mockito.never())
+               .startProcess(Mockito.eq("2"), Mockito.any(), Mockito.any());
+        Mockito.verify(flowableFacade, Mockito.never())
+               .startProcess(Mockito.eq("3"), Mockito.any(), Mockito.any());
+        Mockito.verify(operationQuery)
+               .markAsStarted();
+    }
+
+    @Test
+    void testQueuedOperationsStartedElsewhereAreSkipped() {
+        queuedOperations.add(createQueuedOperation("1", SPACE_1));
+        Mockito.when(operationQuery.markAsStarted())
+               .thenReturn(0);
+
+        operationAdmissionController.releaseQueuedOperations();
+
+        Mockito.verify(flowableFacade, Mockito.never())
+               .startProcess(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testQueuedOperationsThatFailToStartAreAborted() {
+        queuedOperations.add(createQueuedOperation("1", SPACE_1));
+        Mockito.doThrow(new IllegalStateException("Database is not available"))
+               .when(flowableFacade)
+               .startProcess(Mockito.any(), Mockito.any(), Mockito.any());
+
+        operationAdmissionController.releaseQueuedOperations();
+
+        Mockito.verify(operationQuery)
+               .markAsAborted(Mockito.any());
+    }
+
+    @Test
+    void testFailureToStartIsPropagatedToSubmitter() {
+        Mockito.doThrow(new IllegalStateException("Database is not available"))
+               .when(flowableFacade)
+               .startProcess(Mockito.any(), Mockito.any(), Mockito.any());
+
+        assertThrows(IllegalStateException.class,
+                     () -> operationAdmissionController.startOperation(createOperation(SPACE_1), PROCESS_DEFINITION_KEY));
+        Mockito.verify(operationService, Mockito.never())
+               .add(Mockito.any());
+    }
+
+    @Test
+    void testQueuePositionsAreAdded() {
+        Operation firstQueuedOperation = createQueuedOperation("1", SPACE_1);
+        Operation secondQueuedOperation = createQueuedOperation("2", SPACE_2);
+        queuedOperations.add(firstQueuedOperation);
+        queuedOperations.add(secondQueuedOperation);
+        Operation runningOperation = createOperation(SPACE_2);
+
+        List<Operation> operations = operationAdmissionController.addQueuePositions(List.of(secondQueuedOperation, runningOperation));
+
+        assertEquals(2, operations.get(0)
+                                  .getQueuePosition());
+        assertEquals(Map.of(), operations.get(0)
+                                         .getParameters());
+        assertNull(operations.get(1)
+                             .getQueuePosition());
+    }
+
+    @Test
+    void testAbortQueuedOperation() {
+        Mockito.when(operationQuery.markAsAborted(Mockito.any()))
+               .thenReturn(1, 0);
+
+        assertTrue(operationAdmissionController.abortQueuedOperation("1"));
+        assertFalse(operationAdmissionController.abortQueuedOperation("1"));
+        Mockito.verify(operationQuery, Mockito.times(2))
+               .queued(true);
+    }
+
+    private Operation getPersistedOperation() {
+        ArgumentCaptor<Operation> operationCaptor = ArgumentCaptor.forClass(Operation.class);
+        Mockito.verify(operationService)
+               .add(operationCaptor.capture());
+        return operationCaptor.getValue();
+    }
+
+    private Map<String, Long> countActiveOperationsPerSpace() {
+        return activeOperations.stream()
+                               .collect(Collectors.groupingBy(Operation::getSpaceId, Collectors.counting()));
+    }
+
+    private static Operation createOperation(String spaceId) {
+        return ImmutableOperation.builder()
+                                 .processType(ProcessType.DEPLOY)
+                                 .spaceId(spaceId)
+                                 .parameters(Map.of("space", spaceId))
+                                 .build();
+    }
+
+    private static Operation createQueuedOperation(String processId, String spaceId) {
+        return ImmutableOperation.builder()
+                                 .processId(processId)
+                                 .processType(ProcessType.DEPLOY)
+                                 .spaceId(spaceId)
+                                 .startedAt(ZonedDateTime.now())
+                                 .state(Operation.State.QUEUED)
+                                 .parameters(Map.of("space", spaceId))
+                                 .build();
+    }
+
+    private static String findSpace(Map<String, Object> parameters) {
+        return (String) parameters.get("space");
+    }
+
+}
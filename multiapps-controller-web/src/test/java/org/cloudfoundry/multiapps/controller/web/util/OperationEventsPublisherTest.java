@@ -0,0 +1,164 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
+import org.cloudfoundry.multiapps.controller.api.model.Operation;
+import org.cloudfoundry.multiapps.controller.core.persistence.query.ProgressMessageQuery;
+import org.cloudfoundry.multiapps.controller.core.persistence.service.OperationService;
+import org.cloudfoundry.multiapps.controller.core.persistence.service.ProgressMessageService;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableProgressMessage;
+import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage;
+import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage.ProgressMessageType;
+import org.cloudfoundry.multiapps.controller.process.util.OperationsHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class OperationEventsPublisherTest {
+
+    private static final String PROCESS_ID = "1234";
+
+    @Mock
+    private ProgressMessageService progressMessageService;
+    @Mock(answer = Answers.RETURNS_SELF)
+    private ProgressMessageQuery progressMessageQuery;
+    @Mock
+    private OperationService operationService;
+    @Mock
+    private OperationsHelper operationsHelper;
+    @Mock
+    private ScheduledExecutorService executor;
+    @Mock
+    private SseEmitter emitter;
+
+    private OperationEventsPublisher operationEventsPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.initMocks(this);
+        Mockito.when(progressMessageService.createQuery())
+               .thenReturn(progressMessageQuery);
+        Mockito.doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        })
+               .when(executor)
+               .execute(Mockito.any());
+        operationEventsPublisher = new OperationEventsPublisher(progressMessageService,
+                                                                operationService,
+                                                                operationsHelper,
+                                                                executor) {
+            @Override
+            protected SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+        operationEventsPublisher.start();
+    }
+
+    @Test
+    void testSubscribeReplaysMessagesAfterLastEventId() throws IOException {
+        Mockito.when(progressMessageQuery.list())
+               .thenReturn(List.of(createProgressMessage(3), createProgressMessage(4)));
+
+        operationEventsPublisher.subscribe(createOperation(Operation.State.RUNNING), 2L);
+
+        Mockito.verify(progressMessageQuery)
+               .idGreaterThan(2L);
+        Mockito.verify(emitter, Mockito.times(3))
+               .send(Mockito.any(SseEventBuilder.class));
+        Mockito.verify(emitter, Mockito.never())
+               .complete();
+    }
+
+    @Test
+    void testSubscribeToOperationInFinalState() throws IOException {
+        Mockito.when(progressMessageQuery.list())
+               .thenReturn(List.of(createProgressMessage(1)));
+
+        operationEventsPublisher.subscribe(createOperation(Operation.State.FINISHED), null);
+
+        Mockito.verify(progressMessageQuery)
+               .idGreaterThan(0L);
+        Mockito.verify(emitter, Mockito.times(2))
+               .send(Mockito.any(SseEventBuilder.class));
+        Mockito.verify(emitter)
+               .complete();
+    }
+
+    @Test
+    void testPublishNewMessagesToSubscribers() throws IOException {
+        Mockito.when(progressMessageQuery.list())
+               .thenReturn(List.of(createProgressMessage(1)));
+        operationEventsPublisher.subscribe(createOperation(Operation.State.RUNNING), null);
+
+        Consumer<ProgressMessage> listener = getProgressMessageListener();
+        listener.accept(createProgressMessage(2));
+        listener.accept(createProgressMessage(2));
+
+        Mockito.verify(emitter, Mockito.times(3))
+               .send(Mockito.any(SseEventBuilder.class));
+    }
+
+    @Test
+    void testDoNotPublishMessagesOfOtherOperations() throws IOException {
+        operationEventsPublisher.subscribe(createOperation(Operation.State.RUNNING), null);
+
+        getProgressMessageListener().accept(ImmutableProgressMessage.copyOf(createProgressMessage(2))
+                                                                    .withProcessId("5678"));
+
+        Mockito.verify(emitter, Mockito.times(1))
+               .send(Mockito.any(SseEventBuilder.class));
+    }
+
+    @Test
+    void testSubscriptionIsCancelledWhenSendingFails() throws IOException {
+        Mockito.doThrow(new IOException("Broken pipe"))
+               .when(emitter)
+               .send(Mockito.any(SseEventBuilder.class));
+        operationEventsPublisher.subscribe(createOperation(Operation.State.RUNNING), null);
+
+        getProgressMessageListener().accept(createProgressMessage(2));
+
+        Mockito.verify(emitter)
+               .completeWithError(Mockito.any(IOException.class));
+        Mockito.verify(emitter, Mockito.times(1))
+               .send(Mockito.any(SseEventBuilder.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<ProgressMessage> getProgressMessageListener() {
+        ArgumentCaptor<Consumer<ProgressMessage>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        Mockito.verify(progressMessageService)
+               .addListener(listenerCaptor.capture());
+        return listenerCaptor.getValue();
+    }
+
+    private static Operation createOperation(Operation.State state) {
+        return ImmutableOperation.builder()
+                                 .processId(PROCESS_ID)
+                                 .state(state)
+                                 .build();
+    }
+
+    private static ProgressMessage createProgressMessage(long id) {
+        return ImmutableProgressMessage.builder()
+                                       .id(id)
+                                       .processId(PROCESS_ID)
+                                       .taskId("taskId")
+                                       .type(ProgressMessageType.INFO)
+                                       .text("Message " + id)
+                                       .build();
+    }
+
+}